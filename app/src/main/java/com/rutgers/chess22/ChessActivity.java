@@ -42,12 +42,17 @@ import java.io.InputStreamReader;
 import java.io.ObjectOutputStream;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import model.PieceType;
+import model.chess_set.Bitboard;
 import model.chess_set.Board;
 import model.chess_set.Piece;
+import model.engine.SearchResult;
 import model.game.Game;
 import model.game.Move;
+import model.game.PackedMove;
 import model.game.Position;
 
 class debug {
@@ -67,6 +72,9 @@ public class ChessActivity extends AppCompatActivity implements View.OnClickList
 
     private static int MAX_LENGTH_WIDTH = 8;
 
+    private static final long AI_THINK_MILLIS = 1000;
+    private static final int AI_MAX_THREADS = 2;   // leave the rest of the cores to the phone
+
     public static final String PIECE_BR = "bR";
     public static final String PIECE_BN = "bN";
     public static final String PIECE_BB = "bB";
@@ -125,6 +133,9 @@ public class ChessActivity extends AppCompatActivity implements View.OnClickList
 
     Game game;
 
+    private ExecutorService aiExecutor;     // runs the engine off the UI thread
+    private boolean aiThinking;             // input is ignored while true
+
     private PieceType promotionType;
 
     private AssetManager assetManager;
@@ -154,6 +165,9 @@ public class ChessActivity extends AppCompatActivity implements View.OnClickList
         buttonAI = findViewById(R.id.btnAI);
         buttonAI.setTag(buttonAITag);
 
+        aiExecutor = Executors.newSingleThreadExecutor();
+        aiThinking = false;
+
         buttonUndo = findViewById(R.id.btnRollback);
         buttonUndo.setTag(buttonUndoTag);
         buttonUndo.setEnabled(false);
@@ -278,8 +292,22 @@ public class ChessActivity extends AppCompatActivity implements View.OnClickList
         return text;
     }
 
+    @Override
+    protected void onDestroy() {
+        aiExecutor.shutdownNow();
+        super.onDestroy();
+    }
+
     @Override
     public void onClick(View view) {
+        /**
+         * The engine reads the Board while it thinks -- nothing may move
+         * until its move has been played.
+         */
+        if (aiThinking) {
+            return;
+        }
+
         if (view instanceof ImageView) {
             ImageView image = (ImageView) view;
             String tempTag = (String) image.getTag();
@@ -316,6 +344,7 @@ public class ChessActivity extends AppCompatActivity implements View.OnClickList
             switch (buttonTag) {
                 case buttonAITag:
                     debug.log("ChessActivity::onClick", "Clicked buttonAI");
+                    doAI();
                     break;
                 case buttonUndoTag:
                     debug.log("ChessActivity::onClick", "Clicked buttonUndo");
@@ -587,6 +616,72 @@ public class ChessActivity extends AppCompatActivity implements View.OnClickList
         }
     }
 
+    /**
+     * Has the engine find the best move for the side to move, on aiExecutor
+     * so that the UI thread is not blocked while it thinks. buttonAI is
+     * disabled, and input ignored, until the move is played.
+     */
+    public void doAI() {
+        if (game.isActive() == false || aiThinking) {
+            return;
+        }
+
+        aiThinking = true;
+        buttonAI.setEnabled(false);
+
+        aiExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                final int threads = Math.min(AI_MAX_THREADS,
+                        Runtime.getRuntime().availableProcessors());
+                final SearchResult result = game.searchBestMove(AI_THINK_MILLIS,
+                        threads);
+
+                runOnUiThread(new Runnable() {
+                    @Override
+                    public void run() {
+                        aiThinking = false;
+                        buttonAI.setEnabled(true);
+
+                        if (isDestroyed() == false) {
+                            playAIMove(result);
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Plays the engine's best move, through the same path as a move made by
+     * hand
+     *
+     * @param result the result of Game::searchBestMove
+     */
+    private void playAIMove(SearchResult result) {
+        debug.log("ChessActivity::playAIMove", result.toString());
+
+        int move = result.getBestMove();
+
+        if (move == PackedMove.NULL_MOVE) {
+            return;
+        }
+
+        int from = PackedMove.from(move);
+        int to = PackedMove.to(move);
+
+        // null, unless the engine promotes: movePiece would otherwise take
+        // the move for one whose promotion the user has already chosen
+        promotionType = PackedMove.promotion(move) != 0
+                ? Board.promotionType(PackedMove.promotion(move)) : null;
+
+        drawRequested = false;
+
+        deselectPiece();
+        movePiece(Bitboard.fileOf(from), Bitboard.rankOf(from),
+                Bitboard.fileOf(to), Bitboard.rankOf(to));
+    }
+
     /**
      * Activates/deactivates highlighting for a selected piece/cell
      *
@@ -0,0 +1,145 @@
+/**
+ * BoardBenchmark.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package com.rutgers.chess22;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import model.chess_set.Bitboard;
+import model.chess_set.Board;
+import model.chess_set.Piece;
+import model.chess_set.PieceSet;
+import model.game.MoveText;
+import model.game.PackedMove;
+import model.game.Position;
+
+/**
+ * Times the Board operations that every move from the user interface goes
+ * through: movePiece, undoMovePiece, piece lookup by Position, and the
+ * check and checkmate detection that movePiece runs after each move.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BoardBenchmark {
+
+    private Board board;
+    private PieceSet white;
+    private PieceSet black;
+
+    private Board matedBoard;
+    private PieceSet matedBlack;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        board = new Board();
+        white = board.getWhiteSet();
+        black = board.getBlackSet();
+
+        // Fool's mate, one move short: "d8 h4" mates
+        matedBoard = new Board();
+        matedBlack = matedBoard.getBlackSet();
+
+        play(matedBoard, matedBoard.getWhiteSet(), "f2 f3");
+        play(matedBoard, matedBlack, "e7 e5");
+        play(matedBoard, matedBoard.getWhiteSet(), "g2 g4");
+    }
+
+    /**
+     * Plays "e2 e4" for the given set, read with MoveText, failing the trial
+     * if it is refused
+     */
+    private static void play(Board board, PieceSet set, String move) {
+        int packed = MoveText.move(MoveText.parse(move));
+        Position from = Position.ofSquare(PackedMove.from(packed));
+        Position to = Position.ofSquare(PackedMove.to(packed));
+
+        if (!board.movePiece(set.getPieceByPosition(from), set, to, null)) {
+            throw new IllegalStateException(move);
+        }
+    }
+
+    /**
+     * A White and a Black move, then both undone; movePiece has no inverse
+     * other than undoMovePiece, so the two are timed together
+     */
+    @Benchmark
+    public void movePieceAndUndo() {
+        play(board, white, "g1 f3");
+        play(board, black, "d7 d5");
+
+        board.undoMovePiece();
+        board.undoMovePiece();
+    }
+
+    /**
+     * A capture, then its undo, which also takes back the kill; timed
+     * together, as undoMovePiece alone is too short to be set up for one
+     * call at a time
+     */
+    @Benchmark
+    public void captureAndUndo(CaptureState state) {
+        play(state.board, state.board.getWhiteSet(), "e4 d5");
+        state.board.undoMovePiece();
+    }
+
+    @Benchmark
+    public void getPieceByPosition(Blackhole bh) {
+        for (int sq = 0; sq < Bitboard.SQUARE_COUNT; sq++) {
+            bh.consume(white.getPieceByPosition(Position.ofSquare(sq)));
+        }
+    }
+
+    @Benchmark
+    public boolean isInCheck() {
+        return board.getAttackMap().isInCheck(Bitboard.WHITE);
+    }
+
+    /**
+     * The mating move, which movePiece follows with check and checkmate
+     * detection, and its undo
+     */
+    @Benchmark
+    public boolean checkmate() {
+        play(matedBoard, matedBlack, "d8 h4");
+
+        final boolean result = matedBoard.isCheckmate();
+        matedBoard.undoMovePiece();
+
+        return result;
+    }
+
+    /**
+     * A Board on which White can take on d5
+     */
+    @State(Scope.Thread)
+    public static class CaptureState {
+
+        Board board;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            board = new Board();
+
+            play(board, board.getWhiteSet(), "e2 e4");
+            play(board, board.getBlackSet(), "d7 d5");
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/**
+ * GameBenchmark.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package com.rutgers.chess22;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import model.chess_set.Bitboard;
+import model.chess_set.Fen;
+import model.game.Game;
+import model.game.MoveText;
+import model.game.San;
+
+/**
+ * Times the text interface of Game: parsing a line of input alone (to an int
+ * with MoveText, or to an array with getFileRankArray), and readInput, which
+ * parses a line and plays the move. Also times reading and writing a move in
+ * SAN with San.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GameBenchmark {
+
+    private static final String KIWIPETE =
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+
+    private Game game;
+
+    private San san;
+    private Bitboard position;
+    private int knightTakesPawn;
+    private StringBuilder sb;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        game = new Game();
+        game.togglePrintBoard();
+
+        san = new San();
+        position = new Bitboard();
+        Fen.load(KIWIPETE, position);
+        knightTakesPawn = san.decode(position, "Nxd7");
+        sb = new StringBuilder();
+    }
+
+    @Benchmark
+    public int parse() {
+        return MoveText.parse("e2 e4");
+    }
+
+    @Benchmark
+    public int parseWithPromotion() {
+        return MoveText.parse("g7 h8 N");
+    }
+
+    /**
+     * Reads a Knight capture, with its file; the legal moves of the position
+     * are cached from call to call
+     */
+    @Benchmark
+    public int decodeSan() {
+        return san.decode(position, "Nexd7");
+    }
+
+    @Benchmark
+    public int encodeSan() {
+        sb.setLength(0);
+        san.encode(position, knightTakesPawn, sb);
+        return sb.length();
+    }
+
+    @Benchmark
+    public int[] getFileRankArray() {
+        return game.getFileRankArray("e2 e4");
+    }
+
+    @Benchmark
+    public int[] getFileRankArrayWithPromotion() {
+        return game.getFileRankArray("g7 h8 N");
+    }
+
+    /**
+     * The first move of a new Game, read as a line of input. Game prints a
+     * log on every undo, so each call gets a Game of its own instead.
+     */
+    @Benchmark
+    public String readInput(NewGame state) {
+        state.game.readInput("e2 e4");
+
+        return state.game.output();
+    }
+
+    @State(Scope.Thread)
+    public static class NewGame {
+
+        Game game;
+
+        @Setup(Level.Invocation)
+        public void setUp() {
+            game = new Game();
+            game.togglePrintBoard();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * MagicBenchmark.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package com.rutgers.chess22;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import model.chess_set.Magic;
+
+/**
+ * Times the magic sliding attack tables against the path-walking versions
+ * they replaced. Each call computes the Rook and Bishop attacks of every
+ * square for the next of a fixed set of occupancies; scores are per square.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MagicBenchmark {
+
+    private static final int SAMPLES = 4096;    // a power of two
+
+    private long[] occupancies;
+    private int next;
+
+    /**
+     * Occupancy masks of roughly the density seen in play
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(2019);
+
+        occupancies = new long[SAMPLES];
+
+        for (int i = 0; i < occupancies.length; i++) {
+            occupancies[i] = random.nextLong() & random.nextLong();
+        }
+
+        next = 0;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(64)
+    public long tables() {
+        long occ = occupancies[next++ & (SAMPLES - 1)];
+        long attacks = 0L;
+
+        for (int sq = 0; sq < 64; sq++) {
+            attacks ^= Magic.rookAttacks(sq, occ) ^ Magic.bishopAttacks(sq, occ);
+        }
+
+        return attacks;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(64)
+    public long walking() {
+        long occ = occupancies[next++ & (SAMPLES - 1)];
+        long attacks = 0L;
+
+        for (int sq = 0; sq < 64; sq++) {
+            attacks ^= Magic.walkRookAttacks(sq, occ)
+                    ^ Magic.walkBishopAttacks(sq, occ);
+        }
+
+        return attacks;
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * PlayoutBenchmark.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package com.rutgers.chess22;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import model.chess_set.Bitboard;
+import model.chess_set.Board;
+import model.chess_set.Fen;
+import model.chess_set.MoveGenerator;
+import model.game.MoveBuffer;
+
+/**
+ * Times whole games of random legal moves, played on a Board (with its
+ * Cells, PieceSets, logs and attack map kept up to date) and on a bare
+ * Bitboard, then taken back move by move.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PlayoutBenchmark {
+
+    /**
+     * Games longer than this are cut short
+     */
+    private static final int MAX_PLIES = 200;
+
+    private final MoveBuffer moves = new MoveBuffer();
+    private final int[] played = new int[MAX_PLIES];
+
+    private Board board;
+    private Bitboard bitboard;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        board = new Board();
+        bitboard = new Bitboard();
+        Fen.load(Fen.START_POSITION, bitboard);
+        random = new Random(2019);
+    }
+
+    /**
+     * @return the number of moves played
+     */
+    @Benchmark
+    public int boardPlayout() {
+        int plies = 0;
+
+        while (plies < MAX_PLIES && board.generateLegalMoves(moves) != 0) {
+            board.makeMove(moves.get(random.nextInt(moves.size())));
+            ++plies;
+        }
+
+        for (int i = 0; i < plies; i++) {
+            board.undoMovePiece();
+        }
+
+        return plies;
+    }
+
+    /**
+     * @return the number of moves played
+     */
+    @Benchmark
+    public int bitboardPlayout() {
+        int plies = 0;
+
+        while (plies < MAX_PLIES
+                && MoveGenerator.generateLegalMoves(bitboard, moves) != 0) {
+            played[plies] = moves.get(random.nextInt(moves.size()));
+            bitboard.makeMove(played[plies++]);
+        }
+
+        for (int i = plies - 1; i >= 0; i--) {
+            bitboard.unmakeMove(played[i]);
+        }
+
+        return plies;
+    }
+}
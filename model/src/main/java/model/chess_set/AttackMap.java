@@ -0,0 +1,260 @@
+/**
+ * AttackMap.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj.
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package model.chess_set;
+
+/**
+ * Squares attacked by each color of a Bitboard, with the number of attackers
+ * per square. The attacks of every piece are kept, so that when a square
+ * changes only that square's piece and the sliding pieces whose paths cross
+ * it are recomputed -- after which check, king safety and the squares a King
+ * may escape to are read from masks.
+ *
+ * The owner of the Bitboard calls update for each square it changes (Board
+ * does so from syncSquare, on every move and undo), or rebuild after
+ * changing many.
+ *
+ * @version Oct 18, 2026
+ * @author gemuelealudino
+ */
+public final class AttackMap {
+
+	private final Bitboard bb;
+
+	private final int[] pieceAt;			// piece code as last seen, or NONE
+	private final long[] attacksFrom;		// attacks of the piece on each square
+	private final int[][] attackerCount;	// [color][square]
+	private final long[] attacked;			// [color], squares with a count > 0
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param bb the Bitboard to follow
+	 */
+	public AttackMap(Bitboard bb) {
+		this.bb = bb;
+
+		pieceAt = new int[Bitboard.SQUARE_COUNT];
+		attacksFrom = new long[Bitboard.SQUARE_COUNT];
+		attackerCount = new int[2][Bitboard.SQUARE_COUNT];
+		attacked = new long[2];
+
+		rebuild();
+	}
+
+	/**
+	 * Recomputes every attack from the contents of the Bitboard
+	 */
+	public void rebuild() {
+		for (int color = Bitboard.WHITE; color <= Bitboard.BLACK; color++) {
+			for (int sq = 0; sq < Bitboard.SQUARE_COUNT; sq++) {
+				attackerCount[color][sq] = 0;
+			}
+
+			attacked[color] = 0L;
+		}
+
+		for (int sq = 0; sq < Bitboard.SQUARE_COUNT; sq++) {
+			pieceAt[sq] = bb.pieceAt(sq);
+			attacksFrom[sq] = 0L;
+
+			if (pieceAt[sq] != Bitboard.NONE) {
+				attacksFrom[sq] = bb.attacksFrom(sq);
+				add(Bitboard.colorOf(pieceAt[sq]), attacksFrom[sq]);
+			}
+		}
+	}
+
+	/**
+	 * Brings the map in step with a square of the Bitboard whose contents
+	 * have changed. When a move changes several squares, every one of them
+	 * must be updated, in any order.
+	 *
+	 * @param sq the square index (0 - 63)
+	 */
+	public void update(int sq) {
+		final int piece = bb.pieceAt(sq);
+
+		if (pieceAt[sq] != Bitboard.NONE) {
+			remove(Bitboard.colorOf(pieceAt[sq]), attacksFrom[sq]);
+		}
+
+		pieceAt[sq] = piece;
+		attacksFrom[sq] = 0L;
+
+		if (piece != Bitboard.NONE) {
+			attacksFrom[sq] = bb.attacksFrom(sq);
+			add(Bitboard.colorOf(piece), attacksFrom[sq]);
+		}
+
+		// Sliding pieces whose paths reach sq now stop there, or run past it.
+		// A square that has changed too, but not been updated yet, is left
+		// to its own update.
+		final long occ = bb.getOccupied();
+
+		long sliders = 0L;
+
+		for (int color = Bitboard.WHITE; color <= Bitboard.BLACK; color++) {
+			final long queens = bb.getPieces(color, Bitboard.QUEEN);
+
+			sliders |= Bitboard.rookAttacks(sq, occ)
+					& (bb.getPieces(color, Bitboard.ROOK) | queens);
+			sliders |= Bitboard.bishopAttacks(sq, occ)
+					& (bb.getPieces(color, Bitboard.BISHOP) | queens);
+		}
+
+		while (sliders != 0L) {
+			final int from = Long.numberOfTrailingZeros(sliders);
+			sliders &= sliders - 1;
+
+			if (from == sq || pieceAt[from] != bb.pieceAt(from)) {
+				continue;
+			}
+
+			final int color = Bitboard.colorOf(pieceAt[from]);
+			final long before = attacksFrom[from];
+			final long after = bb.attacksFrom(from);
+
+			remove(color, before & ~after);
+			add(color, after & ~before);
+
+			attacksFrom[from] = after;
+		}
+	}
+
+	/**
+	 * Accessor to retrieve the squares attacked by a color
+	 *
+	 * @param color WHITE or BLACK
+	 *
+	 * @return the mask of attacked squares
+	 */
+	public long getAttacked(int color) {
+		return attacked[color];
+	}
+
+	/**
+	 * Accessor to retrieve the number of pieces of a color attacking a square
+	 *
+	 * @param sq    the square index (0 - 63)
+	 * @param color WHITE or BLACK
+	 *
+	 * @return the attacker count
+	 */
+	public int getAttackerCount(int sq, int color) {
+		return attackerCount[color][sq];
+	}
+
+	/**
+	 * Accessor to retrieve the squares attacked by the piece on a square
+	 *
+	 * @param sq the square index (0 - 63)
+	 *
+	 * @return the attack mask, or 0 if sq is empty
+	 */
+	public long getAttacksFrom(int sq) {
+		return attacksFrom[sq];
+	}
+
+	/**
+	 * Determines if a square is attacked by any piece of a given color
+	 *
+	 * @param sq      the square index (0 - 63)
+	 * @param byColor the color of the attacking side
+	 *
+	 * @return true if at least one piece of byColor attacks sq
+	 */
+	public boolean isAttacked(int sq, int byColor) {
+		return (attacked[byColor] & (1L << sq)) != 0L;
+	}
+
+	/**
+	 * Determines if the King of a given color is in check
+	 *
+	 * @param color WHITE or BLACK
+	 *
+	 * @return true if the King is attacked
+	 */
+	public boolean isInCheck(int color) {
+		return (attacked[color ^ 1] & bb.getPieces(color, Bitboard.KING)) != 0L;
+	}
+
+	/**
+	 * Retrieves the squares the King of a given color may move to without
+	 * being attacked. A square behind the King on the path of a sliding
+	 * piece that checks it is excluded, although no piece attacks it while
+	 * the King stands in the way.
+	 *
+	 * @param color WHITE or BLACK
+	 *
+	 * @return the mask of safe squares next to the King
+	 */
+	public long kingEscapes(int color) {
+		final int them = color ^ 1;
+		final int king = bb.kingSquare(color);
+
+		if (king == Bitboard.SQUARE_COUNT) {
+			return 0L;
+		}
+
+		long escapes = Bitboard.kingAttacks(king) & ~bb.getOccupancy(color)
+				& ~attacked[them];
+
+		if (attackerCount[them][king] != 0) {
+			final long occ = bb.getOccupied() & ~(1L << king);
+			final long queens = bb.getPieces(them, Bitboard.QUEEN);
+
+			long checkers = bb.attackersTo(king, them, occ)
+					& (bb.getPieces(them, Bitboard.ROOK)
+							| bb.getPieces(them, Bitboard.BISHOP) | queens);
+
+			while (checkers != 0L && escapes != 0L) {
+				final int from = Long.numberOfTrailingZeros(checkers);
+				checkers &= checkers - 1;
+
+				escapes &= ~Bitboard.attacks(them, bb.kindAt(from), from, occ);
+			}
+		}
+
+		return escapes;
+	}
+
+	/**
+	 * Counts one more attacker of a color on each square of a mask
+	 */
+	private void add(int color, long squares) {
+		final int[] count = attackerCount[color];
+
+		while (squares != 0L) {
+			final int sq = Long.numberOfTrailingZeros(squares);
+			squares &= squares - 1;
+
+			if (count[sq]++ == 0) {
+				attacked[color] |= 1L << sq;
+			}
+		}
+	}
+
+	/**
+	 * Counts one less attacker of a color on each square of a mask
+	 */
+	private void remove(int color, long squares) {
+		final int[] count = attackerCount[color];
+
+		while (squares != 0L) {
+			final int sq = Long.numberOfTrailingZeros(squares);
+			squares &= squares - 1;
+
+			if (--count[sq] == 0) {
+				attacked[color] &= ~(1L << sq);
+			}
+		}
+	}
+}
@@ -0,0 +1,984 @@
+/**
+ * Bitboard.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj.
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package model.chess_set;
+
+import model.PieceType;
+import model.game.PackedMove;
+
+/**
+ * 64-bit representation of the Pieces on a chess Board. One long is kept per
+ * piece kind per color, along with occupancy masks for each color and for the
+ * whole Board. Squares are indexed 0 - 63, as (rank * 8) + file, so a1 is 0
+ * and h8 is 63. An instance of Bitboard is owned by Board, which keeps it in
+ * step with its Cell objects -- along with the side to move, castling rights
+ * and en passant square that MoveGenerator needs. Bitboard can also make and
+ * unmake PackedMove values on its own, for perft and search, which restore
+ * state from a preallocated undo stack. A Zobrist hash of the position is
+ * updated incrementally by every change made through this class.
+ *
+ * @version Oct 18, 2026
+ * @author gemuelealudino
+ */
+public final class Bitboard {
+
+	/**
+	 * Piece kinds, used as indices into the per-color piece masks
+	 */
+	public static final int PAWN = 0;
+	public static final int KNIGHT = 1;
+	public static final int BISHOP = 2;
+	public static final int ROOK = 3;
+	public static final int QUEEN = 4;
+	public static final int KING = 5;
+
+	/**
+	 * Piece colors, used as indices into the occupancy masks
+	 */
+	public static final int WHITE = 0;
+	public static final int BLACK = 1;
+
+	/**
+	 * Value of an empty square, as per pieceAt, colorAt and kindAt
+	 */
+	public static final int NONE = -1;
+
+	/**
+	 * Castling rights, as bits of getCastlingRights()
+	 */
+	public static final int CASTLE_WHITE_KING = 1;
+	public static final int CASTLE_WHITE_QUEEN = 2;
+	public static final int CASTLE_BLACK_KING = 4;
+	public static final int CASTLE_BLACK_QUEEN = 8;
+	public static final int CASTLE_ALL = 15;
+
+	public static final int KIND_COUNT = 6;
+	public static final int SQUARE_COUNT = 64;
+
+	/**
+	 * Capacity of the undo stack used by makeMove / unmakeMove
+	 */
+	public static final int MAX_PLY = 1024;
+
+	public static final long FILE_A = 0x0101010101010101L;
+	public static final long FILE_B = FILE_A << 1;
+	public static final long FILE_G = FILE_A << 6;
+	public static final long FILE_H = FILE_A << 7;
+
+	public static final long RANK_1 = 0xFFL;
+	public static final long RANK_2 = RANK_1 << 8;
+	public static final long RANK_4 = RANK_1 << 24;
+	public static final long RANK_5 = RANK_1 << 32;
+	public static final long RANK_7 = RANK_1 << 48;
+	public static final long RANK_8 = RANK_1 << 56;
+
+	private static final long NOT_FILE_A = ~FILE_A;
+	private static final long NOT_FILE_AB = ~(FILE_A | FILE_B);
+	private static final long NOT_FILE_H = ~FILE_H;
+	private static final long NOT_FILE_GH = ~(FILE_G | FILE_H);
+
+	/**
+	 * Attack masks of the pieces that do not slide, one per square (and per
+	 * color, for pawns). PAWN_PUSHES holds the squares a pawn advances to,
+	 * two of them from its starting rank.
+	 */
+	private static final long[] KNIGHT_ATTACKS = new long[SQUARE_COUNT];
+	private static final long[] KING_ATTACKS = new long[SQUARE_COUNT];
+	private static final long[][] PAWN_ATTACKS = new long[2][SQUARE_COUNT];
+	private static final long[][] PAWN_PUSHES = new long[2][SQUARE_COUNT];
+
+	/**
+	 * BETWEEN[a][b] holds the squares strictly between a and b when both
+	 * share a rank, file or diagonal. LINE[a][b] holds the whole line
+	 * through a and b, edge to edge. Both are 0 for unaligned squares.
+	 */
+	private static final long[][] BETWEEN = new long[SQUARE_COUNT][SQUARE_COUNT];
+	private static final long[][] LINE = new long[SQUARE_COUNT][SQUARE_COUNT];
+
+	/**
+	 * Castling rights that survive a move from, or to, a given square
+	 */
+	private static final int[] CASTLING_MASK = new int[SQUARE_COUNT];
+
+	static {
+		for (int sq = 0; sq < SQUARE_COUNT; sq++) {
+			final long bit = 1L << sq;
+
+			final long oneOver = ((bit >>> 1) & NOT_FILE_H)
+					| ((bit << 1) & NOT_FILE_A);
+			final long twoOver = ((bit >>> 2) & NOT_FILE_GH)
+					| ((bit << 2) & NOT_FILE_AB);
+
+			KNIGHT_ATTACKS[sq] = (oneOver << 16) | (oneOver >>> 16)
+					| (twoOver << 8) | (twoOver >>> 8);
+
+			final long row = oneOver | bit;
+			KING_ATTACKS[sq] = oneOver | (row << 8) | (row >>> 8);
+
+			PAWN_ATTACKS[WHITE][sq] = oneOver << 8;
+			PAWN_ATTACKS[BLACK][sq] = oneOver >>> 8;
+
+			PAWN_PUSHES[WHITE][sq] = (bit << 8) | ((bit & RANK_2) << 16);
+			PAWN_PUSHES[BLACK][sq] = (bit >>> 8) | ((bit & RANK_7) >>> 16);
+		}
+
+		for (int a = 0; a < SQUARE_COUNT; a++) {
+			for (int b = 0; b < SQUARE_COUNT; b++) {
+				if (a == b) {
+					continue;
+				}
+
+				final long bitA = 1L << a;
+				final long bitB = 1L << b;
+
+				if ((rookAttacks(a, 0L) & bitB) != 0L) {
+					BETWEEN[a][b] = rookAttacks(a, bitB) & rookAttacks(b, bitA);
+					LINE[a][b] = (rookAttacks(a, 0L) & rookAttacks(b, 0L))
+							| bitA | bitB;
+				} else if ((bishopAttacks(a, 0L) & bitB) != 0L) {
+					BETWEEN[a][b] = bishopAttacks(a, bitB)
+							& bishopAttacks(b, bitA);
+					LINE[a][b] = (bishopAttacks(a, 0L) & bishopAttacks(b, 0L))
+							| bitA | bitB;
+				}
+			}
+
+			CASTLING_MASK[a] = CASTLE_ALL;
+		}
+
+		CASTLING_MASK[square(0, 0)] &= ~CASTLE_WHITE_QUEEN;
+		CASTLING_MASK[square(7, 0)] &= ~CASTLE_WHITE_KING;
+		CASTLING_MASK[square(4, 0)] &= ~(CASTLE_WHITE_KING | CASTLE_WHITE_QUEEN);
+		CASTLING_MASK[square(0, 7)] &= ~CASTLE_BLACK_QUEEN;
+		CASTLING_MASK[square(7, 7)] &= ~CASTLE_BLACK_KING;
+		CASTLING_MASK[square(4, 7)] &= ~(CASTLE_BLACK_KING | CASTLE_BLACK_QUEEN);
+	}
+
+	private final long[][] pieces;		// [color][kind]
+	private final long[] occupancy;		// [color]
+	private long occupied;				// both colors
+
+	private final int[] mailbox;		// piece code per square, or NONE
+
+	private int sideToMove;
+	private int castlingRights;
+	private int enPassantSquare;		// square behind a double push, or NONE
+	private int halfmoveClock;
+	private int fullmoveNumber;
+
+	private long hash;					// see Zobrist
+
+	/**
+	 * One entry per move made with makeMove: captured piece code, castling
+	 * rights, en passant square and half-move clock, packed into a long --
+	 * and the hash before the move
+	 */
+	private final long[] undoState;
+	private final long[] undoHash;
+	private int ply;
+
+	/**
+	 * Default constructor -- creates an empty Bitboard
+	 */
+	public Bitboard() {
+		pieces = new long[2][KIND_COUNT];
+		occupancy = new long[2];
+		occupied = 0L;
+
+		mailbox = new int[SQUARE_COUNT];
+
+		clear();
+
+		sideToMove = WHITE;
+		castlingRights = 0;
+		enPassantSquare = NONE;
+		halfmoveClock = 0;
+		fullmoveNumber = 1;
+
+		undoState = new long[MAX_PLY];
+		undoHash = new long[MAX_PLY];
+		ply = 0;
+
+		hash = Zobrist.compute(this);
+	}
+
+	/**
+	 * Copy constructor -- the undo stack is not copied, so moves made on
+	 * toCopy cannot be unmade on the new instance
+	 *
+	 * @param toCopy Bitboard instance to copy
+	 */
+	public Bitboard(Bitboard toCopy) {
+		this();
+
+		for (int color = WHITE; color <= BLACK; color++) {
+			System.arraycopy(toCopy.pieces[color], 0, pieces[color], 0,
+					KIND_COUNT);
+		}
+
+		System.arraycopy(toCopy.occupancy, 0, occupancy, 0, 2);
+		System.arraycopy(toCopy.mailbox, 0, mailbox, 0, SQUARE_COUNT);
+
+		occupied = toCopy.occupied;
+
+		sideToMove = toCopy.sideToMove;
+		castlingRights = toCopy.castlingRights;
+		enPassantSquare = toCopy.enPassantSquare;
+		halfmoveClock = toCopy.halfmoveClock;
+		fullmoveNumber = toCopy.fullmoveNumber;
+
+		hash = toCopy.hash;
+	}
+
+	/**
+	 * Removes every Piece from the Bitboard (the side to move, castling rights
+	 * and clocks are left as they are). The undo stack is emptied, so that a
+	 * Bitboard may be set up again for game after game.
+	 */
+	public void clear() {
+		for (int color = WHITE; color <= BLACK; color++) {
+			for (int kind = PAWN; kind <= KING; kind++) {
+				pieces[color][kind] = 0L;
+			}
+
+			occupancy[color] = 0L;
+		}
+
+		occupied = 0L;
+
+		for (int sq = 0; sq < SQUARE_COUNT; sq++) {
+			mailbox[sq] = NONE;
+		}
+
+		ply = 0;
+
+		hash = Zobrist.side(sideToMove) ^ Zobrist.castling(castlingRights)
+				^ Zobrist.enPassant(enPassantSquare);
+	}
+
+	/**
+	 * Places a piece of a given color and kind on an empty square
+	 *
+	 * @param color WHITE or BLACK
+	 * @param kind  PAWN, KNIGHT, BISHOP, ROOK, QUEEN, or KING
+	 * @param sq    the square index (0 - 63)
+	 */
+	public void put(int color, int kind, int sq) {
+		final long bit = 1L << sq;
+
+		pieces[color][kind] |= bit;
+		occupancy[color] |= bit;
+		occupied |= bit;
+
+		mailbox[sq] = code(color, kind);
+
+		hash ^= Zobrist.piece(mailbox[sq], sq);
+	}
+
+	/**
+	 * Removes the piece (if any) occupying a square
+	 *
+	 * @param sq the square index (0 - 63)
+	 */
+	public void remove(int sq) {
+		final int piece = mailbox[sq];
+
+		if (piece == NONE) {
+			return;
+		}
+
+		final long bit = ~(1L << sq);
+		final int color = colorOf(piece);
+
+		pieces[color][kindOf(piece)] &= bit;
+		occupancy[color] &= bit;
+		occupied &= bit;
+
+		mailbox[sq] = NONE;
+
+		hash ^= Zobrist.piece(piece, sq);
+	}
+
+	/**
+	 * Moves the piece on square from to square to, removing any piece that
+	 * occupied square to beforehand
+	 *
+	 * @param from the origin square index
+	 * @param to   the destination square index
+	 */
+	public void move(int from, int to) {
+		final int piece = mailbox[from];
+
+		remove(to);
+		remove(from);
+
+		put(colorOf(piece), kindOf(piece), to);
+	}
+
+	/**
+	 * Plays a move, as produced by MoveGenerator, on the Bitboard. The move
+	 * is assumed to be legal. Its effects are recorded on the undo stack, to
+	 * be reversed by unmakeMove.
+	 *
+	 * @param move the encoded move, as per PackedMove
+	 */
+	public void makeMove(int move) {
+		final int from = PackedMove.from(move);
+		final int to = PackedMove.to(move);
+		final int promotion = PackedMove.promotion(move);
+		final int flag = PackedMove.flag(move);
+
+		final int us = sideToMove;
+		final int kind = kindOf(mailbox[from]);
+
+		final int capturedSq = flag == PackedMove.EN_PASSANT
+				? to + (us == WHITE ? -8 : 8) : to;
+		final int captured = mailbox[capturedSq];
+
+		undoHash[ply] = hash;
+		undoState[ply++] = (captured & 0xFFL)
+				| ((long) castlingRights << 8)
+				| ((long) (enPassantSquare & 0xFF) << 16)
+				| ((long) halfmoveClock << 24);
+
+		if (captured != NONE) {
+			remove(capturedSq);
+		}
+
+		remove(from);
+		put(us, promotion != 0 ? promotion : kind, to);
+
+		if (flag == PackedMove.CASTLE) {
+			if (to > from) {
+				move(from + 3, from + 1);		// h-file rook
+			} else {
+				move(from - 4, from - 1);		// a-file rook
+			}
+		}
+
+		setCastlingRights(castlingRightsAfter(
+				castlingRightsAfter(castlingRights, from), to));
+
+		setEnPassantSquare(flag == PackedMove.DOUBLE_PUSH
+				? enPassantTarget(us, (from + to) >>> 1) : NONE);
+
+		halfmoveClock = kind == PAWN || captured != NONE ? 0
+				: halfmoveClock + 1;
+
+		if (us == BLACK) {
+			++fullmoveNumber;
+		}
+
+		sideToMove = us ^ 1;
+		hash ^= Zobrist.side(BLACK);
+	}
+
+	/**
+	 * Reverses the most recent call to makeMove
+	 *
+	 * @param move the encoded move passed to that call
+	 */
+	public void unmakeMove(int move) {
+		final int from = PackedMove.from(move);
+		final int to = PackedMove.to(move);
+		final int promotion = PackedMove.promotion(move);
+		final int flag = PackedMove.flag(move);
+
+		final long state = undoState[--ply];
+
+		final int us = sideToMove ^ 1;
+		final int kind = promotion != 0 ? PAWN : kindOf(mailbox[to]);
+
+		final byte captured = (byte) (state & 0xFFL);
+		final byte epSquare = (byte) ((state >>> 16) & 0xFFL);
+
+		remove(to);
+		put(us, kind, from);
+
+		if (captured != NONE) {
+			final int capturedSq = flag == PackedMove.EN_PASSANT
+					? to + (us == WHITE ? -8 : 8) : to;
+
+			put(colorOf(captured), kindOf(captured), capturedSq);
+		}
+
+		if (flag == PackedMove.CASTLE) {
+			if (to > from) {
+				move(from + 1, from + 3);
+			} else {
+				move(from - 1, from - 4);
+			}
+		}
+
+		castlingRights = (int) ((state >>> 8) & 0xFL);
+		enPassantSquare = epSquare;
+		halfmoveClock = (int) (state >>> 24);
+
+		if (us == BLACK) {
+			--fullmoveNumber;
+		}
+
+		sideToMove = us;
+		hash = undoHash[ply];
+	}
+
+	/**
+	 * Accessor to retrieve the color whose turn it is
+	 *
+	 * @return WHITE or BLACK
+	 */
+	public int getSideToMove() {
+		return sideToMove;
+	}
+
+	/**
+	 * Mutator to assign the color whose turn it is
+	 *
+	 * @param sideToMove WHITE or BLACK
+	 */
+	public void setSideToMove(int sideToMove) {
+		hash ^= Zobrist.side(this.sideToMove) ^ Zobrist.side(sideToMove);
+		this.sideToMove = sideToMove;
+	}
+
+	/**
+	 * Accessor to retrieve the castling rights that remain
+	 *
+	 * @return a combination of the CASTLE_* bits
+	 */
+	public int getCastlingRights() {
+		return castlingRights;
+	}
+
+	/**
+	 * Mutator to assign the castling rights that remain
+	 *
+	 * @param castlingRights a combination of the CASTLE_* bits
+	 */
+	public void setCastlingRights(int castlingRights) {
+		hash ^= Zobrist.castling(this.castlingRights)
+				^ Zobrist.castling(castlingRights);
+		this.castlingRights = castlingRights;
+	}
+
+	/**
+	 * Accessor to retrieve the square a pawn may capture en passant onto
+	 *
+	 * @return the square behind the last double pawn push, or NONE
+	 */
+	public int getEnPassantSquare() {
+		return enPassantSquare;
+	}
+
+	/**
+	 * Mutator to assign the square a pawn may capture en passant onto
+	 *
+	 * @param enPassantSquare a square index, or NONE
+	 */
+	public void setEnPassantSquare(int enPassantSquare) {
+		hash ^= Zobrist.enPassant(this.enPassantSquare)
+				^ Zobrist.enPassant(enPassantSquare);
+		this.enPassantSquare = enPassantSquare;
+	}
+
+	/**
+	 * Retrieves the en passant square to record after a double pawn push.
+	 * The square is only recorded when an opposing pawn stands ready to
+	 * capture onto it, so that positions differing only by an unusable en
+	 * passant square hash alike.
+	 *
+	 * @param us       the color of the pawn that was pushed
+	 * @param skipped  the square the pawn passed over
+	 *
+	 * @return skipped, or NONE
+	 */
+	public int enPassantTarget(int us, int skipped) {
+		return (pawnAttacks(us, skipped) & pieces[us ^ 1][PAWN]) != 0L
+				? skipped : NONE;
+	}
+
+	/**
+	 * Accessor to retrieve the Zobrist hash of the position
+	 *
+	 * @return a 64-bit key covering the pieces, side to move, castling
+	 *         rights and en passant file
+	 */
+	public long getHash() {
+		return hash;
+	}
+
+	/**
+	 * Accessor to retrieve the number of plies since the last pawn move or
+	 * capture
+	 *
+	 * @return the half-move clock
+	 */
+	public int getHalfmoveClock() {
+		return halfmoveClock;
+	}
+
+	/**
+	 * Mutator to assign the half-move clock
+	 *
+	 * @param halfmoveClock plies since the last pawn move or capture
+	 */
+	public void setHalfmoveClock(int halfmoveClock) {
+		this.halfmoveClock = halfmoveClock;
+	}
+
+	/**
+	 * Accessor to retrieve the full-move number (starts at 1, and is
+	 * incremented after each BLACK move)
+	 *
+	 * @return the full-move number
+	 */
+	public int getFullmoveNumber() {
+		return fullmoveNumber;
+	}
+
+	/**
+	 * Mutator to assign the full-move number
+	 *
+	 * @param fullmoveNumber the full-move number
+	 */
+	public void setFullmoveNumber(int fullmoveNumber) {
+		this.fullmoveNumber = fullmoveNumber;
+	}
+
+	/**
+	 * Retrieves the castling rights left after a piece leaves from, or
+	 * arrives on, a given square
+	 *
+	 * @param rights the castling rights before the move
+	 * @param sq     the square index (0 - 63)
+	 *
+	 * @return rights, less any lost by disturbing sq
+	 */
+	public static int castlingRightsAfter(int rights, int sq) {
+		return rights & CASTLING_MASK[sq];
+	}
+
+	/**
+	 * Accessor to retrieve the mask of a given color and kind
+	 *
+	 * @param color WHITE or BLACK
+	 * @param kind  PAWN, KNIGHT, BISHOP, ROOK, QUEEN, or KING
+	 *
+	 * @return the mask of all such pieces on the Bitboard
+	 */
+	public long getPieces(int color, int kind) {
+		return pieces[color][kind];
+	}
+
+	/**
+	 * Accessor to retrieve the mask of all pieces of a given color
+	 *
+	 * @param color WHITE or BLACK
+	 *
+	 * @return the occupancy mask for color
+	 */
+	public long getOccupancy(int color) {
+		return occupancy[color];
+	}
+
+	/**
+	 * Accessor to retrieve the mask of all pieces on the Bitboard
+	 *
+	 * @return the occupancy mask for both colors
+	 */
+	public long getOccupied() {
+		return occupied;
+	}
+
+	/**
+	 * Accessor to retrieve the piece code on a square
+	 *
+	 * @param sq the square index (0 - 63)
+	 *
+	 * @return (color * KIND_COUNT) + kind, or NONE if the square is empty
+	 */
+	public int pieceAt(int sq) {
+		return mailbox[sq];
+	}
+
+	/**
+	 * Accessor to retrieve the color of the piece on a square
+	 *
+	 * @param sq the square index (0 - 63)
+	 *
+	 * @return WHITE, BLACK, or NONE if the square is empty
+	 */
+	public int colorAt(int sq) {
+		final int piece = mailbox[sq];
+		return piece == NONE ? NONE : colorOf(piece);
+	}
+
+	/**
+	 * Accessor to retrieve the kind of the piece on a square
+	 *
+	 * @param sq the square index (0 - 63)
+	 *
+	 * @return PAWN through KING, or NONE if the square is empty
+	 */
+	public int kindAt(int sq) {
+		final int piece = mailbox[sq];
+		return piece == NONE ? NONE : kindOf(piece);
+	}
+
+	/**
+	 * Retrieves the square occupied by the King of a given color
+	 *
+	 * @param color WHITE or BLACK
+	 *
+	 * @return the square index of the King, or 64 if there is no King
+	 */
+	public int kingSquare(int color) {
+		return Long.numberOfTrailingZeros(pieces[color][KING]);
+	}
+
+	/**
+	 * Determines if a square is attacked by any piece of a given color
+	 *
+	 * @param sq      the square index (0 - 63)
+	 * @param byColor the color of the attacking side
+	 *
+	 * @return true if at least one piece of byColor attacks sq
+	 */
+	public boolean isSquareAttacked(int sq, int byColor) {
+		return attackersTo(sq, byColor, occupied) != 0L;
+	}
+
+	/**
+	 * Retrieves the mask of all pieces of a given color that attack a square,
+	 * with sliding pieces blocked by the occupancy mask occ
+	 *
+	 * @param sq      the square index (0 - 63)
+	 * @param byColor the color of the attacking side
+	 * @param occ     the occupancy mask to use for sliding pieces
+	 *
+	 * @return the mask of attackers
+	 */
+	public long attackersTo(int sq, int byColor, long occ) {
+		final long[] set = pieces[byColor];
+
+		final long rookLike = set[ROOK] | set[QUEEN];
+		final long bishopLike = set[BISHOP] | set[QUEEN];
+
+		// A pawn of byColor attacks sq if it stands where a pawn of the
+		// opposite color on sq would attack.
+		return (pawnAttacks(byColor ^ 1, sq) & set[PAWN])
+				| (knightAttacks(sq) & set[KNIGHT])
+				| (kingAttacks(sq) & set[KING])
+				| (rookLike != 0L ? rookAttacks(sq, occ) & rookLike : 0L)
+				| (bishopLike != 0L ? bishopAttacks(sq, occ) & bishopLike : 0L);
+	}
+
+	/**
+	 * Retrieves the attack mask for the piece occupying a square
+	 *
+	 * @param sq the square index (0 - 63)
+	 *
+	 * @return the squares attacked by the piece on sq, or 0 if sq is empty
+	 */
+	public long attacksFrom(int sq) {
+		final int piece = mailbox[sq];
+
+		if (piece == NONE) {
+			return 0L;
+		}
+
+		return attacks(colorOf(piece), kindOf(piece), sq, occupied);
+	}
+
+	/**
+	 * Retrieves the attack mask of a piece of a given color and kind, as if it
+	 * stood on a square of a Board with the occupancy mask occ
+	 *
+	 * @param color WHITE or BLACK
+	 * @param kind  PAWN, KNIGHT, BISHOP, ROOK, QUEEN, or KING
+	 * @param sq    the square index (0 - 63)
+	 * @param occ   the occupancy mask to use for sliding pieces
+	 *
+	 * @return the squares attacked
+	 */
+	public static long attacks(int color, int kind, int sq, long occ) {
+		long result = 0L;
+
+		switch (kind) {
+		case PAWN:
+			result = pawnAttacks(color, sq);
+			break;
+		case KNIGHT:
+			result = knightAttacks(sq);
+			break;
+		case BISHOP:
+			result = bishopAttacks(sq, occ);
+			break;
+		case ROOK:
+			result = rookAttacks(sq, occ);
+			break;
+		case QUEEN:
+			result = queenAttacks(sq, occ);
+			break;
+		case KING:
+			result = kingAttacks(sq);
+			break;
+		default:
+			break;
+		}
+
+		return result;
+	}
+
+	/**
+	 * Retrieves the squares attacked by a pawn (diagonal captures only)
+	 *
+	 * @param color WHITE or BLACK
+	 * @param sq    the square index (0 - 63)
+	 *
+	 * @return the attack mask
+	 */
+	public static long pawnAttacks(int color, int sq) {
+		return PAWN_ATTACKS[color][sq];
+	}
+
+	/**
+	 * Retrieves the squares a pawn may advance to without capturing: one
+	 * square ahead, and two from its starting rank, short of the first
+	 * occupied square
+	 *
+	 * @param color WHITE or BLACK
+	 * @param sq    the square index (0 - 63)
+	 * @param occ   the occupancy mask
+	 *
+	 * @return the mask of push destinations
+	 */
+	public static long pawnPushes(int color, int sq, long occ) {
+		// A piece one square ahead blocks the square beyond it, too
+		final long others = occ & ~(1L << sq);
+		final long blocked = color == WHITE ? others | (others << 8)
+				: others | (others >>> 8);
+
+		return PAWN_PUSHES[color][sq] & ~blocked;
+	}
+
+	/**
+	 * Retrieves the squares attacked by a knight
+	 *
+	 * @param sq the square index (0 - 63)
+	 *
+	 * @return the attack mask
+	 */
+	public static long knightAttacks(int sq) {
+		return KNIGHT_ATTACKS[sq];
+	}
+
+	/**
+	 * Retrieves the squares attacked by a king
+	 *
+	 * @param sq the square index (0 - 63)
+	 *
+	 * @return the attack mask
+	 */
+	public static long kingAttacks(int sq) {
+		return KING_ATTACKS[sq];
+	}
+
+	/**
+	 * Retrieves the squares attacked by a rook, stopping at (and including)
+	 * the first occupied square along each path (see Magic)
+	 *
+	 * @param sq  the square index (0 - 63)
+	 * @param occ the occupancy mask
+	 *
+	 * @return the attack mask
+	 */
+	public static long rookAttacks(int sq, long occ) {
+		return Magic.rookAttacks(sq, occ);
+	}
+
+	/**
+	 * Retrieves the squares attacked by a bishop, stopping at (and including)
+	 * the first occupied square along each path (see Magic)
+	 *
+	 * @param sq  the square index (0 - 63)
+	 * @param occ the occupancy mask
+	 *
+	 * @return the attack mask
+	 */
+	public static long bishopAttacks(int sq, long occ) {
+		return Magic.bishopAttacks(sq, occ);
+	}
+
+	/**
+	 * Retrieves the squares attacked by a queen, as a rook and a bishop
+	 * standing on the same square
+	 *
+	 * @param sq  the square index (0 - 63)
+	 * @param occ the occupancy mask
+	 *
+	 * @return the attack mask
+	 */
+	public static long queenAttacks(int sq, long occ) {
+		return Magic.rookAttacks(sq, occ) | Magic.bishopAttacks(sq, occ);
+	}
+
+	/**
+	 * Retrieves the squares strictly between two aligned squares
+	 *
+	 * @param a a square index (0 - 63)
+	 * @param b a square index (0 - 63)
+	 *
+	 * @return the mask between a and b, or 0 if they are not aligned
+	 */
+	public static long between(int a, int b) {
+		return BETWEEN[a][b];
+	}
+
+	/**
+	 * Retrieves the full rank, file or diagonal through two aligned squares
+	 *
+	 * @param a a square index (0 - 63)
+	 * @param b a square index (0 - 63)
+	 *
+	 * @return the mask of the line through a and b, or 0 if not aligned
+	 */
+	public static long line(int a, int b) {
+		return LINE[a][b];
+	}
+
+	/**
+	 * Converts a (file, rank) pair to a square index
+	 *
+	 * @param file x axis coordinate (0-7 only)
+	 * @param rank y axis coordinate (0-7 only)
+	 *
+	 * @return the square index (0 - 63)
+	 */
+	public static int square(int file, int rank) {
+		return (rank << 3) | file;
+	}
+
+	/**
+	 * Retrieves the file of a square index
+	 *
+	 * @param sq the square index (0 - 63)
+	 *
+	 * @return x axis coordinate (0-7)
+	 */
+	public static int fileOf(int sq) {
+		return sq & 7;
+	}
+
+	/**
+	 * Retrieves the rank of a square index
+	 *
+	 * @param sq the square index (0 - 63)
+	 *
+	 * @return y axis coordinate (0-7)
+	 */
+	public static int rankOf(int sq) {
+		return sq >>> 3;
+	}
+
+	/**
+	 * Builds a piece code from a color and a kind
+	 *
+	 * @param color WHITE or BLACK
+	 * @param kind  PAWN, KNIGHT, BISHOP, ROOK, QUEEN, or KING
+	 *
+	 * @return (color * KIND_COUNT) + kind
+	 */
+	public static int code(int color, int kind) {
+		return color * KIND_COUNT + kind;
+	}
+
+	/**
+	 * Retrieves the color of a piece code
+	 *
+	 * @param piece a piece code, as per code(color, kind)
+	 *
+	 * @return WHITE or BLACK
+	 */
+	public static int colorOf(int piece) {
+		return piece < KIND_COUNT ? WHITE : BLACK;
+	}
+
+	/**
+	 * Retrieves the kind of a piece code
+	 *
+	 * @param piece a piece code, as per code(color, kind)
+	 *
+	 * @return PAWN, KNIGHT, BISHOP, ROOK, QUEEN, or KING
+	 */
+	public static int kindOf(int piece) {
+		return piece < KIND_COUNT ? piece : piece - KIND_COUNT;
+	}
+
+	/**
+	 * Maps a PieceType to a piece kind (PAWN_0 through PAWN_7 are all PAWN,
+	 * BISHOP_L and BISHOP_R are both BISHOP, etc.)
+	 *
+	 * @param pieceType the PieceType to evaluate
+	 *
+	 * @return the corresponding kind
+	 */
+	public static int kindOf(PieceType pieceType) {
+		int result = NONE;
+
+		switch (pieceType) {
+		case KING:
+			result = KING;
+			break;
+		case QUEEN:
+			result = QUEEN;
+			break;
+		case BISHOP_L:
+		case BISHOP_R:
+			result = BISHOP;
+			break;
+		case KNIGHT_L:
+		case KNIGHT_R:
+			result = KNIGHT;
+			break;
+		case ROOK_L:
+		case ROOK_R:
+			result = ROOK;
+			break;
+		default:
+			result = PAWN;
+			break;
+		}
+
+		return result;
+	}
+
+	/**
+	 * Retrieves the kind of a Piece
+	 *
+	 * @param piece the Piece to evaluate
+	 *
+	 * @return the kind of its PieceType, as per kindOf(PieceType)
+	 */
+	public static int kindOf(Piece piece) {
+		return kindOf(piece.pieceType);
+	}
+
+	/**
+	 * Maps a Piece.Color to a bitboard color
+	 *
+	 * @param color the PieceType.Color to evaluate
+	 *
+	 * @return WHITE or BLACK
+	 */
+	public static int colorOf(PieceType.Color color) {
+		return color == PieceType.Color.WHITE ? WHITE : BLACK;
+	}
+}
@@ -0,0 +1,1690 @@
+/**
+ * Board.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj. 
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package model.chess_set;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import model.PieceType;
+import model.chess_set.piecetypes.King;
+import model.chess_set.piecetypes.Pawn;
+import model.game.Move;
+import model.game.MoveBuffer;
+import model.game.PackedMove;
+import model.game.Position;
+
+/**
+ * Represents a Chess board for a Chess game. Instances of Board are owned by
+ * Game.
+ * 
+ * @version Mar 9, 2019
+ * @author gemuelealudino
+ * @author patricknogaj
+ */
+public final class Board {
+
+	/**
+	 * Represents a 'square' within a Chess board
+	 * 
+	 * @version Mar 3, 2019
+	 * @author gemuelealudino
+	 */
+	public final class Cell {
+		private Position loc;
+		private Piece pieceRef;
+
+		/**
+		 * Parameterized constructor
+		 * 
+		 * @param file x axis coordinate (0-7 only)
+		 * @param rank y axis coordinate (0-7 only)
+		 */
+		public Cell(int file, int rank) {
+			loc = Position.of(file, rank);
+			pieceRef = null;
+		}
+
+		/**
+		 * Accessor method to retrieve a Piece within a Cell
+		 * 
+		 * @return the Piece occupying a Cell within the Board
+		 */
+		public Piece getPiece() {
+			return pieceRef;
+		}
+
+		/**
+		 * Accessor method to retrieve the Position object within a Cell
+		 * 
+		 * @return the Position object associated with a Cell
+		 */
+		public Position getPosition() {
+			return loc;
+		}
+
+		/**
+		 * Accessor method to retrieve the squares occupied on the Board a
+		 * Cell belongs to, for the attack tables of Bitboard
+		 * 
+		 * @return the occupancy mask of the Board, one bit per square
+		 */
+		public long getOccupied() {
+			return bitboard.getOccupied();
+		}
+
+		/**
+		 * Accessor method to retrieve the last Move executed during gameplay
+		 * 
+		 * @return the most recent Move that was logged by Board
+		 */
+		public Move getLastMove() {
+			return Board.this.getLastMove();
+		}
+
+		/**
+		 * Mutator method to set a Piece at a particular Cell null
+		 * 
+		 * @param file the file to retrieve
+		 * @param rank the rank to retrieve
+		 */
+		public void setPieceNullAtPosition(int file, int rank) {
+			// loc = new Position(file, rank);
+			pieceRef = null;
+		}
+
+		/**
+		 * Returns a string representation of the Piece occupying the cell, if
+		 * there is a Piece present
+		 */
+		@Override
+		public String toString() {
+			return pieceRef == null ? "--" : pieceRef.toString();
+		}
+	}
+
+	private static final int MAX_LENGTH_WIDTH = 8;
+
+	/**
+	 * The PieceTypes of a PieceSet, by Bitboard kind, in the order setPosition
+	 * hands them out; promoted Pieces beyond these take the place of Pawns
+	 */
+	private static final PieceType[] PAWN_TYPES = { PieceType.PAWN_0,
+			PieceType.PAWN_1, PieceType.PAWN_2, PieceType.PAWN_3,
+			PieceType.PAWN_4, PieceType.PAWN_5, PieceType.PAWN_6,
+			PieceType.PAWN_7 };
+	private static final PieceType[][] SET_TYPES = { PAWN_TYPES,
+			{ PieceType.KNIGHT_L, PieceType.KNIGHT_R },
+			{ PieceType.BISHOP_L, PieceType.BISHOP_R },
+			{ PieceType.ROOK_L, PieceType.ROOK_R },
+			{ PieceType.QUEEN },
+			{ PieceType.KING } };
+
+	/**
+	 * Layout of an undoSquares entry: origin, destination and capture
+	 * squares (6 bits each), then flags
+	 */
+	private static final int UNDO_SQUARE_MASK = 0x3F;
+	private static final int UNDO_TO_SHIFT = 6;
+	private static final int UNDO_CAPTURE_SHIFT = 12;
+	private static final int UNDO_FIRST_MOVE = 1 << 18;	// a Pawn's first move
+	private static final int UNDO_CASTLE = 1 << 19;
+	private static final int UNDO_KILL_LOGGED = 1 << 20;
+
+	private Cell[][] cell;
+	private Bitboard bitboard;		// mirrors cell[][] as 64-bit masks
+	private AttackMap attackMap;	// follows bitboard, see syncSquare
+	private Bitboard setUp;			// position being set up, made on first use
+
+	/**
+	 * Undo stack, one record per move made, in parallel arrays preallocated
+	 * for Bitboard.MAX_PLY moves: the side to move, castling rights, en
+	 * passant square and clocks before the move (undoState), its squares and
+	 * flags (undoSquares), the Piece moved -- the Pawn, if it was promoted --
+	 * and the Piece captured. undoMovePiece pops a record in O(1), without
+	 * searching moveList or allocating. The hash comes back by itself, as
+	 * Bitboard updates it with every square restored.
+	 */
+	private long[] undoState;
+	private int[] undoSquares;
+	private Piece[] undoPiece;
+	private Piece[] undoCaptured;
+	private int undoCount;
+
+	/**
+	 * moveList logs moves and kills in the order they were made, a kill
+	 * (a Move with a negative number and no end Position) right after the
+	 * move that made it. moveLog and killLog hold the same Moves split by
+	 * kind, so that the last move, the last kill or the move of any ply is
+	 * found by index rather than by searching moveList.
+	 */
+	private List<Move> moveList;
+	private List<Move> moveLog;
+	private List<Move> killLog;
+	private int moveCounter;
+	private int killCounter;
+
+	private PieceSet whiteSet;
+	private PieceSet blackSet;
+
+	/**
+	 * Pins and checks against the King of maskColor, computed once per
+	 * position (identified by maskHash) and shared by every move tried in
+	 * it -- see isMoveSafe
+	 */
+	private long maskHash;
+	private int maskColor;
+	private long pinned;			// pieces that may only move along a pin
+	private long checkMask;			// squares a non-King move must land on
+	private long kingTargets;		// squares the King may move to
+
+	private MoveBuffer replies;		// scratch buffer for the checkmate test
+
+	private boolean promoteWhite;
+	private boolean promoteBlack;
+	
+	private boolean checkmate;
+	
+	private String outputWinner;
+
+	private PieceType pawnPromoteType;
+	
+	private Move lastMoveUndone;
+	private Move lastKillUndone;
+
+	/**
+	 * Default constructor
+	 */
+	public Board() {
+		cell = new Cell[MAX_LENGTH_WIDTH][MAX_LENGTH_WIDTH];
+
+		for (int file = 0; file < MAX_LENGTH_WIDTH; file++) {
+			for (int rank = 0; rank < MAX_LENGTH_WIDTH; rank++) {
+				cell[file][rank] = new Cell(file, rank);
+			}
+		}
+
+		whiteSet = new PieceSet(PieceType.Color.WHITE);
+		blackSet = new PieceSet(PieceType.Color.BLACK);
+
+		assignWhitePieces();
+		assignBlackPieces();
+
+		bitboard = new Bitboard();
+		bitboard.setCastlingRights(Bitboard.CASTLE_ALL);
+		attackMap = new AttackMap(bitboard);
+		syncBitboard();
+
+		undoState = new long[Bitboard.MAX_PLY];
+		undoSquares = new int[Bitboard.MAX_PLY];
+		undoPiece = new Piece[Bitboard.MAX_PLY];
+		undoCaptured = new Piece[Bitboard.MAX_PLY];
+		undoCount = 0;
+
+		moveList = new ArrayList<Move>();
+		moveLog = new ArrayList<Move>();
+		killLog = new ArrayList<Move>();
+
+		moveCounter = 0;
+		killCounter = 0;
+
+		maskColor = Bitboard.NONE;
+		replies = new MoveBuffer();
+
+		promoteWhite = false;
+		promoteBlack = false;
+		
+		checkmate = false;
+		
+		outputWinner = "(game still active)";
+
+		pawnPromoteType = null;
+		
+		lastMoveUndone = null;
+		lastKillUndone = null;
+	}
+
+	/**
+	 * Parameterized constructor
+	 * 
+	 * @param snapshot the position to set up, instead of the usual start
+	 */
+	public Board(Snapshot snapshot) {
+		this();
+		setPosition(snapshot);
+	}
+
+	/**
+	 * Parameterized constructor
+	 * 
+	 * @param fen the position to set up, in Forsyth-Edwards Notation
+	 * 
+	 * @throws IllegalArgumentException if fen is malformed, or cannot be set
+	 *                                  up (see setPosition)
+	 */
+	public Board(String fen) {
+		this();
+		setPosition(fen);
+	}
+
+	/**
+	 * Takes an immutable copy of the current position, which other threads
+	 * may read while this Board moves on
+	 * 
+	 * @return a Snapshot of the position
+	 */
+	public Snapshot snapshot() {
+		return Snapshot.of(bitboard);
+	}
+
+	/**
+	 * Sets up the position of a Snapshot, as if a new game began from it.
+	 * The move log and undo stack are emptied. The PieceSets are kept (they
+	 * are reset in place); Pieces beyond a set's own -- a second Queen, a
+	 * third Knight -- are Pawns promoted in the place of missing Pawns.
+	 * 
+	 * @param snapshot the position to set up
+	 * 
+	 * @throws IllegalArgumentException if a color has no King, more than one,
+	 *                                  more than 16 Pieces, or more promoted
+	 *                                  Pieces than it has missing Pawns
+	 */
+	public void setPosition(Snapshot snapshot) {
+		snapshot.copyTo(getSetUp());
+		setPosition(setUp);
+	}
+
+	/**
+	 * Sets up the position of a Bitboard, as per setPosition(Snapshot)
+	 * 
+	 * @param position the position to set up; it is only read
+	 * 
+	 * @throws IllegalArgumentException if a color has no King, more than one,
+	 *                                  more than 16 Pieces, or more promoted
+	 *                                  Pieces than it has missing Pawns
+	 */
+	private void setPosition(Bitboard position) {
+		for (int color = Bitboard.WHITE; color <= Bitboard.BLACK; color++) {
+			long ours = 0L;
+
+			// Pawns, and the promoted Pieces that take the place of Pawns
+			int pawnSlots = 0;
+
+			for (int kind = Bitboard.PAWN; kind <= Bitboard.KING; kind++) {
+				final long pieces = position.getPieces(color, kind);
+				final int count = Long.bitCount(pieces);
+
+				ours |= pieces;
+				pawnSlots += kind == Bitboard.PAWN ? count
+						: Math.max(0, count - SET_TYPES[kind].length);
+			}
+
+			if (Long.bitCount(position.getPieces(color, Bitboard.KING)) != 1
+					|| Long.bitCount(ours) > PieceSet.PIECE_COUNT
+					|| pawnSlots > PAWN_TYPES.length) {
+				throw new IllegalArgumentException(
+						"Position cannot be set up with one PieceSet per color");
+			}
+		}
+
+		for (int file = 0; file < MAX_LENGTH_WIDTH; file++) {
+			for (int rank = 0; rank < MAX_LENGTH_WIDTH; rank++) {
+				cell[file][rank].pieceRef = null;
+			}
+		}
+
+		whiteSet.reset();
+		blackSet.reset();
+
+		placePieces(whiteSet, position, Bitboard.WHITE);
+		placePieces(blackSet, position, Bitboard.BLACK);
+
+		Arrays.fill(undoPiece, null);
+		Arrays.fill(undoCaptured, null);
+		undoCount = 0;
+
+		moveList.clear();
+		moveLog.clear();
+		killLog.clear();
+		moveCounter = 0;
+		killCounter = 0;
+
+		maskColor = Bitboard.NONE;
+
+		promoteWhite = false;
+		promoteBlack = false;
+		checkmate = false;
+		outputWinner = "(game still active)";
+		pawnPromoteType = null;
+
+		lastMoveUndone = null;
+		lastKillUndone = null;
+
+		bitboard.setSideToMove(position.getSideToMove());
+		bitboard.setCastlingRights(position.getCastlingRights());
+		bitboard.setEnPassantSquare(position.getEnPassantSquare());
+		bitboard.setHalfmoveClock(position.getHalfmoveClock());
+		bitboard.setFullmoveNumber(position.getFullmoveNumber());
+
+		syncBitboard();
+	}
+
+	/**
+	 * Sets up a position written in Forsyth-Edwards Notation, as if a new game
+	 * began from it -- see setPosition(Snapshot). Castling rights whose King
+	 * or Rook is away from its home square are dropped. The FEN is read into
+	 * a Bitboard kept for the purpose rather than a new Bitboard and
+	 * Snapshot per call (the Pieces themselves are made anew, as by
+	 * PieceSet.reset), and the Board is left as it was if fen is rejected.
+	 * 
+	 * @param fen the position to set up, e.g. Fen.START_POSITION
+	 * 
+	 * @throws IllegalArgumentException if fen is malformed, or cannot be set
+	 *                                  up with one PieceSet per color
+	 */
+	public void setPosition(CharSequence fen) {
+		Fen.load(fen, getSetUp());
+		setPosition(setUp);
+	}
+
+	/**
+	 * Accessor to retrieve the Bitboard positions are set up in, made the
+	 * first time a position is set up
+	 * 
+	 * @return the Bitboard
+	 */
+	private Bitboard getSetUp() {
+		if (setUp == null) {
+			setUp = new Bitboard();
+		}
+
+		return setUp;
+	}
+
+	/**
+	 * Writes the current position in Forsyth-Edwards Notation, with the side
+	 * to move, castling rights, en passant square and move clocks
+	 * 
+	 * @return the FEN string
+	 */
+	public String toFen() {
+		return Fen.toString(bitboard);
+	}
+
+	/**
+	 * Puts the Pieces of one color of a position on the Board, taking them
+	 * from a PieceSet that has just been reset
+	 * 
+	 * @param pieceSet the PieceSet of that color
+	 * @param position the position being set up
+	 * @param color    Bitboard.WHITE or Bitboard.BLACK
+	 */
+	private void placePieces(PieceSet pieceSet, Bitboard position, int color) {
+		PieceType.Color setColor = color == Bitboard.WHITE
+				? PieceType.Color.WHITE : PieceType.Color.BLACK;
+
+		// Unused Pawns, for the promoted Pieces
+		int nextPawn = Long.bitCount(position.getPieces(color, Bitboard.PAWN));
+		int startRank = color == Bitboard.WHITE ? 1 : 6;
+
+		for (int kind = Bitboard.PAWN; kind <= Bitboard.KING; kind++) {
+			long sqs = position.getPieces(color, kind);
+
+			for (int i = 0; sqs != 0L; i++, sqs &= sqs - 1) {
+				Cell c = cellAt(Long.numberOfTrailingZeros(sqs));
+				Piece piece;
+
+				if (i < SET_TYPES[kind].length) {
+					piece = pieceSet.getPieceByType(SET_TYPES[kind][i]);
+				} else {
+					Piece pawn = pieceSet.getPieceByType(PAWN_TYPES[nextPawn++]);
+					piece = pieceSet.promotePawn(pawn,
+							SET_TYPES[kind][SET_TYPES[kind].length - 1],
+							setColor);
+				}
+
+				if (kind == Bitboard.PAWN && c.loc.getRank() != startRank) {
+					((Pawn) piece).toggleFirstMove();
+				}
+
+				piece.alive = true;
+				piece.posRef = c.loc;
+				c.pieceRef = piece;
+			}
+		}
+	}
+
+	/**
+	 * Accessor to retrieve the PieceSet for a white-piece Player
+	 * 
+	 * @return the white PieceSet
+	 */
+	public PieceSet getWhiteSet() {
+		return whiteSet;
+	}
+
+	/**
+	 * Accessor to retrieve the PieceSet for a black-piece Player
+	 * 
+	 * @return the black PieceSet
+	 */
+	public PieceSet getBlackSet() {
+		return blackSet;
+	}
+
+	/**
+	 * Accessor to retrieve the bitboard representation of the Board
+	 * 
+	 * @return the Bitboard kept in step with this Board's Cells
+	 */
+	public Bitboard getBitboard() {
+		return bitboard;
+	}
+
+	/**
+	 * Accessor to retrieve the squares attacked by each color
+	 * 
+	 * @return the AttackMap kept in step with this Board's Bitboard
+	 */
+	public AttackMap getAttackMap() {
+		return attackMap;
+	}
+
+	/**
+	 * Accessor to retrieve the Zobrist hash of the current position. The
+	 * hash is updated incrementally by movePiece, promotePawn and
+	 * undoMovePiece, and covers the side to move, castling rights and the
+	 * en passant file.
+	 * 
+	 * @return a 64-bit key identifying the position
+	 */
+	public long getHash() {
+		return bitboard.getHash();
+	}
+
+	/**
+	 * Fills a caller-provided buffer with every legal move for the side to
+	 * move, including castling, en passant and all four promotions. Nothing
+	 * is allocated, so the same buffer may be reused from call to call.
+	 * 
+	 * @param buffer the buffer to fill with PackedMove values
+	 * 
+	 * @return the number of legal moves
+	 */
+	public int generateLegalMoves(MoveBuffer buffer) {
+		return MoveGenerator.generateLegalMoves(bitboard, buffer);
+	}
+
+	/**
+	 * Builds the Move that movePiece would log for an encoded move, before
+	 * the move is played. For a promotion, the piece is still the Pawn, and
+	 * its PieceType is given as promotedFrom.
+	 * 
+	 * @param move the encoded move, as per PackedMove
+	 * 
+	 * @return the Move, or null if there is no piece on the origin square
+	 */
+	public Move toMove(int move) {
+		int from = PackedMove.from(move);
+		int to = PackedMove.to(move);
+
+		Cell start = cell[Bitboard.fileOf(from)][Bitboard.rankOf(from)];
+		Cell end = cell[Bitboard.fileOf(to)][Bitboard.rankOf(to)];
+
+		if (start.pieceRef == null) {
+			return null;
+		}
+
+		PieceType promotedFrom = PackedMove.promotion(move) != 0
+				? start.pieceRef.pieceType : null;
+
+		return new Move(start.pieceRef, start.loc, end.loc, moveCounter + 1,
+				promotedFrom);
+	}
+
+	/**
+	 * Accessor to retrieve a particular Cell within the Board
+	 * 
+	 * @param pos the Position of the desired Cell
+	 * 
+	 * @return the Cell with the given file and rank of a Position
+	 */
+	Cell getCell(Position pos) {
+		return cell[pos.getFile()][pos.getRank()];
+	}
+	
+	/**
+	 * Accessor to retrieve the moveList of a game
+	 * 
+	 * @return a moveList of a finished game, otherwise if game active -- null
+	 */
+	public List<Move> getMoveList() {
+		/*
+		if (outputWinner.equals("(game still active)")) {
+			return null;
+		} else {
+			return moveList;
+		}
+		*/
+		
+		return moveList;
+	}
+	
+	/**
+	 * Returns the last move undone, for ChessActivity
+	 * 
+	 * @return the last move undone
+	 */
+	public Move getLastMoveUndone() {
+		return lastMoveUndone;
+	}
+	
+	/**
+	 * Returns the last kill undon, for ChessActivity
+	 * 
+	 * @return the last kill undone
+	 */
+	public Move getLastKillUndone() {
+		return lastKillUndone;
+	}
+
+	/**
+	 * Accessor method to retrieve the last Move executed during gameplay
+	 * 
+	 * @return the most recent Move that was logged by Board
+	 */
+	public Move getLastMove() {
+		return moveLog.isEmpty() ? null : moveLog.get(moveLog.size() - 1);
+	}
+
+	/**
+	 * Retrieves the last kill from the moveList
+	 * 
+	 * @return the Move that describes the last piece to be killed, otherwise
+	 *         null if there are no pieces killed
+	 */
+	public Move getLastKill() {
+		return killLog.isEmpty() ? null : killLog.get(killLog.size() - 1);
+	}
+
+	/**
+	 * Accessor to retrieve the Move made at a given ply of the game
+	 * 
+	 * @param ply the index of the move, 0 for the first move of the game
+	 * 
+	 * @return the Move logged for that ply (kills excluded)
+	 * 
+	 * @throws IndexOutOfBoundsException if ply is not in [0, getMoveCount())
+	 */
+	public Move getMove(int ply) {
+		return moveLog.get(ply);
+	}
+
+	/**
+	 * Accessor to retrieve the number of moves logged
+	 * 
+	 * @return the number of moves made, kills excluded
+	 */
+	public int getMoveCount() {
+		return moveLog.size();
+	}
+	
+	/**
+	 * Called by Game::undoMove, this will undo the last move in the move list,
+	 * and if the last move is paired with a kill, that kill is undone as well.
+	 * Moves made with makeMove are undone the same way.
+	 */
+	public void undoMovePiece() {
+		if (undoCount == 0) {
+			return;
+		}
+
+		int i = --undoCount;
+		int squares = undoSquares[i];
+
+		Piece piece = undoPiece[i];
+		Piece pieceKill = undoCaptured[i];
+
+		undoPiece[i] = null;
+		undoCaptured[i] = null;
+
+		Cell startPosCell = cellAt(squares & UNDO_SQUARE_MASK);
+		Cell endPosCell = cellAt((squares >>> UNDO_TO_SHIFT) & UNDO_SQUARE_MASK);
+		Cell killCell = cellAt(
+				(squares >>> UNDO_CAPTURE_SHIFT) & UNDO_SQUARE_MASK);
+
+		/**
+		 * Start by reversing a move.
+		 */
+		Piece moved = endPosCell.pieceRef;
+
+		endPosCell.pieceRef = null;		// remove piece from old end position
+		startPosCell.pieceRef = piece;	// return piece to former start position
+		piece.posRef = startPosCell.loc;	// restore its former position
+
+		/**
+		 * Reverse a promotion: the Pawn takes its place in its PieceSet again.
+		 */
+		if (moved != piece) {
+			piece.alive = true;
+
+			PieceSet pieceSet = piece.isWhite() ? whiteSet : blackSet;
+			pieceSet.demotePawn((Pawn) piece);
+		}
+
+		/**
+		 * Restoring the "firstMove" status of a Pawn back at its start
+		 */
+		if ((squares & UNDO_FIRST_MOVE) != 0
+				&& ((Pawn) piece).isFirstMove() == false) {
+			((Pawn) piece).toggleFirstMove();
+		}
+
+		/**
+		 * Then reverse a kill (en passant included).
+		 */
+		if (pieceKill != null) {
+			pieceKill.posRef = killCell.loc;	// pieceKill's former pos
+			killCell.pieceRef = pieceKill;		// put pieceKill back on board
+			pieceKill.makeAlive();				// make the piece "alive"
+		}
+
+		if ((squares & UNDO_CASTLE) != 0) {
+			castleRook(startPosCell, endPosCell, true);
+		}
+
+		/**
+		 * The kill (if logged) and the move are the last entries of moveList.
+		 */
+		if ((squares & UNDO_KILL_LOGGED) != 0) {
+			lastKillUndone = moveList.remove(moveList.size() - 1);
+			killLog.remove(killLog.size() - 1);
+			++killCounter;
+		}
+
+		lastMoveUndone = moveList.remove(moveList.size() - 1);
+		moveLog.remove(moveLog.size() - 1);
+		--moveCounter;
+
+		syncSquare(startPosCell);
+		syncSquare(endPosCell);
+
+		if (killCell != endPosCell) {
+			syncSquare(killCell);
+		}
+
+		restoreGameState(undoState[i]);
+
+		if (undoCount == 0) {
+			promoteWhite = false;
+			promoteBlack = false;
+			
+			checkmate = false;
+			
+			outputWinner = "(game still active)";
+
+			pawnPromoteType = null;
+		}
+	}
+
+	/**
+	 * Plays an encoded move, as produced by generateLegalMoves, on the Board.
+	 * The move is assumed to be legal and is not validated -- this is for
+	 * playing back moves known to be legal, castling included. It is logged,
+	 * and undone by undoMovePiece, like a move made with movePiece.
+	 * 
+	 * @param move the encoded move, as per PackedMove
+	 */
+	public void makeMove(int move) {
+		int from = PackedMove.from(move);
+		int to = PackedMove.to(move);
+		int flag = PackedMove.flag(move);
+
+		Cell start = cellAt(from);
+		Cell end = cellAt(to);
+		Cell killCell = flag == PackedMove.EN_PASSANT
+				? cell[Bitboard.fileOf(to)][Bitboard.rankOf(from)] : end;
+
+		Piece piece = start.pieceRef;
+		PieceSet pieceSet = piece.isWhite() ? whiteSet : blackSet;
+
+		executeMove(piece, pieceSet, start, end, killCell.pieceRef, killCell,
+				promotionType(PackedMove.promotion(move)),
+				flag == PackedMove.CASTLE,
+				piece.isPawn() && ((Pawn) piece).isFirstMove());
+	}
+
+	/**
+	 * Requested Piece will be moved to a Cell corresponding to the file and
+	 * rank of newPosition, provided newPosition is a legal move for a given
+	 * Piece
+	 * 
+	 * @param piece       accessed by a Player for a move
+	 * @param newPosition the new Position desired by the Player for a Piece
+	 * @param promoType   the PieceType to promote param piece to (if eligible)
+	 * 
+	 * @return true if successful, false otherwise
+	 */
+	public boolean movePiece(Piece piece, PieceSet pieceSet,
+			Position newPosition, PieceType promoType) {
+
+		boolean result = false;
+
+		boolean pawnMoved = piece.isPawn();
+
+		Cell oldPositionCell = getCell(piece.posRef);
+		Cell newPositionCell = getCell(newPosition);
+
+		// Noted for the undo record, before executeMove clears it
+		boolean pawnFirstMove = pawnMoved && ((Pawn) piece).isFirstMove();
+
+		// A Pawn moving to another file onto an empty Cell can only be taking
+		// en passant, which the Bitboard allows onto its en passant square
+		// alone, diagonally forward. Board takes the victim itself (see
+		// executeMove).
+		boolean enPassant = pawnMoved
+				&& oldPositionCell.loc.getFile() != newPosition.getFile()
+				&& newPositionCell.pieceRef == null;
+		Cell victimCell = cell[newPosition.getFile()]
+				[oldPositionCell.loc.getRank()];
+		
+		boolean pieceMoveLegal = isMoveSafe(piece, newPosition);
+
+		if (enPassant) {
+			pieceMoveLegal = pieceMoveLegal
+					&& square(newPosition) == bitboard.getEnPassantSquare()
+					&& colorOf(piece) == bitboard.getSideToMove()
+					&& (Bitboard.pawnAttacks(colorOf(piece),
+							square(oldPositionCell.loc)) & bit(newPosition)) != 0L;
+		} else {
+			pieceMoveLegal = pieceMoveLegal
+					&& piece.isMoveLegal(cell, newPosition);
+		}
+	
+		King king = null;
+
+		if (piece.isBlack()) {
+			king = (King) whiteSet.getKing();
+		} else {
+			king = (King) blackSet.getKing();
+		}
+
+		if (pieceMoveLegal) {
+			Piece other = newPositionCell.pieceRef;
+			boolean pieceFoundAtNewPosition = 
+					(bitboard.getOccupied() & bit(newPosition)) != 0L;
+
+			if (pieceFoundAtNewPosition) {
+				boolean allyPieceFound = (bitboard.getOccupancy(
+						colorOf(piece)) & bit(newPosition)) != 0L;
+
+				if (allyPieceFound) {
+					// This prevents a Piece of the same color "taking"
+					// another piece.
+					result = false;
+				} else {
+					// result = true means we will allow our requested
+					// piece to move to the cell with newPosition, taking
+					// other (see executeMove).
+					result = true;
+				}
+			} else {
+				// result = true means we will allow our requested
+				// piece to move to the cell with newPosition.
+				result = true;
+			}
+
+			/**
+			 * If a successful move is made, piece will be evaluated by pieceSet
+			 * to determine if piece is a promotable Pawn.
+			 */
+			if (result) {
+				Piece captured = other;
+				Cell killCell = newPositionCell;
+
+				if (enPassant) {
+					captured = victimCell.pieceRef;
+					killCell = victimCell;
+				}
+
+				executeMove(piece, pieceSet, oldPositionCell, newPositionCell,
+						captured, killCell, promoType, false, pawnFirstMove);
+
+				piece = newPositionCell.pieceRef;
+			}
+		}
+
+		if (canCheck(piece)) {
+			if (hasValidMoves(king) == false) {
+				checkmate(king);
+			}
+			
+			if (checkmate) {
+				return true;
+			}
+		}
+
+		return result;
+	}
+	
+	/**
+	 * Determines whether the WHITE player has won the game
+	 * 
+	 * @return true if WHITE player has won, false otherwise
+	 */
+	public boolean isWhiteWinner() {
+		return checkmate && outputWinner.indexOf("White") >= 0;
+	}
+	
+	/**
+	 * Determines whether the BLACK player has won the game
+	 * 
+	 * @return true if BLACK player has won, false otherwise
+	 */
+	public boolean isBlackWinner() {
+		return checkmate && outputWinner.indexOf("Black") >= 0;
+	}
+
+	/**
+	 * Carries out a move that has been found legal: records it on the undo
+	 * stack, updates the Cells, masks and game state, and logs it
+	 * 
+	 * @param piece         the Piece to move
+	 * @param pieceSet      the PieceSet of piece
+	 * @param start         the Cell piece moves from
+	 * @param end           the Cell piece moves to
+	 * @param captured      the Piece taken, or null
+	 * @param killCell      the Cell of captured (end, unless en passant)
+	 * @param promoType     the PieceType to promote a Pawn to, or null
+	 * @param castle        true if piece is a King castling
+	 * @param pawnFirstMove true if piece is a Pawn making its first move
+	 */
+	private void executeMove(Piece piece, PieceSet pieceSet, Cell start,
+			Cell end, Piece captured, Cell killCell, PieceType promoType,
+			boolean castle, boolean pawnFirstMove) {
+		int from = square(start.loc);
+		int to = square(end.loc);
+		boolean killLogged = captured != null && killCell == end;
+
+		saveGameState(piece, captured, from | (to << UNDO_TO_SHIFT)
+				| (square(killCell.loc) << UNDO_CAPTURE_SHIFT)
+				| (pawnFirstMove ? UNDO_FIRST_MOVE : 0)
+				| (castle ? UNDO_CASTLE : 0)
+				| (killLogged ? UNDO_KILL_LOGGED : 0));
+
+		if (captured != null) {
+			// At this point, a "piece" is taken.
+			captured.makeDead();
+			killCell.pieceRef = null;
+		}
+
+		if (pawnFirstMove && ((Pawn) piece).isFirstMove()) {
+			((Pawn) piece).toggleFirstMove();
+		}
+
+		Piece moved = promotePawn(piece, pieceSet, end.loc, promoType);
+
+		// The Piece moves from the old Cell to the new one; its Position is
+		// that of the new Cell.
+		start.pieceRef = null;
+		end.pieceRef = moved;
+		moved.posRef = end.loc;
+
+		if (castle) {
+			castleRook(start, end, false);
+		}
+
+		// Bring the masks in step with the Cells that changed.
+		syncSquare(start);
+		syncSquare(end);
+
+		if (killCell != end) {
+			syncSquare(killCell);
+		}
+
+		advanceGameState(from, to, piece.isPawn(), captured != null);
+
+		++moveCounter;
+
+		Move newestMove = new Move(moved, start.loc, moved.posRef,
+				moveCounter, pawnPromoteType);
+		moveList.add(newestMove);
+		moveLog.add(newestMove);
+
+		pawnPromoteType = null;
+
+		if (killLogged) {
+			--killCounter;
+			Move death = new Move(captured, moved.posRef, null, killCounter,
+					null);
+			moveList.add(death);
+			killLog.add(death);
+		}
+	}
+
+	/**
+	 * Moves the Rook of a castling King to the far side of the King, or back
+	 * 
+	 * @param kingStart the Cell the King castles from
+	 * @param kingEnd   the Cell the King castles to
+	 * @param undo      true to put the Rook back in its corner
+	 */
+	private void castleRook(Cell kingStart, Cell kingEnd, boolean undo) {
+		int from = square(kingStart.loc);
+		boolean kingSide = square(kingEnd.loc) > from;
+
+		Cell corner = cellAt(kingSide ? from + 3 : from - 4);
+		Cell beside = cellAt(kingSide ? from + 1 : from - 1);
+
+		Cell rookFrom = undo ? beside : corner;
+		Cell rookTo = undo ? corner : beside;
+
+		Piece rook = rookFrom.pieceRef;
+
+		rookFrom.pieceRef = null;
+		rookTo.pieceRef = rook;
+		rook.posRef = rookTo.loc;
+
+		syncSquare(rookFrom);
+		syncSquare(rookTo);
+	}
+
+	/**
+	 * Converts a PackedMove promotion kind to the PieceType that movePiece
+	 * and promotePawn expect. A move naming no piece promotes to a Queen,
+	 * as Game::readInput has always done; promotePawn ignores the PieceType
+	 * for any move that is not a Pawn reaching its last rank.
+	 * 
+	 * @param kind Bitboard.KNIGHT, BISHOP, ROOK or QUEEN, or 0 for none
+	 * 
+	 * @return the PieceType (QUEEN if kind is 0)
+	 */
+	public static PieceType promotionType(int kind) {
+		switch (kind) {
+		case Bitboard.KNIGHT:
+			return PieceType.KNIGHT_R;
+		case Bitboard.BISHOP:
+			return PieceType.BISHOP_R;
+		case Bitboard.ROOK:
+			return PieceType.ROOK_R;
+		default:
+			return PieceType.QUEEN;
+		}
+	}
+
+	/**
+	 * Promotes a pawn to a desired piece, provided conditions are met: piece
+	 * is a Pawn, newPosition is on its last rank, and promoType is given.
+	 * Any other Piece is returned as it is.
+	 * 
+	 * @param piece       the Piece, which is a Pawn to be promoted
+	 * @param pieceSet    the pieceSet from which the Piece belongs
+	 * @param newPosition the Position of the desired Cell for the PAWN
+	 * @param promoType   the PieceType to promote the PAWN to
+	 * 
+	 * @return the promoted Piece
+	 */
+	public Piece promotePawn(Piece piece, PieceSet pieceSet,
+			Position newPosition, PieceType promoType) {
+		
+		promoteWhite = promoType != null && piece.isPawn()
+				&& piece.isWhite() && newPosition.getRank() == 7;
+
+		promoteBlack = promoType != null && piece.isPawn()
+				&& piece.isBlack() && newPosition.getRank() == 0;
+
+		if (promoteWhite || promoteBlack) {
+			PieceType.Color color = promoteWhite ? PieceType.Color.WHITE
+					: PieceType.Color.BLACK;
+
+			pawnPromoteType = piece.pieceType;
+			
+			Piece pawn = piece;
+			piece = pieceSet.promotePawn(piece, promoType, color);
+			
+			// When called after the pawn has already reached newPosition
+			// (see Game::overridePawnPromotion), the Cell is updated here.
+			Cell newPositionCell = getCell(newPosition);
+			
+			if (newPositionCell.pieceRef == pawn) {
+				newPositionCell.pieceRef = piece;
+				syncSquare(newPositionCell);
+			}
+		}
+
+		return piece;
+	}
+	
+	/**
+	 * Accessor to determine string output when checkmate occurs
+	 * 
+	 * @return "White wins" or "Black wins" or ""
+	 */
+	public String getOutputWinner() {
+		return outputWinner;
+	}
+	
+	/**
+	 * Mutator to change the output message, if the game is still active
+	 * 
+	 * @param message the message to change
+	 */
+	public void setOutputWinner(String message) {
+		if (outputWinner.equals("(game still active)")) {
+			outputWinner = message;
+		}
+	}
+	
+	/**
+	 * Determines if the King of the side to move is in check
+	 * 
+	 * @return true if the side to move is in check, false otherwise
+	 */
+	public boolean isCheck() {
+		return attackMap.isInCheck(bitboard.getSideToMove());
+	}
+
+	/**
+	 * Accessor to determine if a checkmate has occurred
+	 * 
+	 * @return true, if the game has ended in a checkmate, false otherwise
+	 */
+	public boolean isCheckmate() {
+		return checkmate;
+	}
+
+	/**
+	 * Called by Game::readInput, after Game::whitePlayMove completes its call,
+	 * this is used to send a message to a Game instance that a WHITE pawn was
+	 * promoted.
+	 * 
+	 * @return If promoteWhite is true, the promoteWhite field will be reset to
+	 *         false, and the method returns true -- otherwise, returns false
+	 */
+	public boolean checkPromoteWhite() {
+		if (promoteWhite) {
+			promoteWhite = false;
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Called by Game::readInput, after Game::blackPlayMove completes its call,
+	 * this is used to send a message to a Game instance that a BLACK pawn was
+	 * promoted.
+	 * 
+	 * @return If promoteBlack is true, the promoteBlack field will be reset to
+	 *         false, and the method returns true -- otherwise, returns false
+	 */
+	public boolean checkPromoteBlack() {
+		if (promoteBlack) {
+			promoteBlack = false;
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Called by Game::readInput to determine the PieceType of a PAWN
+	 * (PAWN_0, PAWN_1, ...)
+	 * 
+	 * @return the PieceType of a PAWN to be promoted
+	 */
+	public PieceType getPawnPromoteType() {
+		return pawnPromoteType;
+	}
+
+	/**
+	 * Prints the log of moves as per the moveList field (ArrayList)
+	 */
+	public String moveLogToString() {
+		String str = "MOVE LOG (ALL PIECES) ---------------------------------------\n";
+
+		str += "Time\t\tMove #\tPiece\tStart\tEnd\tPromoted From\n";
+		str += "-------------------------------------------------------------\n";
+
+		for (Move mp : moveList) {
+			str += mp + "\n";
+		}
+
+		return str;
+	}
+
+	/**
+	 * This checks to see if the King on opposing side is checked
+	 * 
+	 * @param piece - takes the current piece
+	 * 
+	 * @return true if opponent King is checked || false is not.
+	 */
+	private boolean canCheck(Piece piece) {
+		boolean result = false;
+
+		int color = colorOf(piece);
+
+		// Any piece of the mover's color may give check -- including one
+		// uncovered by the move itself.
+		if (attackMap.isInCheck(color ^ 1)) {
+			result = true;
+		}
+
+		return result;
+	}
+
+	/**
+	 * Determines whether a move would leave the mover's own King safe, with
+	 * the pins and checks of the current position -- the move itself is not
+	 * tried. Whether the Piece can reach newPosition at all is left to
+	 * Piece.isMoveLegal.
+	 * 
+	 * @param piece       the Piece to move
+	 * @param newPosition the Position it is to move to
+	 * 
+	 * @return true if the mover's King would not be attacked afterward
+	 */
+	private boolean isMoveSafe(Piece piece, Position newPosition) {
+		int color = colorOf(piece);
+		int from = square(piece.posRef);
+		long to = bit(newPosition);
+
+		updateMasks(color);
+
+		if (piece.isKing()) {
+			return (kingTargets & to) != 0L;
+		}
+
+		if ((pinned & (1L << from)) != 0L && (Bitboard.line(
+				bitboard.kingSquare(color), from) & to) == 0L) {
+			return false;
+		}
+
+		boolean enPassant = piece.isPawn()
+				&& piece.posRef.getFile() != newPosition.getFile()
+				&& (bitboard.getOccupied() & to) == 0L;
+
+		if (enPassant == false) {
+			return (checkMask & to) != 0L;
+		}
+
+		// En passant empties two squares of one rank, which may uncover a
+		// check that no pin accounts for -- so the King is tested against
+		// the occupancy after the capture.
+		long victim = 1L << Bitboard.square(newPosition.getFile(),
+				piece.posRef.getRank());
+		long occ = (bitboard.getOccupied() & ~(1L << from) & ~victim) | to;
+
+		return (checkMask & (to | victim)) != 0L
+				&& (bitboard.attackersTo(bitboard.kingSquare(color),
+						color ^ 1, occ) & ~victim) == 0L;
+	}
+
+	/**
+	 * Computes the pins and checks against the King of a color, unless they
+	 * are known for the current position already
+	 * 
+	 * @param color Bitboard.WHITE or Bitboard.BLACK
+	 */
+	private void updateMasks(int color) {
+		if (maskColor == color && maskHash == bitboard.getHash()) {
+			return;
+		}
+
+		int kingSq = bitboard.kingSquare(color);
+		long checkers = bitboard.attackersTo(kingSq, color ^ 1,
+				bitboard.getOccupied());
+
+		pinned = MoveGenerator.pinnedPieces(bitboard, color, kingSq);
+		kingTargets = attackMap.kingEscapes(color);
+
+		if (checkers == 0L) {
+			checkMask = ~0L;
+		} else if ((checkers & (checkers - 1)) == 0L) {
+			// A single check is answered by a capture or a block.
+			checkMask = checkers | Bitboard.between(kingSq,
+					Long.numberOfTrailingZeros(checkers));
+		} else {
+			// In double check, only the King may move.
+			checkMask = 0L;
+		}
+
+		maskColor = color;
+		maskHash = bitboard.getHash();
+	}
+
+	/**
+	 * Checks to see if a checked King has any reply: an escape square, or
+	 * else a capture or block by another Piece.
+	 * 
+	 * @param k - king object
+	 * 
+	 * @return true if the side of the King has a move that leaves it out of
+	 *         check
+	 */
+	private boolean hasValidMoves(King k) {
+		if (attackMap.kingEscapes(colorOf(k)) != 0L) {
+			return true;
+		}
+
+		return MoveGenerator.generateLegalMoves(bitboard, replies) != 0;
+	}
+	
+	/**
+	 * Updates the side to move, castling rights, en passant square and clocks
+	 * of the Bitboard after a move has been made
+	 * 
+	 * @param from      the origin square index
+	 * @param to        the destination square index
+	 * @param pawnMoved true if the Piece moved was a Pawn
+	 * @param captured  true if a Piece was taken
+	 */
+	private void advanceGameState(int from, int to, boolean pawnMoved,
+			boolean captured) {
+		int color = bitboard.colorAt(to);
+		int rights = bitboard.getCastlingRights();
+
+		rights = Bitboard.castlingRightsAfter(rights, from);
+		rights = Bitboard.castlingRightsAfter(rights, to);
+
+		bitboard.setCastlingRights(rights);
+		bitboard.setSideToMove(color ^ 1);
+
+		boolean doublePush = pawnMoved && Math.abs(to - from) == 16;
+		bitboard.setEnPassantSquare(doublePush
+				? bitboard.enPassantTarget(color, (from + to) / 2)
+				: Bitboard.NONE);
+
+		bitboard.setHalfmoveClock(pawnMoved || captured ? 0
+				: bitboard.getHalfmoveClock() + 1);
+
+		if (color == Bitboard.BLACK) {
+			bitboard.setFullmoveNumber(bitboard.getFullmoveNumber() + 1);
+		}
+	}
+
+	/**
+	 * Pushes a record onto the undo stack: the side to move, castling rights,
+	 * en passant square and clocks of the Bitboard, with the move about to be
+	 * made. The stack only grows past Bitboard.MAX_PLY moves in a game that
+	 * long.
+	 * 
+	 * @param piece    the Piece about to move
+	 * @param captured the Piece about to be taken, or null
+	 * @param squares  the squares and flags of the move (see UNDO_*)
+	 */
+	private void saveGameState(Piece piece, Piece captured, int squares) {
+		if (undoCount == undoState.length) {
+			int capacity = undoState.length * 2;
+
+			undoState = Arrays.copyOf(undoState, capacity);
+			undoSquares = Arrays.copyOf(undoSquares, capacity);
+			undoPiece = Arrays.copyOf(undoPiece, capacity);
+			undoCaptured = Arrays.copyOf(undoCaptured, capacity);
+		}
+
+		undoState[undoCount] = bitboard.getCastlingRights()
+				| ((long) bitboard.getSideToMove() << 4)
+				| ((long) (bitboard.getEnPassantSquare() & 0xFF) << 8)
+				| ((long) bitboard.getHalfmoveClock() << 16)
+				| ((long) bitboard.getFullmoveNumber() << 32);
+		undoSquares[undoCount] = squares;
+		undoPiece[undoCount] = piece;
+		undoCaptured[undoCount] = captured;
+
+		++undoCount;
+	}
+
+	/**
+	 * Copies state saved by saveGameState back into the Bitboard (used after
+	 * an undo)
+	 * 
+	 * @param state an undoState entry
+	 */
+	private void restoreGameState(long state) {
+		bitboard.setCastlingRights((int) (state & 0xFL));
+		bitboard.setSideToMove((int) ((state >>> 4) & 0x1L));
+		bitboard.setEnPassantSquare((byte) (state >>> 8));
+		bitboard.setHalfmoveClock((int) ((state >>> 16) & 0xFFFFL));
+		bitboard.setFullmoveNumber((int) (state >>> 32));
+	}
+
+	/**
+	 * Rebuilds the Bitboard and the AttackMap from the contents of cell[][]
+	 */
+	private void syncBitboard() {
+		bitboard.clear();
+
+		for (int file = 0; file < MAX_LENGTH_WIDTH; file++) {
+			for (int rank = 0; rank < MAX_LENGTH_WIDTH; rank++) {
+				copySquare(cell[file][rank]);
+			}
+		}
+
+		attackMap.rebuild();
+	}
+
+	/**
+	 * Copies the contents of a single Cell into the Bitboard, the square
+	 * indices of both PieceSets and the AttackMap
+	 * 
+	 * @param c the Cell to copy
+	 */
+	private void syncSquare(Cell c) {
+		copySquare(c);
+		attackMap.update(square(c.loc));
+	}
+
+	/**
+	 * Copies the contents of a single Cell into the Bitboard and the square
+	 * indices of both PieceSets
+	 * 
+	 * @param c the Cell to copy
+	 */
+	private void copySquare(Cell c) {
+		int sq = square(c.loc);
+		Piece piece = c.pieceRef;
+
+		bitboard.remove(sq);
+
+		if (piece != null) {
+			bitboard.put(colorOf(piece), Bitboard.kindOf(piece.pieceType), sq);
+		}
+
+		whiteSet.setSquare(sq, piece != null && piece.isWhite() ? piece : null);
+		blackSet.setSquare(sq, piece != null && piece.isBlack() ? piece : null);
+	}
+
+	/**
+	 * Accessor to retrieve the Cell at a Bitboard square index
+	 * 
+	 * @param sq the square index (0 - 63)
+	 * 
+	 * @return the Cell
+	 */
+	private Cell cellAt(int sq) {
+		return cell[Bitboard.fileOf(sq)][Bitboard.rankOf(sq)];
+	}
+
+	/**
+	 * Converts a Position to a Bitboard square index
+	 * 
+	 * @param pos the Position to convert
+	 * 
+	 * @return the square index (0 - 63)
+	 */
+	private static int square(Position pos) {
+		return Bitboard.square(pos.getFile(), pos.getRank());
+	}
+
+	/**
+	 * Converts a Position to a single-bit mask
+	 * 
+	 * @param pos the Position to convert
+	 * 
+	 * @return a mask with only the bit for pos set
+	 */
+	private static long bit(Position pos) {
+		return 1L << square(pos);
+	}
+
+	/**
+	 * Determines the Bitboard color of a Piece
+	 * 
+	 * @param piece the Piece to evaluate
+	 * 
+	 * @return Bitboard.WHITE or Bitboard.BLACK
+	 */
+	private static int colorOf(Piece piece) {
+		return piece.isWhite() ? Bitboard.WHITE : Bitboard.BLACK;
+	}
+	
+	/**
+	 * Executes upon checkmate
+	 * 
+	 * @param king king that was checked
+	 */
+	private void checkmate(King king) {
+		outputWinner = "Checkmate\n";
+		
+		outputWinner += king.isWhite() ? "Black" : "White";
+		outputWinner += " wins";
+		checkmate = true;
+	}
+
+	/**
+	 * Used during Board instantiation: initialize all Piece and Cell instances
+	 * to their default starting positions prior to beginning a Chess match
+	 */
+	private void assignWhitePieces() {
+		Piece king = whiteSet.getPieceByType(PieceType.KING);
+		king.alive = true;
+		king.posRef = cell[4][0].loc;
+		cell[4][0].pieceRef = king;
+
+		Piece queen = whiteSet.getPieceByType(PieceType.QUEEN);
+		queen.alive = true;
+		queen.posRef = cell[3][0].loc;
+		cell[3][0].pieceRef = queen;
+
+		Piece bishop_r = whiteSet.getPieceByType(PieceType.BISHOP_R);
+		bishop_r.alive = true;
+		bishop_r.posRef = cell[5][0].loc;
+		cell[5][0].pieceRef = bishop_r;
+
+		Piece bishop_l = whiteSet.getPieceByType(PieceType.BISHOP_L);
+		bishop_l.alive = true;
+		bishop_l.posRef = cell[2][0].loc;
+		cell[2][0].pieceRef = bishop_l;
+
+		Piece knight_r = whiteSet.getPieceByType(PieceType.KNIGHT_R);
+		knight_r.alive = true;
+		knight_r.posRef = cell[6][0].loc;
+		cell[6][0].pieceRef = knight_r;
+
+		Piece knight_l = whiteSet.getPieceByType(PieceType.KNIGHT_L);
+		knight_l.alive = true;
+		knight_l.posRef = cell[1][0].loc;
+		cell[1][0].pieceRef = knight_l;
+
+		Piece rook_r = whiteSet.getPieceByType(PieceType.ROOK_R);
+		rook_r.alive = true;
+		rook_r.posRef = cell[7][0].loc;
+		cell[7][0].pieceRef = rook_r;
+
+		Piece rook_l = whiteSet.getPieceByType(PieceType.ROOK_L);
+		rook_l.alive = true;
+		rook_l.posRef = cell[0][0].loc;
+		cell[0][0].pieceRef = rook_l;
+
+		Piece pawn_0 = whiteSet.getPieceByType(PieceType.PAWN_0);
+		pawn_0.alive = true;
+		pawn_0.posRef = cell[0][1].loc;
+		cell[0][1].pieceRef = pawn_0;
+
+		Piece pawn_1 = whiteSet.getPieceByType(PieceType.PAWN_1);
+		pawn_1.alive = true;
+		pawn_1.posRef = cell[1][1].loc;
+		cell[1][1].pieceRef = pawn_1;
+
+		Piece pawn_2 = whiteSet.getPieceByType(PieceType.PAWN_2);
+		pawn_2.alive = true;
+		pawn_2.posRef = cell[2][1].loc;
+		cell[2][1].pieceRef = pawn_2;
+
+		Piece pawn_3 = whiteSet.getPieceByType(PieceType.PAWN_3);
+		pawn_3.alive = true;
+		pawn_3.posRef = cell[3][1].loc;
+		cell[3][1].pieceRef = pawn_3;
+
+		Piece pawn_4 = whiteSet.getPieceByType(PieceType.PAWN_4);
+		pawn_4.alive = true;
+		pawn_4.posRef = cell[4][1].loc;
+		cell[4][1].pieceRef = pawn_4;
+
+		Piece pawn_5 = whiteSet.getPieceByType(PieceType.PAWN_5);
+		pawn_5.alive = true;
+		pawn_5.posRef = cell[5][1].loc;
+		cell[5][1].pieceRef = pawn_5;
+
+		Piece pawn_6 = whiteSet.getPieceByType(PieceType.PAWN_6);
+		pawn_6.alive = true;
+		pawn_6.posRef = cell[6][1].loc;
+		cell[6][1].pieceRef = pawn_6;
+
+		Piece pawn_7 = whiteSet.getPieceByType(PieceType.PAWN_7);
+		pawn_7.alive = true;
+		pawn_7.posRef = cell[7][1].loc;
+		cell[7][1].pieceRef = pawn_7;
+	}
+
+	/**
+	 * Used during Board instantiation: initialize all Piece and Cell instances
+	 * to their default starting positions prior to beginning a Chess match
+	 */
+	private void assignBlackPieces() {
+		Piece king = blackSet.getPieceByType(PieceType.KING);
+		king.alive = true;
+		king.posRef = cell[4][7].loc;
+		cell[4][7].pieceRef = king;
+
+		Piece queen = blackSet.getPieceByType(PieceType.QUEEN);
+		queen.alive = true;
+		queen.posRef = cell[3][7].loc;
+		cell[3][7].pieceRef = queen;
+
+		Piece bishop_r = blackSet.getPieceByType(PieceType.BISHOP_R);
+		bishop_r.alive = true;
+		bishop_r.posRef = cell[5][7].loc;
+		cell[5][7].pieceRef = bishop_r;
+
+		Piece bishop_l = blackSet.getPieceByType(PieceType.BISHOP_L);
+		bishop_l.alive = true;
+		bishop_l.posRef = cell[2][7].loc;
+		cell[2][7].pieceRef = bishop_l;
+
+		Piece knight_r = blackSet.getPieceByType(PieceType.KNIGHT_R);
+		knight_r.alive = true;
+		knight_r.posRef = cell[6][7].loc;
+		cell[6][7].pieceRef = knight_r;
+
+		Piece knight_l = blackSet.getPieceByType(PieceType.KNIGHT_L);
+		knight_l.alive = true;
+		knight_l.posRef = cell[1][7].loc;
+		cell[1][7].pieceRef = knight_l;
+
+		Piece rook_r = blackSet.getPieceByType(PieceType.ROOK_R);
+		rook_r.alive = true;
+		rook_r.posRef = cell[7][7].loc;
+		cell[7][7].pieceRef = rook_r;
+
+		Piece rook_l = blackSet.getPieceByType(PieceType.ROOK_L);
+		rook_l.alive = true;
+		rook_l.posRef = cell[0][7].loc;
+		cell[0][7].pieceRef = rook_l;
+
+		Piece pawn_0 = blackSet.getPieceByType(PieceType.PAWN_0);
+		pawn_0.alive = true;
+		pawn_0.posRef = cell[0][6].loc;
+		cell[0][6].pieceRef = pawn_0;
+
+		Piece pawn_1 = blackSet.getPieceByType(PieceType.PAWN_1);
+		pawn_1.alive = true;
+		pawn_1.posRef = cell[1][6].loc;
+		cell[1][6].pieceRef = pawn_1;
+
+		Piece pawn_2 = blackSet.getPieceByType(PieceType.PAWN_2);
+		pawn_2.alive = true;
+		pawn_2.posRef = cell[2][6].loc;
+		cell[2][6].pieceRef = pawn_2;
+
+		Piece pawn_3 = blackSet.getPieceByType(PieceType.PAWN_3);
+		pawn_3.alive = true;
+		pawn_3.posRef = cell[3][6].loc;
+		cell[3][6].pieceRef = pawn_3;
+
+		Piece pawn_4 = blackSet.getPieceByType(PieceType.PAWN_4);
+		pawn_4.alive = true;
+		pawn_4.posRef = cell[4][6].loc;
+		cell[4][6].pieceRef = pawn_4;
+
+		Piece pawn_5 = blackSet.getPieceByType(PieceType.PAWN_5);
+		pawn_5.alive = true;
+		pawn_5.posRef = cell[5][6].loc;
+		cell[5][6].pieceRef = pawn_5;
+
+		Piece pawn_6 = blackSet.getPieceByType(PieceType.PAWN_6);
+		pawn_6.alive = true;
+		pawn_6.posRef = cell[6][6].loc;
+		cell[6][6].pieceRef = pawn_6;
+
+		Piece pawn_7 = blackSet.getPieceByType(PieceType.PAWN_7);
+		pawn_7.alive = true;
+		pawn_7.posRef = cell[7][6].loc;
+		cell[7][6].pieceRef = pawn_7;
+	}
+
+	/**
+	 * Returns a string representation of the Board's state
+	 */
+	@Override
+	public String toString() {
+		String str = "";
+
+		for (int rank = cell.length - 1; rank >= 0; rank--) {
+			for (int file = 0; file < cell[rank].length; file++) {
+				// FOR RELEASE: Print piece at cell
+				if (cell[file][rank].pieceRef == null) {
+					if (rank % 2 != 0) {
+						if (file % 2 != 0) {
+							str += "##";
+						} else {
+							str += "  ";
+						}
+					} else {
+						if (file % 2 == 0) {
+							str += "##";
+						} else {
+							str += "  ";
+						}
+					}
+				} else {
+					// FOR RELEASE: Print Pieces
+					str += cell[file][rank];
+
+					// FOR DEBUGGING: See positions instead of Pieces
+					// str += cell[file][rank].getPosition();
+				}
+
+				str += " "; // Two spaces in between cells
+
+				if (file == cell[rank].length - 1) {
+					// FOR RELEASE: Print real rank enumerations
+					str += String.format("%d", rank + 1); // FOR RELEASE
+
+					// FOR DEBUGGING: Print rank indices as per an array
+					// str += String.format("%d", rank);
+				}
+			}
+
+			str += "\n";
+		}
+
+		// FOR RELEASE: Print real file characters
+		str += String.format(" a  b  c  d  e  f  g  h\n");
+
+		// FOR DEBUGGING: Print file indices as per an array
+		// str += String.format(" 0 1 2 3 4 5 6 7\n");
+
+		return str;
+	}
+}
@@ -0,0 +1,308 @@
+/**
+ * Fen.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj.
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package model.chess_set;
+
+/**
+ * Reads positions written in Forsyth-Edwards Notation (FEN) into a Bitboard,
+ * and writes them back out, e.g.
+ * "rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1"
+ *
+ * @version Oct 18, 2026
+ * @author gemuelealudino
+ */
+public final class Fen {
+
+	/**
+	 * FEN of the standard starting position
+	 */
+	public static final String START_POSITION =
+			"rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+	private static final String PIECE_LETTERS = "PNBRQKpnbrqk";
+	private static final String CASTLING_LETTERS = "KQkq";
+
+	private Fen() {
+
+	}
+
+	/**
+	 * Replaces the contents of a Bitboard with the position described by a
+	 * FEN string. The move clocks may be omitted. An en passant square no
+	 * pawn can capture onto is dropped, as Bitboard::makeMove would.
+	 *
+	 * @param fen the FEN string to read
+	 * @param bb  the Bitboard to fill
+	 *
+	 * @throws IllegalArgumentException if fen is malformed
+	 */
+	public static void load(CharSequence fen, Bitboard bb) {
+		final int length = fen.length();
+
+		bb.clear();
+
+		int i = 0;
+		int file = 0;
+		int rank = 7;
+
+		// Field 1: piece placement, from a8 to h1
+		for (; i < length && fen.charAt(i) != ' '; i++) {
+			final char ch = fen.charAt(i);
+
+			if (ch == '/') {
+				if (file != 8 || rank == 0) {
+					throw malformed(fen);
+				}
+
+				file = 0;
+				--rank;
+			} else if (ch >= '1' && ch <= '8') {
+				file += ch - '0';
+			} else {
+				final int piece = PIECE_LETTERS.indexOf(ch);
+
+				if (piece < 0 || file > 7) {
+					throw malformed(fen);
+				}
+
+				bb.put(Bitboard.colorOf(piece), Bitboard.kindOf(piece),
+						Bitboard.square(file, rank));
+				++file;
+			}
+
+			if (file > 8) {
+				throw malformed(fen);
+			}
+		}
+
+		if (rank != 0 || file != 8 || i + 2 > length) {
+			throw malformed(fen);
+		}
+
+		// Field 2: side to move
+		switch (fen.charAt(++i)) {
+		case 'w':
+			bb.setSideToMove(Bitboard.WHITE);
+			break;
+		case 'b':
+			bb.setSideToMove(Bitboard.BLACK);
+			break;
+		default:
+			throw malformed(fen);
+		}
+
+		i += 2;
+
+		// Field 3: castling rights
+		int rights = 0;
+
+		for (; i < length && fen.charAt(i) != ' '; i++) {
+			switch (fen.charAt(i)) {
+			case 'K':
+				rights |= Bitboard.CASTLE_WHITE_KING;
+				break;
+			case 'Q':
+				rights |= Bitboard.CASTLE_WHITE_QUEEN;
+				break;
+			case 'k':
+				rights |= Bitboard.CASTLE_BLACK_KING;
+				break;
+			case 'q':
+				rights |= Bitboard.CASTLE_BLACK_QUEEN;
+				break;
+			case '-':
+				break;
+			default:
+				throw malformed(fen);
+			}
+		}
+
+		bb.setCastlingRights(castlingRightsHeld(bb, rights));
+
+		// Field 4: en passant square
+		int epSquare = Bitboard.NONE;
+
+		if (++i < length && fen.charAt(i) != '-') {
+			if (i + 1 >= length) {
+				throw malformed(fen);
+			}
+
+			final int epFile = fen.charAt(i) - 'a';
+			final int epRank = fen.charAt(++i) - '1';
+
+			// The square a pawn of the side that just moved skipped
+			final int skippedRank =
+					bb.getSideToMove() == Bitboard.WHITE ? 5 : 2;
+
+			if (epFile < 0 || epFile > 7 || epRank != skippedRank) {
+				throw malformed(fen);
+			}
+
+			// Kept only if a pawn can capture onto it, as when the push is
+			// played (see Bitboard::enPassantTarget), so that both hash alike
+			epSquare = bb.enPassantTarget(bb.getSideToMove() ^ 1,
+					Bitboard.square(epFile, epRank));
+		}
+
+		bb.setEnPassantSquare(epSquare);
+
+		i += 2;
+
+		// Fields 5 and 6: half-move clock and full-move number (optional)
+		int halfmove = 0;
+		int fullmove = 0;
+
+		for (; i < length && fen.charAt(i) != ' '; i++) {
+			halfmove = halfmove * 10 + digit(fen, i);
+		}
+
+		for (++i; i < length && fen.charAt(i) != ' '; i++) {
+			fullmove = fullmove * 10 + digit(fen, i);
+		}
+
+		bb.setHalfmoveClock(halfmove);
+		bb.setFullmoveNumber(fullmove > 0 ? fullmove : 1);
+	}
+
+	/**
+	 * Writes the position of a Bitboard as a FEN string
+	 *
+	 * @param bb the position to write
+	 *
+	 * @return the FEN string
+	 */
+	public static String toString(Bitboard bb) {
+		final StringBuilder sb = new StringBuilder(90);
+		write(bb, sb);
+		return sb.toString();
+	}
+
+	/**
+	 * Appends the position of a Bitboard, as a FEN string, to a
+	 * StringBuilder that may be reused from one position to the next
+	 *
+	 * @param bb the position to write
+	 * @param sb the StringBuilder to append to
+	 */
+	public static void write(Bitboard bb, StringBuilder sb) {
+		// Field 1: piece placement, from a8 to h1
+		for (int rank = 7; rank >= 0; rank--) {
+			int empty = 0;
+
+			for (int file = 0; file < 8; file++) {
+				final int piece = bb.pieceAt(Bitboard.square(file, rank));
+
+				if (piece == Bitboard.NONE) {
+					++empty;
+					continue;
+				}
+
+				if (empty > 0) {
+					sb.append((char) ('0' + empty));
+					empty = 0;
+				}
+
+				sb.append(PIECE_LETTERS.charAt(piece));
+			}
+
+			if (empty > 0) {
+				sb.append((char) ('0' + empty));
+			}
+
+			if (rank > 0) {
+				sb.append('/');
+			}
+		}
+
+		// Field 2: side to move
+		sb.append(bb.getSideToMove() == Bitboard.WHITE ? " w " : " b ");
+
+		// Field 3: castling rights
+		final int rights = bb.getCastlingRights();
+
+		if (rights == 0) {
+			sb.append('-');
+		}
+
+		for (int i = 0; i < CASTLING_LETTERS.length(); i++) {
+			if ((rights & (1 << i)) != 0) {
+				sb.append(CASTLING_LETTERS.charAt(i));
+			}
+		}
+
+		// Field 4: en passant square
+		final int epSquare = bb.getEnPassantSquare();
+
+		sb.append(' ');
+
+		if (epSquare == Bitboard.NONE) {
+			sb.append('-');
+		} else {
+			sb.append((char) ('a' + Bitboard.fileOf(epSquare)));
+			sb.append((char) ('1' + Bitboard.rankOf(epSquare)));
+		}
+
+		// Fields 5 and 6: half-move clock and full-move number
+		sb.append(' ').append(bb.getHalfmoveClock());
+		sb.append(' ').append(bb.getFullmoveNumber());
+	}
+
+	/**
+	 * Drops the castling rights of a King or Rook that is not on its home
+	 * square, so that a careless FEN cannot make the Board castle a Rook that
+	 * is not there
+	 */
+	private static int castlingRightsHeld(Bitboard bb, int rights) {
+		for (int color = Bitboard.WHITE; color <= Bitboard.BLACK; color++) {
+			final int king = Bitboard.code(color, Bitboard.KING);
+			final int rook = Bitboard.code(color, Bitboard.ROOK);
+			final int rank = color == Bitboard.WHITE ? 0 : 7;
+
+			final int kingSide = color == Bitboard.WHITE
+					? Bitboard.CASTLE_WHITE_KING : Bitboard.CASTLE_BLACK_KING;
+			final int queenSide = color == Bitboard.WHITE
+					? Bitboard.CASTLE_WHITE_QUEEN : Bitboard.CASTLE_BLACK_QUEEN;
+
+			if (bb.pieceAt(Bitboard.square(4, rank)) != king) {
+				rights &= ~(kingSide | queenSide);
+			}
+
+			if (bb.pieceAt(Bitboard.square(7, rank)) != rook) {
+				rights &= ~kingSide;
+			}
+
+			if (bb.pieceAt(Bitboard.square(0, rank)) != rook) {
+				rights &= ~queenSide;
+			}
+		}
+
+		return rights;
+	}
+
+	/**
+	 * Retrieves the value of a decimal digit within a FEN string
+	 */
+	private static int digit(CharSequence fen, int i) {
+		final char ch = fen.charAt(i);
+
+		if (ch < '0' || ch > '9') {
+			throw malformed(fen);
+		}
+
+		return ch - '0';
+	}
+
+	/**
+	 * Builds the exception thrown for a malformed FEN string
+	 */
+	private static IllegalArgumentException malformed(CharSequence fen) {
+		return new IllegalArgumentException("Malformed FEN: " + fen);
+	}
+}
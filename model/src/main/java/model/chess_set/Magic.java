@@ -0,0 +1,249 @@
+/**
+ * Magic.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj.
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package model.chess_set;
+
+/**
+ * Precomputed attack tables for the sliding pieces, indexed by magic
+ * multiplication. For each square, the occupied squares along a rook's (or
+ * bishop's) paths -- edges excluded, since a piece there blocks nothing
+ * further -- are multiplied by a constant and shifted down to an index into
+ * a table of attack masks, one per arrangement of blockers. A rook, bishop
+ * or queen attack set is then a mask, a multiply and a shift away, rather
+ * than a walk along up to four paths.
+ *
+ * The magic constants were found ahead of time by a seeded random search, so
+ * that class initialization only fills the tables (about 107,000 entries,
+ * 840 KB) by walking each arrangement once. Java has no PEXT, so the
+ * multiply-shift form is used on every platform.
+ *
+ * The walking versions are kept, as walkRookAttacks and walkBishopAttacks,
+ * to build the tables and to check and benchmark them against. Nothing here
+ * calls into Bitboard, whose own static tables are built from these.
+ *
+ * @version Oct 18, 2026
+ * @author gemuelealudino
+ */
+public final class Magic {
+
+	private static final int[] ROOK_FILE_STEP = { 1, -1, 0, 0 };
+	private static final int[] ROOK_RANK_STEP = { 0, 0, 1, -1 };
+	private static final int[] BISHOP_FILE_STEP = { 1, 1, -1, -1 };
+	private static final int[] BISHOP_RANK_STEP = { 1, -1, 1, -1 };
+
+	private static final long[] ROOK_MAGIC = {
+		0x408000C001803C20L, 0x0280200040008014L, 0x0200084200102080L,
+		0x0100040900201001L, 0x0200020010040821L, 0x0500010042040008L,
+		0x0200220018012094L, 0x4500008042082500L, 0x0204800161814001L,
+		0x2084802004804000L, 0x0002002082081040L, 0x0040800800841002L,
+		0x0002804400080080L, 0x0006000408020010L, 0x0004000408010210L,
+		0x100A00084C008102L, 0x3080024001A00142L, 0x0000818060004004L,
+		0x4082888010012000L, 0x0010210010010008L, 0x2228008004000880L,
+		0x0081010002080400L, 0x0800808002000100L, 0x0400020000804401L,
+		0x0000802480084000L, 0x0000400480200090L, 0x0220008080100024L,
+		0x2080100100210008L, 0x9084050100080010L, 0x5401000300080400L,
+		0x0040680400023071L, 0x0042209A00004124L, 0xD04010A049800180L,
+		0x600440200A401000L, 0x0028112001004300L, 0x0800801002800800L,
+		0x0040800800800400L, 0x0021042008011040L, 0x0011000401000200L,
+		0x0408802040800100L, 0x0440008060418002L, 0x00B0002000404000L,
+		0x0002002080460010L, 0x0010000800108080L, 0x0834000800828004L,
+		0x020600280D160010L, 0x0280024821140010L, 0x0100084089020004L,
+		0x8080482112800300L, 0x0008804000210500L, 0x0020001008004140L,
+		0x0008100108008180L, 0x1004080080040080L, 0x8004020080040080L,
+		0x280A008104080200L, 0x0800124C23008200L, 0x0022004081032416L,
+		0x03008130400300A1L, 0x0004899100412001L, 0x0901000620081001L,
+		0x0002005004A04882L, 0x0223000400080201L, 0x80184690010A3804L,
+		0x200D00A40088C106L
+	};
+
+	private static final long[] BISHOP_MAGIC = {
+		0x0040090602020A20L, 0x6404440400620000L, 0x2504210401040000L,
+		0x2004240280000301L, 0x0082121000012404L, 0x1301100804A04800L,
+		0x0804044424040002L, 0x009602010C024200L, 0x2221200801281080L,
+		0x4800701040810050L, 0x0200080084108008L, 0xF00864070600080CL,
+		0x0010011040000084L, 0x000007100814A001L, 0x0010010410020810L,
+		0x00044205440C0425L, 0x0040000491020205L, 0x001002020242040DL,
+		0x2090280200801101L, 0x2064030240138000L, 0x1001008820080800L,
+		0x2082000848042438L, 0x1080800108084200L, 0x2021810210840161L,
+		0x1404220140280140L, 0x0124203902481100L, 0x121A300002008200L,
+		0xA8B0040000440008L, 0x2201010104104000L, 0x0001010022004104L,
+		0x04280C4029044240L, 0x0010820641004204L, 0x8008028800400880L,
+		0x0802022150020804L, 0x0080108201100408L, 0x0080600800010811L,
+		0x2004200200022080L, 0x0010300208044100L, 0x0104808080040409L,
+		0x8024010200004860L, 0x0044142134400804L, 0x80020804040002C8L,
+		0x0006031402000400L, 0x4004064208009080L, 0xA020180104013040L,
+		0x1140008080820102L, 0x0010429204024040L, 0x8014010201200214L,
+		0x8802411090110000L, 0x10004414010900A8L, 0x0020021042080200L,
+		0x0021C20042020000L, 0x10044020A0410000L, 0x4020081010008440L,
+		0x21A0320448408054L, 0x1002100220A10204L, 0x0404804410010886L,
+		0x0080420214841400L, 0x040034808400C830L, 0x0050810041048801L,
+		0x301C0B0021042400L, 0xC050010408100104L, 0x0600406441440100L,
+		0x2040040424002220L
+	};
+
+	private static final long[] ROOK_MASK = new long[Bitboard.SQUARE_COUNT];
+	private static final long[] BISHOP_MASK = new long[Bitboard.SQUARE_COUNT];
+
+	private static final int[] ROOK_SHIFT = new int[Bitboard.SQUARE_COUNT];
+	private static final int[] BISHOP_SHIFT = new int[Bitboard.SQUARE_COUNT];
+
+	private static final int[] ROOK_OFFSET = new int[Bitboard.SQUARE_COUNT];
+	private static final int[] BISHOP_OFFSET = new int[Bitboard.SQUARE_COUNT];
+
+	private static final long[] ROOK_TABLE;
+	private static final long[] BISHOP_TABLE;
+
+	static {
+		ROOK_TABLE = fill(ROOK_MAGIC, ROOK_MASK, ROOK_SHIFT, ROOK_OFFSET,
+				ROOK_FILE_STEP, ROOK_RANK_STEP);
+		BISHOP_TABLE = fill(BISHOP_MAGIC, BISHOP_MASK, BISHOP_SHIFT,
+				BISHOP_OFFSET, BISHOP_FILE_STEP, BISHOP_RANK_STEP);
+	}
+
+	private Magic() {
+
+	}
+
+	/**
+	 * Retrieves the squares attacked by a rook, stopping at (and including)
+	 * the first occupied square along each path
+	 *
+	 * @param sq  the square index (0 - 63)
+	 * @param occ the occupancy mask
+	 *
+	 * @return the attack mask
+	 */
+	public static long rookAttacks(int sq, long occ) {
+		return ROOK_TABLE[ROOK_OFFSET[sq] + (int) (((occ & ROOK_MASK[sq])
+				* ROOK_MAGIC[sq]) >>> ROOK_SHIFT[sq])];
+	}
+
+	/**
+	 * Retrieves the squares attacked by a bishop, stopping at (and including)
+	 * the first occupied square along each path
+	 *
+	 * @param sq  the square index (0 - 63)
+	 * @param occ the occupancy mask
+	 *
+	 * @return the attack mask
+	 */
+	public static long bishopAttacks(int sq, long occ) {
+		return BISHOP_TABLE[BISHOP_OFFSET[sq] + (int) (((occ & BISHOP_MASK[sq])
+				* BISHOP_MAGIC[sq]) >>> BISHOP_SHIFT[sq])];
+	}
+
+	/**
+	 * Retrieves the squares attacked by a rook by walking its four paths
+	 *
+	 * @param sq  the square index (0 - 63)
+	 * @param occ the occupancy mask
+	 *
+	 * @return the attack mask, equal to that of rookAttacks
+	 */
+	public static long walkRookAttacks(int sq, long occ) {
+		return walk(sq, occ, ROOK_FILE_STEP, ROOK_RANK_STEP);
+	}
+
+	/**
+	 * Retrieves the squares attacked by a bishop by walking its four paths
+	 *
+	 * @param sq  the square index (0 - 63)
+	 * @param occ the occupancy mask
+	 *
+	 * @return the attack mask, equal to that of bishopAttacks
+	 */
+	public static long walkBishopAttacks(int sq, long occ) {
+		return walk(sq, occ, BISHOP_FILE_STEP, BISHOP_RANK_STEP);
+	}
+
+	/**
+	 * Fills the masks, shifts and offsets of one kind of sliding piece, and
+	 * the table they index
+	 *
+	 * @return the table of attack masks, for all squares
+	 */
+	private static long[] fill(long[] magic, long[] mask, int[] shift,
+			int[] offset, int[] fileStep, int[] rankStep) {
+		int size = 0;
+
+		for (int sq = 0; sq < Bitboard.SQUARE_COUNT; sq++) {
+			mask[sq] = walk(sq, 0L, fileStep, rankStep) & ~edges(sq);
+			shift[sq] = Bitboard.SQUARE_COUNT - Long.bitCount(mask[sq]);
+			offset[sq] = size;
+
+			size += 1 << Long.bitCount(mask[sq]);
+		}
+
+		final long[] table = new long[size];
+
+		for (int sq = 0; sq < Bitboard.SQUARE_COUNT; sq++) {
+			// Every subset of the mask, in turn (the "carry-rippler")
+			long occ = 0L;
+
+			do {
+				table[offset[sq] + (int) ((occ * magic[sq]) >>> shift[sq])] =
+						walk(sq, occ, fileStep, rankStep);
+
+				occ = (occ - mask[sq]) & mask[sq];
+			} while (occ != 0L);
+		}
+
+		return table;
+	}
+
+	/**
+	 * Retrieves the edges of the Board that a piece on sq does not stand on
+	 *
+	 * @param sq the square index (0 - 63)
+	 *
+	 * @return the mask of edge squares
+	 */
+	private static long edges(int sq) {
+		return ((Bitboard.RANK_1 | Bitboard.RANK_8)
+				& ~(Bitboard.RANK_1 << (sq & 56)))
+				| ((Bitboard.FILE_A | Bitboard.FILE_H)
+						& ~(Bitboard.FILE_A << (sq & 7)));
+	}
+
+	/**
+	 * Walks each of four directions from sq until leaving the Board or
+	 * reaching an occupied square
+	 *
+	 * @param sq       the square index (0 - 63)
+	 * @param occ      the occupancy mask
+	 * @param fileStep file offsets, one per direction
+	 * @param rankStep rank offsets, one per direction
+	 *
+	 * @return the attack mask
+	 */
+	private static long walk(int sq, long occ, int[] fileStep,
+			int[] rankStep) {
+		long result = 0L;
+
+		for (int dir = 0; dir < fileStep.length; dir++) {
+			int file = (sq & 7) + fileStep[dir];
+			int rank = (sq >>> 3) + rankStep[dir];
+
+			while (file >= 0 && file < 8 && rank >= 0 && rank < 8) {
+				final long bit = 1L << ((rank << 3) | file);
+				result |= bit;
+
+				if ((occ & bit) != 0L) {
+					break;
+				}
+
+				file += fileStep[dir];
+				rank += rankStep[dir];
+			}
+		}
+
+		return result;
+	}
+}
@@ -0,0 +1,343 @@
+/**
+ * MoveGenerator.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj.
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package model.chess_set;
+
+import model.game.MoveBuffer;
+import model.game.PackedMove;
+
+/**
+ * Generates every legal move for the side to move of a Bitboard. Pins and
+ * checks are resolved with masks up front, so no move is tried on the board
+ * and thrown away -- en passant, the one capture that can uncover a check
+ * along a rank, is tested against a modified occupancy mask instead.
+ *
+ * @version Oct 18, 2026
+ * @author gemuelealudino
+ */
+public final class MoveGenerator {
+
+	private static final long WHITE_KING_PATH = 0x60L;			// f1, g1
+	private static final long WHITE_QUEEN_PATH = 0x0EL;			// b1, c1, d1
+	private static final long WHITE_QUEEN_SAFE = 0x0CL;			// c1, d1
+	private static final long BLACK_KING_PATH = WHITE_KING_PATH << 56;
+	private static final long BLACK_QUEEN_PATH = WHITE_QUEEN_PATH << 56;
+	private static final long BLACK_QUEEN_SAFE = WHITE_QUEEN_SAFE << 56;
+
+	private MoveGenerator() {
+
+	}
+
+	/**
+	 * Fills buffer with every legal move for the side to move of bb. The
+	 * buffer is cleared first.
+	 *
+	 * @param bb     the position to evaluate
+	 * @param buffer the caller's buffer, to be filled with PackedMove values
+	 *
+	 * @return the number of legal moves found
+	 */
+	public static int generateLegalMoves(Bitboard bb, MoveBuffer buffer) {
+		buffer.clear();
+
+		final int us = bb.getSideToMove();
+		final int them = us ^ 1;
+
+		final long ours = bb.getOccupancy(us);
+		final long occ = bb.getOccupied();
+
+		final int kingSq = bb.kingSquare(us);
+		final long checkers = bb.attackersTo(kingSq, them, occ);
+
+		generateKingMoves(bb, buffer, us, kingSq, ours, occ);
+
+		// In double check, only the King may move.
+		if ((checkers & (checkers - 1)) != 0L) {
+			return buffer.size();
+		}
+
+		// Every non-King move must land inside checkMask: anywhere when not
+		// in check, otherwise on the checker or on the path it attacks along.
+		long checkMask = ~0L;
+
+		if (checkers != 0L) {
+			checkMask = checkers
+					| Bitboard.between(kingSq, Long.numberOfTrailingZeros(checkers));
+		}
+
+		final long pinned = pinnedPieces(bb, us, kingSq);
+		final long targets = ~ours & checkMask;
+
+		generatePieceMoves(bb, buffer, Bitboard.KNIGHT, us, kingSq, pinned,
+				targets, occ);
+		generatePieceMoves(bb, buffer, Bitboard.BISHOP, us, kingSq, pinned,
+				targets, occ);
+		generatePieceMoves(bb, buffer, Bitboard.ROOK, us, kingSq, pinned,
+				targets, occ);
+		generatePieceMoves(bb, buffer, Bitboard.QUEEN, us, kingSq, pinned,
+				targets, occ);
+
+		generatePawnMoves(bb, buffer, us, kingSq, pinned, checkMask, occ);
+
+		if (checkers == 0L) {
+			generateCastling(bb, buffer, us, occ);
+		}
+
+		return buffer.size();
+	}
+
+	/**
+	 * Determines whether the side to move of a Bitboard is in check
+	 *
+	 * @param bb the position to evaluate
+	 *
+	 * @return true if the King of the side to move is attacked
+	 */
+	public static boolean isInCheck(Bitboard bb) {
+		final int us = bb.getSideToMove();
+		return bb.isSquareAttacked(bb.kingSquare(us), us ^ 1);
+	}
+
+	/**
+	 * Retrieves the pieces of color us that are pinned against their own King
+	 *
+	 * @param bb     the position to evaluate
+	 * @param us     WHITE or BLACK
+	 * @param kingSq the square of the King of color us
+	 *
+	 * @return the mask of pinned pieces
+	 */
+	public static long pinnedPieces(Bitboard bb, int us, int kingSq) {
+		final int them = us ^ 1;
+		final long occ = bb.getOccupied();
+
+		final long queens = bb.getPieces(them, Bitboard.QUEEN);
+
+		long snipers = (Bitboard.rookAttacks(kingSq, 0L)
+				& (bb.getPieces(them, Bitboard.ROOK) | queens))
+				| (Bitboard.bishopAttacks(kingSq, 0L)
+						& (bb.getPieces(them, Bitboard.BISHOP) | queens));
+
+		long pinned = 0L;
+
+		while (snipers != 0L) {
+			final int sniper = Long.numberOfTrailingZeros(snipers);
+			snipers &= snipers - 1;
+
+			final long blockers = Bitboard.between(kingSq, sniper) & occ;
+
+			// Exactly one blocker, and it is ours.
+			if (blockers != 0L && (blockers & (blockers - 1)) == 0L
+					&& (blockers & bb.getOccupancy(us)) != 0L) {
+				pinned |= blockers;
+			}
+		}
+
+		return pinned;
+	}
+
+	/**
+	 * Adds every King move to a square not attacked by the opponent
+	 */
+	private static void generateKingMoves(Bitboard bb, MoveBuffer buffer,
+			int us, int kingSq, long ours, long occ) {
+		// The King is lifted, so squares behind it along a check are unsafe.
+		final long occWithoutKing = occ & ~(1L << kingSq);
+
+		long targets = Bitboard.kingAttacks(kingSq) & ~ours;
+
+		while (targets != 0L) {
+			final int to = Long.numberOfTrailingZeros(targets);
+			targets &= targets - 1;
+
+			if (bb.attackersTo(to, us ^ 1, occWithoutKing) == 0L) {
+				buffer.add(PackedMove.of(kingSq, to, Bitboard.KING,
+						bb.kindAt(to), 0, PackedMove.NORMAL));
+			}
+		}
+	}
+
+	/**
+	 * Adds every move of a Knight, Bishop, Rook, or Queen of color us
+	 */
+	private static void generatePieceMoves(Bitboard bb, MoveBuffer buffer,
+			int kind, int us, int kingSq, long pinned, long targets,
+			long occ) {
+		long pieces = bb.getPieces(us, kind);
+
+		while (pieces != 0L) {
+			final int from = Long.numberOfTrailingZeros(pieces);
+			pieces &= pieces - 1;
+
+			long moves = Bitboard.attacks(us, kind, from, occ) & targets;
+
+			// A pinned piece may only slide along the pin.
+			if ((pinned & (1L << from)) != 0L) {
+				moves &= Bitboard.line(kingSq, from);
+			}
+
+			while (moves != 0L) {
+				final int to = Long.numberOfTrailingZeros(moves);
+				moves &= moves - 1;
+
+				buffer.add(PackedMove.of(from, to, kind, bb.kindAt(to), 0,
+						PackedMove.NORMAL));
+			}
+		}
+	}
+
+	/**
+	 * Adds every pawn push, capture, en passant capture and promotion for
+	 * color us
+	 */
+	private static void generatePawnMoves(Bitboard bb, MoveBuffer buffer,
+			int us, int kingSq, long pinned, long checkMask, long occ) {
+		final int them = us ^ 1;
+		final long theirs = bb.getOccupancy(them);
+
+		final int forward = us == Bitboard.WHITE ? 8 : -8;
+		final long startRank = us == Bitboard.WHITE ? Bitboard.RANK_2
+				: Bitboard.RANK_7;
+
+		final int epSquare = bb.getEnPassantSquare();
+
+		long pawns = bb.getPieces(us, Bitboard.PAWN);
+
+		while (pawns != 0L) {
+			final int from = Long.numberOfTrailingZeros(pawns);
+			final long fromBit = 1L << from;
+			pawns &= pawns - 1;
+
+			final long allowed = (pinned & fromBit) != 0L
+					? checkMask & Bitboard.line(kingSq, from)
+					: checkMask;
+
+			final int one = from + forward;
+			final long oneBit = 1L << one;
+
+			if ((occ & oneBit) == 0L) {
+				if ((allowed & oneBit) != 0L) {
+					addPawnMove(buffer, from, one, Bitboard.NONE);
+				}
+
+				final int two = one + forward;
+				final long twoBit = 1L << two;
+
+				if ((startRank & fromBit) != 0L && (occ & twoBit) == 0L
+						&& (allowed & twoBit) != 0L) {
+					buffer.add(PackedMove.of(from, two, Bitboard.PAWN,
+							Bitboard.NONE, 0, PackedMove.DOUBLE_PUSH));
+				}
+			}
+
+			final long attacks = Bitboard.pawnAttacks(us, from);
+			long captures = attacks & theirs & allowed;
+
+			while (captures != 0L) {
+				final int to = Long.numberOfTrailingZeros(captures);
+				captures &= captures - 1;
+
+				addPawnMove(buffer, from, to, bb.kindAt(to));
+			}
+
+			if (epSquare != Bitboard.NONE && (attacks & (1L << epSquare)) != 0L) {
+				final int captured = epSquare - forward;
+				final long capturedBit = 1L << captured;
+
+				// Both pawns leave their squares at once, so the King is
+				// tested against the occupancy as it will stand afterwards.
+				final long after = (occ & ~fromBit & ~capturedBit)
+						| (1L << epSquare);
+
+				if ((bb.attackersTo(kingSq, them, after) & ~capturedBit) == 0L) {
+					buffer.add(PackedMove.of(from, epSquare, Bitboard.PAWN,
+							Bitboard.PAWN, 0, PackedMove.EN_PASSANT));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Adds a pawn move, expanded into four promotions when it reaches the
+	 * last rank
+	 */
+	private static void addPawnMove(MoveBuffer buffer, int from, int to,
+			int captured) {
+		final int rank = Bitboard.rankOf(to);
+
+		if (rank == 7 || rank == 0) {
+			for (int kind = Bitboard.QUEEN; kind >= Bitboard.KNIGHT; kind--) {
+				buffer.add(PackedMove.of(from, to, Bitboard.PAWN, captured,
+						kind, PackedMove.NORMAL));
+			}
+		} else {
+			buffer.add(PackedMove.of(from, to, Bitboard.PAWN, captured, 0,
+					PackedMove.NORMAL));
+		}
+	}
+
+	/**
+	 * Adds castling moves (encoded as a two-square King move) for color us.
+	 * Precondition: the King of color us is not in check.
+	 */
+	private static void generateCastling(Bitboard bb, MoveBuffer buffer,
+			int us, long occ) {
+		final int rights = bb.getCastlingRights();
+		final long rooks = bb.getPieces(us, Bitboard.ROOK);
+
+		final int kingRights = us == Bitboard.WHITE
+				? Bitboard.CASTLE_WHITE_KING : Bitboard.CASTLE_BLACK_KING;
+		final int queenRights = us == Bitboard.WHITE
+				? Bitboard.CASTLE_WHITE_QUEEN : Bitboard.CASTLE_BLACK_QUEEN;
+
+		final int kingFrom = us == Bitboard.WHITE ? 4 : 60;
+
+		if ((rights & kingRights) != 0
+				&& (rooks & (1L << (kingFrom + 3))) != 0L) {
+			final long path = us == Bitboard.WHITE ? WHITE_KING_PATH
+					: BLACK_KING_PATH;
+
+			if ((occ & path) == 0L && !anyAttacked(bb, path, us ^ 1)) {
+				buffer.add(PackedMove.of(kingFrom, kingFrom + 2, Bitboard.KING,
+						Bitboard.NONE, 0, PackedMove.CASTLE));
+			}
+		}
+
+		if ((rights & queenRights) != 0
+				&& (rooks & (1L << (kingFrom - 4))) != 0L) {
+			final long path = us == Bitboard.WHITE ? WHITE_QUEEN_PATH
+					: BLACK_QUEEN_PATH;
+			final long safe = us == Bitboard.WHITE ? WHITE_QUEEN_SAFE
+					: BLACK_QUEEN_SAFE;
+
+			if ((occ & path) == 0L && !anyAttacked(bb, safe, us ^ 1)) {
+				buffer.add(PackedMove.of(kingFrom, kingFrom - 2, Bitboard.KING,
+						Bitboard.NONE, 0, PackedMove.CASTLE));
+			}
+		}
+	}
+
+	/**
+	 * Determines whether any square of a mask is attacked by color byColor
+	 */
+	private static boolean anyAttacked(Bitboard bb, long squares,
+			int byColor) {
+		while (squares != 0L) {
+			final int sq = Long.numberOfTrailingZeros(squares);
+			squares &= squares - 1;
+
+			if (bb.isSquareAttacked(sq, byColor)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+}
@@ -0,0 +1,438 @@
+/**
+ * Perft.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj.
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package model.chess_set;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import model.game.MoveBuffer;
+import model.game.PackedMove;
+import model.game.Position;
+
+/**
+ * Performance test (perft) driver: counts the leaf nodes of the legal move
+ * tree to a fixed depth. The counts are compared against published values to
+ * verify MoveGenerator, and the time taken gives nodes-per-second throughput.
+ *
+ * Perft works on its own copy of a Bitboard, so the Board it was created from
+ * is left untouched.
+ *
+ * countOnBoard and divideOnBoard walk the same tree through Board instead --
+ * movePiece, isMoveSafe, each Piece's isMoveLegal and undoMovePiece -- and
+ * check every step against MoveGenerator, so that changes to the Board path
+ * are verified by the same published counts.
+ *
+ * @version Oct 18, 2026
+ * @author gemuelealudino
+ */
+public final class Perft {
+
+	private final Bitboard bb;
+	private final MoveBuffer[] buffers;		// one per ply, reused
+	private final int[] line;				// moves to the current node, on Board
+	private String lineStart;				// FEN of the Board's root
+
+	private long elapsedNanos;
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param board the Board whose current position is to be counted
+	 */
+	public Perft(Board board) {
+		this(board.getBitboard());
+	}
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param bb the position to be counted
+	 */
+	public Perft(Bitboard bb) {
+		this.bb = new Bitboard(bb);
+
+		buffers = new MoveBuffer[Bitboard.MAX_PLY];
+		line = new int[Bitboard.MAX_PLY];
+	}
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param fen the position to be counted, in FEN
+	 */
+	public Perft(String fen) {
+		this(fromFen(fen));
+	}
+
+	/**
+	 * Counts the leaf nodes of the legal move tree to a given depth
+	 *
+	 * @param depth the number of plies to search (0 counts the root only)
+	 *
+	 * @return the number of leaf nodes
+	 */
+	public long count(int depth) {
+		final long start = System.nanoTime();
+		final long nodes = search(depth, 0);
+
+		elapsedNanos = System.nanoTime() - start;
+
+		return nodes;
+	}
+
+	/**
+	 * Counts the leaf nodes of the legal move tree to a given depth, split by
+	 * root move ("divide"). Used to find which root move disagrees with a
+	 * reference move generator.
+	 *
+	 * @param depth the number of plies to search (at least 1)
+	 *
+	 * @return each root move (as per PackedMove.toString) and its node count,
+	 *         in generation order
+	 */
+	public Map<String, Long> divide(int depth) {
+		final Map<String, Long> result = new LinkedHashMap<String, Long>();
+		final MoveBuffer moves = buffer(0);
+
+		final long start = System.nanoTime();
+
+		MoveGenerator.generateLegalMoves(bb, moves);
+
+		for (int i = 0; i < moves.size(); i++) {
+			final int move = moves.get(i);
+
+			bb.makeMove(move);
+			result.put(PackedMove.toString(move), search(depth - 1, 1));
+			bb.unmakeMove(move);
+		}
+
+		elapsedNanos = System.nanoTime() - start;
+
+		return result;
+	}
+
+	/**
+	 * Counts the leaf nodes of the legal move tree to a given depth, playing
+	 * every move through a Board, as a check of the Board path. At every
+	 * node, each piece of the side to move is tried on every other square
+	 * with Board::movePiece (a Pawn reaching the last rank, with each
+	 * promotion). movePiece must accept exactly the moves MoveGenerator
+	 * generates, and reach the position Bitboard::makeMove reaches;
+	 * undoMovePiece must restore the position before the move. Castling,
+	 * which movePiece does not carry out, must be refused by it, and is
+	 * played with Board::makeMove instead.
+	 *
+	 * This tries some four thousand moves per node; keep the depth low.
+	 *
+	 * @param depth the number of plies to search (0 counts the root only)
+	 *
+	 * @return the number of leaf nodes, as count(depth) would return
+	 *
+	 * @throws IllegalStateException if Board and MoveGenerator disagree;
+	 *                               the message gives the line of moves
+	 */
+	public long countOnBoard(int depth) {
+		final long start = System.nanoTime();
+		final long nodes = depth == 0 ? 1
+				: searchOnBoard(newBoard(), depth, 0, null);
+
+		elapsedNanos = System.nanoTime() - start;
+
+		return nodes;
+	}
+
+	/**
+	 * Counts the leaf nodes of the legal move tree to a given depth through
+	 * a Board, as per countOnBoard, split by root move as per divide
+	 *
+	 * @param depth the number of plies to search (at least 1)
+	 *
+	 * @return each root move (as per PackedMove.toString) and its node count,
+	 *         in generation order
+	 *
+	 * @throws IllegalStateException if Board and MoveGenerator disagree;
+	 *                               the message gives the line of moves
+	 */
+	public Map<String, Long> divideOnBoard(int depth) {
+		final Map<String, Long> result = new LinkedHashMap<String, Long>();
+		final long start = System.nanoTime();
+
+		searchOnBoard(newBoard(), depth, 0, result);
+
+		elapsedNanos = System.nanoTime() - start;
+
+		return result;
+	}
+
+	/**
+	 * Accessor to retrieve the time taken by the last count or divide
+	 *
+	 * @return elapsed time in nanoseconds
+	 */
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * Converts a node count to a throughput figure, using the time taken by
+	 * the last count or divide
+	 *
+	 * @param nodes the node count returned by count or divide
+	 *
+	 * @return nodes per second
+	 */
+	public long nodesPerSecond(long nodes) {
+		return elapsedNanos == 0 ? 0 : nodes * 1000000000L / elapsedNanos;
+	}
+
+	/**
+	 * Recursive leaf count. At depth 1 the number of legal moves is the
+	 * answer, so the last ply is never made.
+	 */
+	private long search(int depth, int ply) {
+		if (depth == 0) {
+			return 1;
+		}
+
+		final MoveBuffer moves = buffer(ply);
+		final int count = MoveGenerator.generateLegalMoves(bb, moves);
+
+		if (depth == 1) {
+			return count;
+		}
+
+		long nodes = 0;
+
+		for (int i = 0; i < count; i++) {
+			final int move = moves.get(i);
+
+			bb.makeMove(move);
+			nodes += search(depth - 1, ply + 1);
+			bb.unmakeMove(move);
+		}
+
+		return nodes;
+	}
+
+	/**
+	 * Recursive leaf count through a Board, kept in step with bb; see
+	 * countOnBoard. At depth 1 the moves are still played, to check them.
+	 *
+	 * @param divide the node counts per move, filled at the root, or null
+	 */
+	private long searchOnBoard(Board board, int depth, int ply,
+			Map<String, Long> divide) {
+		final MoveBuffer moves = buffer(ply);
+		final int count = MoveGenerator.generateLegalMoves(bb, moves);
+
+		final int us = bb.getSideToMove();
+		final PieceSet pieceSet = us == Bitboard.WHITE
+				? board.getWhiteSet() : board.getBlackSet();
+
+		long nodes = 0;
+		int played = 0;
+
+		for (int from = 0; from < 64; from++) {
+			final int code = bb.pieceAt(from);
+
+			if (code == Bitboard.NONE || Bitboard.colorOf(code) != us) {
+				continue;
+			}
+
+			final Piece piece = board.getCell(Position.ofSquare(from))
+					.getPiece();
+
+			for (int to = 0; to < 64; to++) {
+				if (to == from) {
+					continue;
+				}
+
+				final boolean promotes = Bitboard.kindOf(code) == Bitboard.PAWN
+						&& (Bitboard.rankOf(to) == 0 || Bitboard.rankOf(to) == 7);
+
+				for (int kind = promotes ? Bitboard.KNIGHT : 0;
+						kind <= (promotes ? Bitboard.QUEEN : 0); kind++) {
+					final int move = find(moves, count, from, to, kind);
+					final boolean castle = move != PackedMove.NULL_MOVE
+							&& PackedMove.flag(move) == PackedMove.CASTLE;
+
+					line[ply] = move != PackedMove.NULL_MOVE ? move
+							: PackedMove.of(from, to, kind, PackedMove.NORMAL);
+
+					final boolean accepted = board.movePiece(piece, pieceSet,
+							Position.ofSquare(to), Board.promotionType(kind));
+
+					if (accepted != (move != PackedMove.NULL_MOVE && !castle)) {
+						throw disagreement(ply, accepted
+								? "accepted by Board::movePiece, not generated"
+								: "generated, refused by Board::movePiece");
+					}
+
+					if (castle) {
+						board.makeMove(move);
+					} else if (accepted == false) {
+						continue;
+					}
+
+					bb.makeMove(move);
+					++played;
+
+					if (board.getHash() != bb.getHash()) {
+						throw disagreement(ply, "played to another position");
+					}
+
+					final long subtree = depth == 1 ? 1
+							: searchOnBoard(board, depth - 1, ply + 1, null);
+
+					board.undoMovePiece();
+					bb.unmakeMove(move);
+
+					if (board.getHash() != bb.getHash()) {
+						throw disagreement(ply, "not taken back by undoMovePiece");
+					}
+
+					if (divide != null) {
+						divide.put(PackedMove.toString(move), subtree);
+					}
+
+					nodes += subtree;
+				}
+			}
+		}
+
+		if (played != count) {
+			throw disagreement(ply - 1, count - played
+					+ " generated moves never tried after it");
+		}
+
+		return nodes;
+	}
+
+	/**
+	 * Finds a generated move by its squares and promotion
+	 *
+	 * @return the move, or PackedMove.NULL_MOVE if not generated
+	 */
+	private static int find(MoveBuffer moves, int count, int from, int to,
+			int promotion) {
+		for (int i = 0; i < count; i++) {
+			final int move = moves.get(i);
+
+			if (PackedMove.from(move) == from && PackedMove.to(move) == to
+					&& PackedMove.promotion(move) == promotion) {
+				return move;
+			}
+		}
+
+		return PackedMove.NULL_MOVE;
+	}
+
+	/**
+	 * Builds a Board holding the position of bb, checked to hash alike
+	 */
+	private Board newBoard() {
+		final Board board = new Board(Snapshot.of(bb));
+
+		lineStart = Fen.toString(bb);
+
+		if (board.getHash() != bb.getHash()) {
+			throw new IllegalStateException("Board cannot set up "
+					+ lineStart);
+		}
+
+		return board;
+	}
+
+	/**
+	 * Describes a disagreement between Board and MoveGenerator at the move
+	 * line[ply] of the current line (or at the node, if ply is -1)
+	 */
+	private IllegalStateException disagreement(int ply, String what) {
+		final StringBuilder sb = new StringBuilder("From ")
+				.append(lineStart).append(':');
+
+		for (int i = 0; i <= ply; i++) {
+			sb.append(' ').append(PackedMove.toString(line[i]));
+		}
+
+		return new IllegalStateException(sb.append(' ').append(what)
+				.toString());
+	}
+
+	/**
+	 * Retrieves the MoveBuffer for a given ply, creating it on first use
+	 */
+	private MoveBuffer buffer(int ply) {
+		if (buffers[ply] == null) {
+			buffers[ply] = new MoveBuffer();
+		}
+
+		return buffers[ply];
+	}
+
+	/**
+	 * Builds a Bitboard from a FEN string
+	 */
+	private static Bitboard fromFen(String fen) {
+		final Bitboard bb = new Bitboard();
+		Fen.load(fen, bb);
+		return bb;
+	}
+
+	/**
+	 * Perft command. Usage: Perft depth [fen] [-divide] [-board]
+	 *
+	 * @param args Command line arguments
+	 */
+	public static void main(String[] args) {
+		if (args.length < 1) {
+			System.err.println("Usage: Perft depth [fen] [-divide] [-board]");
+			return;
+		}
+
+		final int depth = Integer.parseInt(args[0]);
+
+		String fen = Fen.START_POSITION;
+		boolean divide = false;
+		boolean onBoard = false;
+
+		for (int i = 1; i < args.length; i++) {
+			if (args[i].equals("-divide")) {
+				divide = true;
+			} else if (args[i].equals("-board")) {
+				onBoard = true;
+			} else {
+				fen = args[i];
+			}
+		}
+
+		final Perft perft = new Perft(fen);
+		long nodes = 0;
+
+		if (divide) {
+			final Map<String, Long> counts = onBoard
+					? perft.divideOnBoard(depth) : perft.divide(depth);
+
+			for (Map.Entry<String, Long> entry : counts.entrySet()) {
+				System.out.println(entry.getKey() + ": " + entry.getValue());
+				nodes += entry.getValue();
+			}
+
+			System.out.println();
+		} else {
+			nodes = onBoard ? perft.countOnBoard(depth) : perft.count(depth);
+		}
+
+		System.out.println("Nodes: " + nodes);
+		System.out.println("Time:  " + perft.getElapsedNanos() / 1000000 + " ms");
+		System.out.println("NPS:   " + perft.nodesPerSecond(nodes));
+	}
+}
@@ -10,6 +10,8 @@
  */
 package model.chess_set;
 
+import java.util.Arrays;
+
 import model.PieceType;
 import model.chess_set.piecetypes.*;
 import model.game.Position;
@@ -24,11 +26,19 @@ import model.game.Position;
  */
 public final class PieceSet {
 
-	private final int PIECE_COUNT = 16;
+	static final int PIECE_COUNT = 16;
 
 	private PieceType.Color color;
 	private Piece[] pieceArray;		// all instances of Piece reside here
 
+	/**
+	 * Square index: the live Piece of this set on each square (or null),
+	 * and the squares held by each kind of Piece. Board keeps both in step
+	 * with its Cells (see setSquare).
+	 */
+	private Piece[] pieceBySquare;
+	private long[] squaresByKind;
+
 	/**
 	 * Parameterized constructor
 	 * 
@@ -38,7 +48,18 @@ public final class PieceSet {
 		this.color = color;
 
 		pieceArray = new Piece[PIECE_COUNT];
+		pieceBySquare = new Piece[64];
+		squaresByKind = new long[Bitboard.KIND_COUNT];
+
+		reset();
+	}
 
+	/**
+	 * Replaces every Piece with a new one, off the board, as at the start of
+	 * a game. Called by Board when a game is set up again, so that Players
+	 * keep referring to the same PieceSet.
+	 */
+	void reset() {
 		Piece king = new King(color);
 		Piece queen = new Queen(color, null);
 		Piece bishop_l = new Bishop(PieceType.BISHOP_L, null, color);
@@ -72,6 +93,9 @@ public final class PieceSet {
 		pieceArray[PieceType.PAWN_5.ordinal()] = pawn_5;
 		pieceArray[PieceType.PAWN_6.ordinal()] = pawn_6;
 		pieceArray[PieceType.PAWN_7.ordinal()] = pawn_7;
+
+		Arrays.fill(pieceBySquare, null);
+		Arrays.fill(squaresByKind, 0L);
 	}
 	
 	/**
@@ -91,17 +115,82 @@ public final class PieceSet {
 	 * @return if found, the desired Piece, otherwise null
 	 */
 	public Piece getPieceByPosition(Position pos) {
-		// Perhaps we should consider storing the Pieces
-		// in a Dictionary (map) -- instead of this linear traversal
-		// using an array. This would be easy to fix and it would
-		// not affect outside classes.
-		for (int i = 0; i < pieceArray.length; i++) {
-			if (pieceArray[i].posRef.equals(pos)) {
-				return pieceArray[i];
-			}
+		return pos.isOnBoard() ? pieceBySquare[pos.getSquare()] : null;
+	}
+
+	/**
+	 * Accessor to retrieve a Piece using a Bitboard square index
+	 * 
+	 * @param sq the square index (0 - 63)
+	 * 
+	 * @return if found, the desired Piece, otherwise null
+	 */
+	public Piece getPieceBySquare(int sq) {
+		return pieceBySquare[sq];
+	}
+
+	/**
+	 * Accessor to retrieve the squares held by one kind of Piece. To visit
+	 * the Pieces of that kind:
+	 * 
+	 * <pre>
+	 * for (long sqs = set.getSquares(kind); sqs != 0; sqs &amp;= sqs - 1) {
+	 * 	Piece piece = set.getPieceBySquare(Long.numberOfTrailingZeros(sqs));
+	 * 	...
+	 * }
+	 * </pre>
+	 * 
+	 * @param kind Bitboard.PAWN, KNIGHT, BISHOP, ROOK, QUEEN, or KING
+	 * 
+	 * @return a mask of square indices (promoted Pawns count as their new
+	 *         kind)
+	 */
+	public long getSquares(int kind) {
+		return squaresByKind[kind];
+	}
+
+	/**
+	 * Accessor to retrieve the number of Pieces of one kind on the board
+	 * 
+	 * @param kind Bitboard.PAWN, KNIGHT, BISHOP, ROOK, QUEEN, or KING
+	 * 
+	 * @return the count of that kind
+	 */
+	public int getCount(int kind) {
+		return Long.bitCount(squaresByKind[kind]);
+	}
+
+	/**
+	 * Accessor to retrieve the King of this set
+	 * 
+	 * @return the King, or null if it is not on the board
+	 */
+	public Piece getKing() {
+		final long kings = squaresByKind[Bitboard.KING];
+
+		return kings == 0L ? null
+				: pieceBySquare[Long.numberOfTrailingZeros(kings)];
+	}
+
+	/**
+	 * Mutator, called by Board whenever a Cell changes, to update the square
+	 * index
+	 * 
+	 * @param sq    the square index (0 - 63)
+	 * @param piece the Piece of this set now on sq, or null if none
+	 */
+	void setSquare(int sq, Piece piece) {
+		final Piece old = pieceBySquare[sq];
+
+		if (old != null) {
+			squaresByKind[Bitboard.kindOf(old)] &= ~(1L << sq);
 		}
 
-		return null;
+		pieceBySquare[sq] = piece;
+
+		if (piece != null) {
+			squaresByKind[Bitboard.kindOf(piece)] |= 1L << sq;
+		}
 	}
 
 	/**
@@ -0,0 +1,226 @@
+/**
+ * Snapshot.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj.
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package model.chess_set;
+
+import java.util.Arrays;
+
+/**
+ * Immutable copy of a position: one long per piece kind per color, plus the
+ * side to move, castling rights, en passant square, clocks and Zobrist hash.
+ * A Snapshot never changes once made, so it may be handed to other threads
+ * -- a renderer, an analysis worker, a cache -- without locking, while the
+ * Board it was taken from moves on.
+ *
+ * Board.snapshot takes one in a dozen array reads; Board.setPosition (or
+ * toBitboard, for a search) turns one back into a position to play from.
+ *
+ * @version Oct 18, 2026
+ * @author gemuelealudino
+ */
+public final class Snapshot {
+
+	private final long[] pieces;		// [color * KIND_COUNT + kind]
+	private final int state;			// side, castling, en passant, half-moves
+	private final int fullmoveNumber;
+	private final long hash;
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param bb the position to copy
+	 */
+	private Snapshot(Bitboard bb) {
+		pieces = new long[2 * Bitboard.KIND_COUNT];
+
+		for (int color = Bitboard.WHITE; color <= Bitboard.BLACK; color++) {
+			for (int kind = Bitboard.PAWN; kind <= Bitboard.KING; kind++) {
+				pieces[Bitboard.code(color, kind)] = bb.getPieces(color, kind);
+			}
+		}
+
+		state = bb.getSideToMove()
+				| (bb.getCastlingRights() << 1)
+				| ((bb.getEnPassantSquare() & 0xFF) << 5)
+				| (bb.getHalfmoveClock() << 13);
+
+		fullmoveNumber = bb.getFullmoveNumber();
+		hash = bb.getHash();
+	}
+
+	/**
+	 * Takes a Snapshot of a position
+	 *
+	 * @param bb the position to copy
+	 *
+	 * @return a Snapshot equal to bb as it is now
+	 */
+	public static Snapshot of(Bitboard bb) {
+		return new Snapshot(bb);
+	}
+
+	/**
+	 * Replaces the contents of a Bitboard with this position. Moves made on
+	 * bb beforehand can no longer be unmade.
+	 *
+	 * @param bb the Bitboard to fill
+	 */
+	public void copyTo(Bitboard bb) {
+		bb.clear();
+
+		for (int piece = 0; piece < pieces.length; piece++) {
+			for (long sqs = pieces[piece]; sqs != 0L; sqs &= sqs - 1) {
+				bb.put(Bitboard.colorOf(piece), Bitboard.kindOf(piece),
+						Long.numberOfTrailingZeros(sqs));
+			}
+		}
+
+		bb.setSideToMove(getSideToMove());
+		bb.setCastlingRights(getCastlingRights());
+		bb.setEnPassantSquare(getEnPassantSquare());
+		bb.setHalfmoveClock(getHalfmoveClock());
+		bb.setFullmoveNumber(fullmoveNumber);
+	}
+
+	/**
+	 * Creates a new Bitboard holding this position, for example for a
+	 * Search on another thread
+	 *
+	 * @return the new Bitboard
+	 */
+	public Bitboard toBitboard() {
+		final Bitboard bb = new Bitboard();
+		copyTo(bb);
+		return bb;
+	}
+
+	/**
+	 * Accessor to retrieve the squares occupied by one kind of piece
+	 *
+	 * @param color WHITE or BLACK
+	 * @param kind  PAWN, KNIGHT, BISHOP, ROOK, QUEEN, or KING
+	 *
+	 * @return the mask of squares
+	 */
+	public long getPieces(int color, int kind) {
+		return pieces[Bitboard.code(color, kind)];
+	}
+
+	/**
+	 * Accessor to retrieve the squares occupied by either color
+	 *
+	 * @return the mask of occupied squares
+	 */
+	public long getOccupied() {
+		long occupied = 0L;
+
+		for (long sqs : pieces) {
+			occupied |= sqs;
+		}
+
+		return occupied;
+	}
+
+	/**
+	 * Retrieves the piece occupying a square
+	 *
+	 * @param sq the square index (0 - 63)
+	 *
+	 * @return the piece code (see Bitboard.code), or Bitboard.NONE
+	 */
+	public int pieceAt(int sq) {
+		final long bit = 1L << sq;
+
+		for (int piece = 0; piece < pieces.length; piece++) {
+			if ((pieces[piece] & bit) != 0L) {
+				return piece;
+			}
+		}
+
+		return Bitboard.NONE;
+	}
+
+	/**
+	 * Accessor to retrieve the color whose turn it is
+	 *
+	 * @return WHITE or BLACK
+	 */
+	public int getSideToMove() {
+		return state & 0x1;
+	}
+
+	/**
+	 * Accessor to retrieve the castling rights that remain
+	 *
+	 * @return a combination of the Bitboard.CASTLE_* bits
+	 */
+	public int getCastlingRights() {
+		return (state >>> 1) & 0xF;
+	}
+
+	/**
+	 * Accessor to retrieve the square a pawn may capture en passant onto
+	 *
+	 * @return a square index, or Bitboard.NONE
+	 */
+	public int getEnPassantSquare() {
+		return (byte) (state >>> 5);
+	}
+
+	/**
+	 * Accessor to retrieve the number of half-moves since the last capture
+	 * or pawn move
+	 *
+	 * @return the half-move clock
+	 */
+	public int getHalfmoveClock() {
+		return state >>> 13;
+	}
+
+	/**
+	 * Accessor to retrieve the number of the current full move
+	 *
+	 * @return the full-move number, starting at 1
+	 */
+	public int getFullmoveNumber() {
+		return fullmoveNumber;
+	}
+
+	/**
+	 * Accessor to retrieve the Zobrist hash of the position
+	 *
+	 * @return the hash, as computed by the Bitboard the Snapshot was taken of
+	 */
+	public long getHash() {
+		return hash;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		}
+
+		if (obj instanceof Snapshot == false) {
+			return false;
+		}
+
+		final Snapshot other = (Snapshot) obj;
+
+		return hash == other.hash && state == other.state
+				&& fullmoveNumber == other.fullmoveNumber
+				&& Arrays.equals(pieces, other.pieces);
+	}
+
+	@Override
+	public int hashCode() {
+		return (int) (hash ^ (hash >>> 32));
+	}
+}
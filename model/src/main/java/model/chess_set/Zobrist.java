@@ -0,0 +1,153 @@
+/**
+ * Zobrist.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj.
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package model.chess_set;
+
+/**
+ * Random keys for Zobrist hashing. The hash of a position is the XOR of one
+ * key per (piece, square) pair, plus keys for the side to move, the castling
+ * rights and the file of the en passant square. Bitboard keeps its hash up to
+ * date by XOR-ing keys in and out as pieces and state change.
+ *
+ * Keys come from a fixed seed, so hashes are the same from run to run and may
+ * be stored.
+ *
+ * @version Oct 18, 2026
+ * @author gemuelealudino
+ */
+public final class Zobrist {
+
+	private static final long SEED = 0x2545F4914F6CDD1DL;
+
+	private static final long[][] PIECE_SQUARE =
+			new long[2 * Bitboard.KIND_COUNT][Bitboard.SQUARE_COUNT];
+	private static final long[] CASTLING = new long[Bitboard.CASTLE_ALL + 1];
+	private static final long[] EN_PASSANT_FILE = new long[8];
+	private static final long BLACK_TO_MOVE;
+
+	static {
+		long state = SEED;
+
+		for (int piece = 0; piece < PIECE_SQUARE.length; piece++) {
+			for (int sq = 0; sq < Bitboard.SQUARE_COUNT; sq++) {
+				state += 0x9E3779B97F4A7C15L;
+				PIECE_SQUARE[piece][sq] = mix(state);
+			}
+		}
+
+		// Each combination of rights is the XOR of its single-right keys, so
+		// losing one right changes the hash the same way from any starting
+		// combination.
+		final long[] single = new long[4];
+
+		for (int i = 0; i < single.length; i++) {
+			state += 0x9E3779B97F4A7C15L;
+			single[i] = mix(state);
+		}
+
+		for (int rights = 0; rights < CASTLING.length; rights++) {
+			for (int i = 0; i < single.length; i++) {
+				if ((rights & (1 << i)) != 0) {
+					CASTLING[rights] ^= single[i];
+				}
+			}
+		}
+
+		for (int file = 0; file < EN_PASSANT_FILE.length; file++) {
+			state += 0x9E3779B97F4A7C15L;
+			EN_PASSANT_FILE[file] = mix(state);
+		}
+
+		state += 0x9E3779B97F4A7C15L;
+		BLACK_TO_MOVE = mix(state);
+	}
+
+	private Zobrist() {
+
+	}
+
+	/**
+	 * Retrieves the key of a piece on a square
+	 *
+	 * @param piece a piece code, as per Bitboard.code(color, kind)
+	 * @param sq    the square index (0 - 63)
+	 *
+	 * @return the key
+	 */
+	public static long piece(int piece, int sq) {
+		return PIECE_SQUARE[piece][sq];
+	}
+
+	/**
+	 * Retrieves the key of a combination of castling rights
+	 *
+	 * @param rights a combination of the Bitboard.CASTLE_* bits
+	 *
+	 * @return the key
+	 */
+	public static long castling(int rights) {
+		return CASTLING[rights];
+	}
+
+	/**
+	 * Retrieves the key of an en passant square (only its file is hashed)
+	 *
+	 * @param sq the en passant square index, or Bitboard.NONE
+	 *
+	 * @return the key, or 0 if sq is Bitboard.NONE
+	 */
+	public static long enPassant(int sq) {
+		return sq == Bitboard.NONE ? 0L : EN_PASSANT_FILE[Bitboard.fileOf(sq)];
+	}
+
+	/**
+	 * Retrieves the key of a side to move
+	 *
+	 * @param color Bitboard.WHITE or Bitboard.BLACK
+	 *
+	 * @return the key (0 for WHITE)
+	 */
+	public static long side(int color) {
+		return color == Bitboard.BLACK ? BLACK_TO_MOVE : 0L;
+	}
+
+	/**
+	 * Computes the hash of a Bitboard from scratch. Bitboard::getHash returns
+	 * the same value, maintained incrementally.
+	 *
+	 * @param bb the position to hash
+	 *
+	 * @return the 64-bit hash
+	 */
+	public static long compute(Bitboard bb) {
+		long hash = 0L;
+
+		for (int sq = 0; sq < Bitboard.SQUARE_COUNT; sq++) {
+			final int piece = bb.pieceAt(sq);
+
+			if (piece != Bitboard.NONE) {
+				hash ^= PIECE_SQUARE[piece][sq];
+			}
+		}
+
+		return hash ^ side(bb.getSideToMove())
+				^ castling(bb.getCastlingRights())
+				^ enPassant(bb.getEnPassantSquare());
+	}
+
+	/**
+	 * SplitMix64 finalizer
+	 */
+	private static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+}
@@ -0,0 +1,83 @@
+/**
+ * Bishop.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj. 
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package model.chess_set.piecetypes;
+
+import model.PieceType;
+import model.chess_set.Bitboard;
+import model.chess_set.Piece;
+import model.chess_set.Board.Cell;
+import model.game.Position;
+
+/**
+ * @version Mar 3, 2019
+ * @author gemuelealudino
+ * @author patricknogaj
+ */
+public final class Bishop extends Piece {
+	
+	private PieceType promotionPawnType;
+
+	/**
+	 * Parameterized constructor
+	 * 
+	 * @param pieceType the PieceType to assign
+	 * @param color     the Color of a Player's PieceSet
+	 */
+	public Bishop(PieceType pieceType, PieceType promotionPawnType, PieceType.Color color) {
+		super(color);
+
+		this.pieceType = pieceType.equals(PieceType.BISHOP_R)
+				|| pieceType.equals(PieceType.BISHOP_L) ? pieceType : null;
+		
+		this.promotionPawnType = promotionPawnType;
+
+		if (this.pieceType == null) {
+			System.err.println("ERROR: Set this piece to either "
+					+ "PieceType.BISHOP_R or PieceType.BISHOP_L!");
+			identifier += " (invalid)";
+		} else {
+			identifier += "Bishop";
+
+			identifier += pieceType.equals(PieceType.BISHOP_R) ? " (right)"
+					: " (left)";
+		}
+	}
+	
+	/**
+	 * Returns null if an original Piece, but if from promotion -- return
+	 * a PieceType.PAWN
+	 * 
+	 * @return the former PAWN type of this Bishop, if from a promotion
+	 */
+	public PieceType getPromotionPawnType() {
+		return promotionPawnType;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see model.chess_set.Piece#isMoveLegal(model.chess_set.Board.Cell[][],
+	 * model.game.Position)
+	 */
+	@Override
+	public boolean isMoveLegal(Cell[][] cell, Position pos) {
+		final long attacks = Bitboard.bishopAttacks(this.posRef.getSquare(),
+				cell[0][0].getOccupied());
+
+		return (attacks & (1L << pos.getSquare())) != 0L;
+	}
+
+	@Override
+	public String toString() {
+		return super.toString() + "B";
+	}
+
+}
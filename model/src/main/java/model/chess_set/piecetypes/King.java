@@ -11,6 +11,7 @@
 package model.chess_set.piecetypes;
 
 import model.PieceType;
+import model.chess_set.Bitboard;
 import model.chess_set.Board.Cell;
 import model.chess_set.Piece;
 import model.game.Position;
@@ -54,27 +55,15 @@ public final class King extends Piece {
 	 */
 	@Override
 	public boolean isMoveLegal(Cell[][] cell, Position posRef) {
-		boolean result = false;
+		final long attacks = Bitboard.kingAttacks(this.posRef.getSquare());
 
-		if (Math.abs(this.posRef.getFile() - posRef.getFile()) <= 1
-				&& (Math.abs(this.posRef.getRank() - posRef.getRank()) <= 1)) {
-			if (cell[posRef.getFile()][posRef.getRank()].getPiece() == null) {
-				result = true;
-			} else if (cell[posRef.getFile()][posRef.getRank()].getPiece() != null
-					&& this.matchesColor(
-							cell[posRef.getFile()][posRef.getRank()].getPiece())) {
-				result = false;
-			} else if (cell[posRef.getFile()][posRef.getRank()].getPiece() != null
-					&& !this.matchesColor(
-							cell[posRef.getFile()][posRef.getRank()].getPiece())) {
-				result = true;
-			} else {
-				result = false;
-			}
-		} else {
-			result = false;
+		if ((attacks & (1L << posRef.getSquare())) == 0L) {
+			return false;
 		}
-		return result;
+
+		final Piece other = cell[posRef.getFile()][posRef.getRank()].getPiece();
+
+		return other == null || !this.matchesColor(other);
 	}
 
 	@Override
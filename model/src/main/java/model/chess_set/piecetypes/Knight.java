@@ -11,6 +11,7 @@
 package model.chess_set.piecetypes;
 
 import model.PieceType;
+import model.chess_set.Bitboard;
 import model.chess_set.Piece;
 import model.chess_set.Board.Cell;
 import model.game.Position;
@@ -68,33 +69,9 @@ public final class Knight extends Piece {
 	 */
 	@Override
 	public boolean isMoveLegal(Cell[][] cell, Position posRef) {
-		boolean result = false;
+		final long attacks = Bitboard.knightAttacks(this.posRef.getSquare());
 
-		if (Math.abs(posRef.getFile() - this.posRef.getFile()) == 2
-				&& Math.abs(posRef.getRank() - this.posRef.getRank()) == 1) {
-			result = true;
-		}
-
-		if (Math.abs(posRef.getFile() - this.posRef.getFile()) == 1
-				&& Math.abs(posRef.getRank() - this.posRef.getRank()) == 2) {
-			result = true;
-		}
-
-		return result;
-
-		//@formatter:off
-		/*
-		boolean result = false;
-		
-		final int deltaFile = Math.abs(pos.getFile() - this.pos.getFile());
-		final int deltaRank = Math.abs(pos.getRank() - this.pos.getRank());
-		
-		result = (deltaFile == 2 && deltaRank == 1);
-		result = (deltaFile == 1 && deltaRank == 2);
-		
-		return result;
-		*/
-		//@formatter:on
+		return (attacks & (1L << posRef.getSquare())) != 0L;
 	}
 
 	@Override
@@ -0,0 +1,128 @@
+/**
+ * Pawn.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj. 
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package model.chess_set.piecetypes;
+
+import model.PieceType;
+import model.chess_set.Bitboard;
+import model.chess_set.Piece;
+import model.chess_set.Board.Cell;
+import model.game.Position;
+
+/**
+ * @version Mar 3, 2019
+ * @author gemuelealudino
+ * @author patricknogaj
+ */
+public final class Pawn extends Piece {
+
+	private boolean firstMove = true;
+
+	/**
+	 * Parameterized constructor
+	 * 
+	 * @param pieceType the PieceType to assign
+	 * @param color     the Color of a Player's PieceSet
+	 */
+	public Pawn(PieceType pieceType, PieceType.Color color) {
+		super(color);
+
+		switch (pieceType) {
+		case PAWN_0:
+		case PAWN_1:
+		case PAWN_2:
+		case PAWN_3:
+		case PAWN_4:
+		case PAWN_5:
+		case PAWN_6:
+		case PAWN_7:
+			this.pieceType = pieceType;
+			identifier += "Pawn";
+			break;
+		default:
+			this.pieceType = null;
+			identifier += " (invalid)";
+
+			System.err.println("ERROR: Set this piece to either "
+					+ "PieceType.PAWN_n, n being [0 - 7]!");
+
+			break;
+		}
+
+		switch (this.pieceType) {
+		case PAWN_0:
+			identifier += "   (1)";
+			break;
+		case PAWN_1:
+			identifier += "   (2)";
+			break;
+		case PAWN_2:
+			identifier += "   (3)";
+			break;
+		case PAWN_3:
+			identifier += "   (4)";
+			break;
+		case PAWN_4:
+			identifier += "   (5)";
+			break;
+		case PAWN_5:
+			identifier += "   (6)";
+			break;
+		case PAWN_6:
+			identifier += "   (7)";
+			break;
+		case PAWN_7:
+			identifier += "   (8)";
+			break;
+		default:
+			break;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see model.chess_set.Piece#isMoveLegal(model.chess_set.Board.Cell[][],
+	 * model.game.Position)
+	 */
+	@Override
+	public boolean isMoveLegal(Cell[][] cell, Position posRef) {
+		final int color = this.isWhite() ? Bitboard.WHITE : Bitboard.BLACK;
+		final int from = this.posRef.getSquare();
+		final long occ = cell[0][0].getOccupied();
+
+		// Captures go diagonally, onto an occupied square; an ally there is
+		// turned away by Board. En passant is left to Board as well, which
+		// knows the square a Pawn has just skipped.
+		final long moves = (Bitboard.pawnAttacks(color, from) & occ)
+				| Bitboard.pawnPushes(color, from, occ);
+
+		return (moves & (1L << posRef.getSquare())) != 0L;
+	}
+	
+	/**
+	 * Determines if this Pawn has yet to make its first move
+	 * 
+	 * @return true if this Pawn may still advance two squares
+	 */
+	public boolean isFirstMove() {
+		return firstMove;
+	}
+
+	public void toggleFirstMove() {
+		firstMove = firstMove ? false : true;
+	}
+
+	@Override
+	public String toString() {
+		return super.toString() + "P";
+	}
+
+}
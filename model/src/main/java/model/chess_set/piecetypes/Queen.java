@@ -0,0 +1,63 @@
+/**
+ * Queen.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj. 
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package model.chess_set.piecetypes;
+
+import model.PieceType;
+import model.chess_set.Bitboard;
+import model.chess_set.Piece;
+import model.chess_set.Board.Cell;
+import model.game.Position;
+
+/**
+ * @version Mar 3, 2019
+ * @author gemuelealudino
+ * @author patricknogaj
+ */
+public final class Queen extends Piece {
+	
+	private PieceType promotionPawnType;
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param color the Color of a Player's PieceSet
+	 */
+	public Queen(PieceType.Color color, PieceType promotionPawnType) {
+		super(color);
+		pieceType = PieceType.QUEEN;
+		this.promotionPawnType = promotionPawnType;
+		
+		identifier += "Queen     ";
+	}
+	
+	public PieceType getPromotionPawnType() {
+		return promotionPawnType;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see model.chess_set.Piece#isMoveLegal(model.chess_set.Board.Cell[][],
+	 * model.game.Position)
+	 */
+	@Override
+	public boolean isMoveLegal(Cell[][] cell, Position posRef) {
+		final long attacks = Bitboard.queenAttacks(this.posRef.getSquare(),
+				cell[0][0].getOccupied());
+
+		return (attacks & (1L << posRef.getSquare())) != 0L;
+	}
+
+	@Override
+	public String toString() {
+		return super.toString() + "Q";
+	}
+}
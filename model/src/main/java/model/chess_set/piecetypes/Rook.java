@@ -0,0 +1,89 @@
+/**
+ * Rook.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj. 
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package model.chess_set.piecetypes;
+
+import model.PieceType;
+import model.chess_set.Bitboard;
+import model.chess_set.Piece;
+import model.chess_set.Board.Cell;
+import model.game.Position;
+
+/**
+ * @version Mar 3, 2019
+ * @author gemuelealudino
+ * @author patricknogaj
+ */
+public final class Rook extends Piece {
+
+	private PieceType promotionPawnType;
+	private boolean canCastle;
+
+	/**
+	 * Parameterized constructor
+	 * 
+	 * @param pieceType the PieceType to assign
+	 * @param color     the Color of a Player's PieceSet
+	 */
+	public Rook(PieceType pieceType, PieceType promotionPawnType, PieceType.Color color) {
+		super(color);
+		canCastle = true;
+
+		this.pieceType = pieceType.equals(PieceType.ROOK_R)
+				|| pieceType.equals(PieceType.ROOK_L) ? pieceType : null;
+		
+		this.promotionPawnType = promotionPawnType;
+
+		if (this.pieceType == null) {
+			System.err.println("ERROR: Set this piece to either "
+					+ "PieceType.ROOK_R or PieceType.ROOK_L!");
+			identifier += " (invalid)";
+		} else {
+			identifier += "Rook";
+
+			identifier += pieceType.equals(PieceType.ROOK_R) ? "   (right)"
+					: "   (left)";
+		}
+	}
+	
+	/**
+	 * Returns null if an original Piece, but if from promotion -- return
+	 * a PieceType.PAWN
+	 * 
+	 * @return the former PAWN type of this Rook, if from a promotion
+	 */
+	public PieceType getPromotionPawnType() {
+		return promotionPawnType;
+	}
+
+	public boolean canCastle() {
+		return canCastle;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see model.chess_set.Piece#isMoveLegal(model.chess_set.Board.Cell[][],
+	 * model.game.Position)
+	 */
+	@Override
+	public boolean isMoveLegal(Cell[][] cell, Position posRef) {
+		final long attacks = Bitboard.rookAttacks(this.posRef.getSquare(),
+				cell[0][0].getOccupied());
+
+		return (attacks & (1L << posRef.getSquare())) != 0L;
+	}
+
+	@Override
+	public String toString() {
+		return super.toString() + "R";
+	}
+
+}
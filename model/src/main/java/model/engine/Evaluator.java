@@ -0,0 +1,157 @@
+/**
+ * Evaluator.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj.
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package model.engine;
+
+import model.chess_set.Bitboard;
+
+/**
+ * Static evaluation of a Bitboard: material plus piece-square tables. Scores
+ * are in centipawns, from the point of view of the side to move.
+ *
+ * Tables are written as seen from White's side of the board (rank 8 on the
+ * first row), so a White square is looked up as sq ^ 56 and a Black square
+ * as sq itself.
+ *
+ * @version Oct 18, 2026
+ * @author gemuelealudino
+ */
+public final class Evaluator {
+
+	/**
+	 * Material values, indexed by Bitboard kind
+	 */
+	public static final int[] VALUE = { 100, 320, 330, 500, 900, 0 };
+
+	/**
+	 * Non-pawn material (both sides) at or below which the King switches to
+	 * its endgame table
+	 */
+	private static final int ENDGAME_MATERIAL = 2 * (VALUE[Bitboard.ROOK]
+			+ VALUE[Bitboard.BISHOP]);
+
+	private static final int[] PAWN_TABLE = {
+			  0,   0,   0,   0,   0,   0,   0,   0,
+			 50,  50,  50,  50,  50,  50,  50,  50,
+			 10,  10,  20,  30,  30,  20,  10,  10,
+			  5,   5,  10,  25,  25,  10,   5,   5,
+			  0,   0,   0,  20,  20,   0,   0,   0,
+			  5,  -5, -10,   0,   0, -10,  -5,   5,
+			  5,  10,  10, -20, -20,  10,  10,   5,
+			  0,   0,   0,   0,   0,   0,   0,   0 };
+
+	private static final int[] KNIGHT_TABLE = {
+			-50, -40, -30, -30, -30, -30, -40, -50,
+			-40, -20,   0,   0,   0,   0, -20, -40,
+			-30,   0,  10,  15,  15,  10,   0, -30,
+			-30,   5,  15,  20,  20,  15,   5, -30,
+			-30,   0,  15,  20,  20,  15,   0, -30,
+			-30,   5,  10,  15,  15,  10,   5, -30,
+			-40, -20,   0,   5,   5,   0, -20, -40,
+			-50, -40, -30, -30, -30, -30, -40, -50 };
+
+	private static final int[] BISHOP_TABLE = {
+			-20, -10, -10, -10, -10, -10, -10, -20,
+			-10,   0,   0,   0,   0,   0,   0, -10,
+			-10,   0,   5,  10,  10,   5,   0, -10,
+			-10,   5,   5,  10,  10,   5,   5, -10,
+			-10,   0,  10,  10,  10,  10,   0, -10,
+			-10,  10,  10,  10,  10,  10,  10, -10,
+			-10,   5,   0,   0,   0,   0,   5, -10,
+			-20, -10, -10, -10, -10, -10, -10, -20 };
+
+	private static final int[] ROOK_TABLE = {
+			  0,   0,   0,   0,   0,   0,   0,   0,
+			  5,  10,  10,  10,  10,  10,  10,   5,
+			 -5,   0,   0,   0,   0,   0,   0,  -5,
+			 -5,   0,   0,   0,   0,   0,   0,  -5,
+			 -5,   0,   0,   0,   0,   0,   0,  -5,
+			 -5,   0,   0,   0,   0,   0,   0,  -5,
+			 -5,   0,   0,   0,   0,   0,   0,  -5,
+			  0,   0,   0,   5,   5,   0,   0,   0 };
+
+	private static final int[] QUEEN_TABLE = {
+			-20, -10, -10,  -5,  -5, -10, -10, -20,
+			-10,   0,   0,   0,   0,   0,   0, -10,
+			-10,   0,   5,   5,   5,   5,   0, -10,
+			 -5,   0,   5,   5,   5,   5,   0,  -5,
+			  0,   0,   5,   5,   5,   5,   0,  -5,
+			-10,   5,   5,   5,   5,   5,   0, -10,
+			-10,   0,   5,   0,   0,   0,   0, -10,
+			-20, -10, -10,  -5,  -5, -10, -10, -20 };
+
+	private static final int[] KING_TABLE = {
+			-30, -40, -40, -50, -50, -40, -40, -30,
+			-30, -40, -40, -50, -50, -40, -40, -30,
+			-30, -40, -40, -50, -50, -40, -40, -30,
+			-30, -40, -40, -50, -50, -40, -40, -30,
+			-20, -30, -30, -40, -40, -30, -30, -20,
+			-10, -20, -20, -20, -20, -20, -20, -10,
+			 20,  20,   0,   0,   0,   0,  20,  20,
+			 20,  30,  10,   0,   0,  10,  30,  20 };
+
+	private static final int[] KING_ENDGAME_TABLE = {
+			-50, -40, -30, -20, -20, -30, -40, -50,
+			-30, -20, -10,   0,   0, -10, -20, -30,
+			-30, -10,  20,  30,  30,  20, -10, -30,
+			-30, -10,  30,  40,  40,  30, -10, -30,
+			-30, -10,  30,  40,  40,  30, -10, -30,
+			-30, -10,  20,  30,  30,  20, -10, -30,
+			-30, -30,   0,   0,   0,   0, -30, -30,
+			-50, -30, -30, -30, -30, -30, -30, -50 };
+
+	private static final int[][] TABLES = { PAWN_TABLE, KNIGHT_TABLE,
+			BISHOP_TABLE, ROOK_TABLE, QUEEN_TABLE };
+
+	private Evaluator() {
+
+	}
+
+	/**
+	 * Evaluates a position
+	 *
+	 * @param bb the position to evaluate
+	 *
+	 * @return the score in centipawns, positive if the side to move is better
+	 */
+	public static int evaluate(Bitboard bb) {
+		int score = 0;
+		int nonPawnMaterial = 0;
+
+		for (int color = Bitboard.WHITE; color <= Bitboard.BLACK; color++) {
+			final int sign = color == Bitboard.WHITE ? 1 : -1;
+			final int flip = color == Bitboard.WHITE ? 56 : 0;
+
+			for (int kind = Bitboard.PAWN; kind < Bitboard.KING; kind++) {
+				final int[] table = TABLES[kind];
+				long pieces = bb.getPieces(color, kind);
+
+				while (pieces != 0) {
+					final int sq = Long.numberOfTrailingZeros(pieces);
+					pieces &= pieces - 1;
+
+					score += sign * (VALUE[kind] + table[sq ^ flip]);
+
+					if (kind != Bitboard.PAWN) {
+						nonPawnMaterial += VALUE[kind];
+					}
+				}
+			}
+		}
+
+		final int[] kingTable = nonPawnMaterial <= ENDGAME_MATERIAL
+				? KING_ENDGAME_TABLE : KING_TABLE;
+
+		score += kingTable[bb.kingSquare(Bitboard.WHITE) ^ 56];
+		score -= kingTable[bb.kingSquare(Bitboard.BLACK)];
+
+		return bb.getSideToMove() == Bitboard.WHITE ? score : -score;
+	}
+}
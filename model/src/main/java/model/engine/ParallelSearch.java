@@ -0,0 +1,263 @@
+/**
+ * ParallelSearch.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj.
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package model.engine;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import model.chess_set.Bitboard;
+import model.chess_set.Board;
+import model.chess_set.Fen;
+import model.game.MoveBuffer;
+
+/**
+ * Lazy SMP: several Search workers search the same position at once, each on
+ * its own Bitboard copy, sharing nothing but one TranspositionTable. The
+ * helpers do not split the tree between them; they speed the main worker up
+ * by filling the table with results it would otherwise compute itself.
+ *
+ * The main worker runs on the calling thread and alone obeys the depth, node
+ * and time budgets. As soon as it returns, the helpers are told to stop, and
+ * its result is returned with the node counts of all workers added up.
+ *
+ * @version Oct 18, 2026
+ * @author gemuelealudino
+ */
+public final class ParallelSearch {
+
+	private final Search[] workers;
+	private final TranspositionTable table;
+	private final AtomicBoolean stopSignal;
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param board   the Board whose current position is to be searched
+	 * @param table   the transposition table to be shared by all workers
+	 * @param threads the number of workers (at least 1)
+	 */
+	public ParallelSearch(Board board, TranspositionTable table, int threads) {
+		this(board.getBitboard(), table, threads);
+	}
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param bb      the position to be searched
+	 * @param table   the transposition table to be shared by all workers
+	 * @param threads the number of workers (at least 1)
+	 */
+	public ParallelSearch(Bitboard bb, TranspositionTable table, int threads) {
+		if (threads < 1) {
+			throw new IllegalArgumentException("At least one thread is required");
+		}
+
+		this.table = table;
+
+		stopSignal = new AtomicBoolean();
+		workers = new Search[threads];
+
+		for (int i = 0; i < threads; i++) {
+			workers[i] = new Search(bb, table, stopSignal, i);
+		}
+	}
+
+	/**
+	 * Mutator to limit the depth of the search
+	 *
+	 * @param maxDepth the deepest iteration to run, in plies (at least 1)
+	 */
+	public void setMaxDepth(int maxDepth) {
+		workers[0].setMaxDepth(maxDepth);
+	}
+
+	/**
+	 * Mutator to limit the number of nodes visited by the main worker
+	 *
+	 * @param maxNodes the node budget, or 0 for no limit
+	 */
+	public void setMaxNodes(long maxNodes) {
+		workers[0].setMaxNodes(maxNodes);
+	}
+
+	/**
+	 * Mutator to limit the time spent searching
+	 *
+	 * @param maxMillis the time budget in milliseconds, or 0 for no limit
+	 */
+	public void setMaxMillis(long maxMillis) {
+		workers[0].setMaxMillis(maxMillis);
+	}
+
+	/**
+	 * Accessor to retrieve the number of workers
+	 *
+	 * @return the thread count
+	 */
+	public int getThreadCount() {
+		return workers.length;
+	}
+
+	/**
+	 * Searches every legal move of the position
+	 *
+	 * @return the main worker's result, with the nodes of all workers
+	 */
+	public SearchResult search() {
+		return search(null);
+	}
+
+	/**
+	 * Searches the position, considering only the given moves at the root
+	 *
+	 * @param searchMoves the root moves to consider (PackedMove values), or
+	 *                    null for every legal move
+	 *
+	 * @return the main worker's result, with the nodes of all workers
+	 */
+	public SearchResult search(final MoveBuffer searchMoves) {
+		stopSignal.set(false);
+		table.newSearch();
+
+		final Thread[] helpers = new Thread[workers.length - 1];
+
+		for (int i = 0; i < helpers.length; i++) {
+			final Search helper = workers[i + 1];
+
+			helpers[i] = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					helper.search(searchMoves);
+				}
+			}, "search-helper-" + (i + 1));
+
+			helpers[i].setDaemon(true);
+			helpers[i].start();
+		}
+
+		final SearchResult main = workers[0].search(searchMoves);
+
+		stopSignal.set(true);
+
+		long nodes = main.getNodes();
+
+		for (int i = 0; i < helpers.length; i++) {
+			try {
+				helpers[i].join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+
+			nodes += workers[i + 1].getNodes();
+		}
+
+		return new SearchResult(main.getBestMove(), main.getScore(),
+				main.getDepth(), main.getPrincipalVariation(), nodes,
+				main.getElapsedNanos());
+	}
+
+	/**
+	 * Stops a search in progress, from another thread. The result is that of
+	 * the deepest iteration the main worker completed.
+	 */
+	public void stop() {
+		stopSignal.set(true);
+	}
+
+	/**
+	 * Measures throughput from 1 to maxThreads workers, each run searching
+	 * the same position for the same time with an empty table
+	 *
+	 * @param bb         the position to be searched
+	 * @param maxThreads the greatest number of workers to try
+	 * @param maxMillis  the time given to each run
+	 * @param megabytes  the size of the table used by each run
+	 *
+	 * @return one line per run: thread count, depth, nodes, nodes per second
+	 *         and speed-up over a single thread
+	 */
+	public static String scalingReport(Bitboard bb, int maxThreads,
+			long maxMillis, int megabytes) {
+		final StringBuilder sb = new StringBuilder();
+		final TranspositionTable table = new TranspositionTable(megabytes);
+
+		long singleThreadNps = 0;
+
+		sb.append(String.format("%7s %5s %12s %12s %7s%n", "threads", "depth",
+				"nodes", "nps", "speedup"));
+
+		for (int threads = 1; threads <= maxThreads; threads++) {
+			table.clear();
+
+			final ParallelSearch search = new ParallelSearch(bb, table, threads);
+			search.setMaxMillis(maxMillis);
+
+			final SearchResult result = search.search();
+			final long nps = result.getNodesPerSecond();
+
+			if (threads == 1) {
+				singleThreadNps = Math.max(1, nps);
+			}
+
+			sb.append(String.format("%7d %5d %12d %12d %7.2f%n", threads,
+					result.getDepth(), result.getNodes(), nps,
+					(double) nps / singleThreadNps));
+		}
+
+		return sb.toString();
+	}
+
+	/**
+	 * Parallel search command. Usage: ParallelSearch millis [threads] [fen]
+	 * [-scaling]
+	 *
+	 * With -scaling, runs 1 to threads workers in turn and prints the
+	 * throughput of each; otherwise searches once with threads workers.
+	 *
+	 * @param args Command line arguments
+	 */
+	public static void main(String[] args) {
+		if (args.length < 1) {
+			System.err.println("Usage: ParallelSearch millis [threads] [fen] [-scaling]");
+			return;
+		}
+
+		final long millis = Long.parseLong(args[0]);
+
+		int threads = Runtime.getRuntime().availableProcessors();
+		String fen = Fen.START_POSITION;
+		boolean scaling = false;
+
+		for (int i = 1; i < args.length; i++) {
+			if (args[i].equals("-scaling")) {
+				scaling = true;
+			} else if (args[i].matches("\\d+")) {
+				threads = Integer.parseInt(args[i]);
+			} else {
+				fen = args[i];
+			}
+		}
+
+		final Bitboard bb = new Bitboard();
+		Fen.load(fen, bb);
+
+		if (scaling) {
+			System.out.print(scalingReport(bb, threads, millis,
+					TranspositionTable.DEFAULT_MEGABYTES));
+		} else {
+			final ParallelSearch search = new ParallelSearch(bb,
+					new TranspositionTable(), threads);
+
+			search.setMaxMillis(millis);
+			System.out.println(search.search());
+		}
+	}
+}
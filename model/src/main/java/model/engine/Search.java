@@ -0,0 +1,708 @@
+/**
+ * Search.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj.
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package model.engine;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import model.chess_set.Bitboard;
+import model.chess_set.Board;
+import model.chess_set.Fen;
+import model.chess_set.MoveGenerator;
+import model.game.MoveBuffer;
+import model.game.PackedMove;
+
+/**
+ * Single-threaded negamax alpha-beta search with iterative deepening. Each
+ * iteration searches one ply deeper than the last and tries the previous
+ * principal variation first, so the earlier iterations pay for themselves in
+ * cutoffs. Leaves are resolved with a captures-only quiescence search.
+ *
+ * The search is bounded by depth, nodes and wall-clock time (any of which may
+ * be left unlimited); when a budget runs out, the result of the deepest
+ * completed iteration is returned. Search works on its own copy of a
+ * Bitboard, so the Board it was created from is left untouched.
+ *
+ * Results are kept in a TranspositionTable, which may be shared between
+ * searches (and threads) so that each starts with what the others learned.
+ * ParallelSearch runs several Search instances at once over one table.
+ *
+ * @version Oct 18, 2026
+ * @author gemuelealudino
+ */
+public final class Search {
+
+	/**
+	 * Score of a side that is mated at the root; a mate n plies away scores
+	 * MATE - n
+	 */
+	public static final int MATE = 32000;
+
+	/**
+	 * Greatest ply the search (quiescence included) will reach
+	 */
+	public static final int MAX_DEPTH = 128;
+
+	private static final int INFINITY = MATE + 1;
+
+	private static final int PV_SCORE = 1 << 30;
+	private static final int CAPTURE_SCORE = 1 << 20;
+	private static final int KILLER_SCORE = 1 << 19;
+
+	private static final int CHECK_INTERVAL = 2048;		// nodes between clock reads
+
+	private final Bitboard bb;
+	private final TranspositionTable table;
+
+	private final AtomicBoolean stopSignal;	// shared by a ParallelSearch, or null
+	private final int threadId;
+
+	private final MoveBuffer[] buffers;		// one per ply, reused
+	private final int[][] orderScores;
+
+	private final int[][] pvTable;
+	private final int[] pvLength;
+	private int[] previousPv;
+
+	private final int[][] killers;
+	private final long[] hashes;			// position hash per ply, for repetitions
+
+	private int maxDepth;
+	private long maxNodes;
+	private long maxMillis;
+
+	private long nodes;
+	private long deadline;
+	private boolean stopped;
+	private boolean canStop;
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param board the Board whose current position is to be searched
+	 */
+	public Search(Board board) {
+		this(board.getBitboard());
+	}
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param board the Board whose current position is to be searched
+	 * @param table the transposition table to use
+	 */
+	public Search(Board board, TranspositionTable table) {
+		this(board.getBitboard(), table);
+	}
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param bb the position to be searched
+	 */
+	public Search(Bitboard bb) {
+		this(bb, new TranspositionTable());
+	}
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param bb    the position to be searched
+	 * @param table the transposition table to use
+	 */
+	public Search(Bitboard bb, TranspositionTable table) {
+		this(bb, table, null, 0);
+	}
+
+	/**
+	 * Parameterized constructor, for a worker of a ParallelSearch. Workers
+	 * other than the main one (threadId 0) start at staggered depths, so
+	 * that they fill the table ahead of the main worker rather than in step
+	 * with it, and run until stopSignal is set.
+	 *
+	 * @param bb         the position to be searched
+	 * @param table      the transposition table shared by all workers
+	 * @param stopSignal set to stop every worker
+	 * @param threadId   0 for the main worker, 1 or more for helpers
+	 */
+	Search(Bitboard bb, TranspositionTable table, AtomicBoolean stopSignal,
+			int threadId) {
+		this.bb = new Bitboard(bb);
+		this.table = table;
+		this.stopSignal = stopSignal;
+		this.threadId = threadId;
+
+		buffers = new MoveBuffer[MAX_DEPTH];
+		orderScores = new int[MAX_DEPTH][];
+
+		pvTable = new int[MAX_DEPTH][MAX_DEPTH];
+		pvLength = new int[MAX_DEPTH];
+		previousPv = new int[0];
+
+		killers = new int[MAX_DEPTH][2];
+		hashes = new long[MAX_DEPTH];
+
+		maxDepth = MAX_DEPTH - 1;
+		maxNodes = 0;
+		maxMillis = 0;
+	}
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param fen the position to be searched, in FEN
+	 */
+	public Search(String fen) {
+		this(fromFen(fen));
+	}
+
+	/**
+	 * Mutator to limit the depth of the search
+	 *
+	 * @param maxDepth the deepest iteration to run, in plies (at least 1)
+	 */
+	public void setMaxDepth(int maxDepth) {
+		this.maxDepth = Math.max(1, Math.min(maxDepth, MAX_DEPTH - 1));
+	}
+
+	/**
+	 * Mutator to limit the number of nodes visited
+	 *
+	 * @param maxNodes the node budget, or 0 for no limit
+	 */
+	public void setMaxNodes(long maxNodes) {
+		this.maxNodes = maxNodes;
+	}
+
+	/**
+	 * Mutator to limit the time spent searching
+	 *
+	 * @param maxMillis the time budget in milliseconds, or 0 for no limit
+	 */
+	public void setMaxMillis(long maxMillis) {
+		this.maxMillis = maxMillis;
+	}
+
+	/**
+	 * Searches every legal move of the position
+	 *
+	 * @return the result of the deepest completed iteration
+	 */
+	public SearchResult search() {
+		return search(null);
+	}
+
+	/**
+	 * Searches the position, considering only the given moves at the root.
+	 * Depth 1 always completes, whatever the budget, so a legal move is
+	 * returned whenever one exists.
+	 *
+	 * @param searchMoves the root moves to consider (PackedMove values), or
+	 *                    null for every legal move
+	 *
+	 * @return the result of the deepest completed iteration
+	 */
+	public SearchResult search(MoveBuffer searchMoves) {
+		final long start = System.nanoTime();
+
+		nodes = 0;
+		deadline = maxMillis == 0 ? Long.MAX_VALUE
+				: start + maxMillis * 1000000L;
+		stopped = false;
+		canStop = false;
+
+		if (stopSignal == null) {
+			table.newSearch();		// else the ParallelSearch has done so
+		}
+
+		previousPv = new int[0];
+
+		for (int[] pair : killers) {
+			pair[0] = PackedMove.NULL_MOVE;
+			pair[1] = PackedMove.NULL_MOVE;
+		}
+
+		int bestMove = PackedMove.NULL_MOVE;
+		int bestScore = 0;
+		int completedDepth = 0;
+
+		for (int depth = 1 + threadId % 2; depth <= maxDepth; depth++) {
+			final int score = search(depth, 0, -INFINITY, INFINITY,
+					searchMoves);
+
+			if (stopped) {
+				break;
+			}
+
+			completedDepth = depth;
+			bestScore = score;
+
+			previousPv = new int[pvLength[0]];
+			System.arraycopy(pvTable[0], 0, previousPv, 0, pvLength[0]);
+
+			bestMove = previousPv.length == 0 ? PackedMove.NULL_MOVE
+					: previousPv[0];
+
+			canStop = true;
+
+			// No legal moves, or a mate that a deeper search cannot improve
+			if (bestMove == PackedMove.NULL_MOVE
+					|| MATE - Math.abs(score) <= depth) {
+				break;
+			}
+		}
+
+		return new SearchResult(bestMove, bestScore, completedDepth,
+				previousPv, nodes, System.nanoTime() - start);
+	}
+
+	/**
+	 * Accessor to retrieve the number of nodes visited by the last search
+	 *
+	 * @return the node count
+	 */
+	public long getNodes() {
+		return nodes;
+	}
+
+	/**
+	 * Accessor to retrieve the transposition table
+	 *
+	 * @return the table this search reads and writes
+	 */
+	public TranspositionTable getTable() {
+		return table;
+	}
+
+	/**
+	 * Negamax alpha-beta search of the current position
+	 */
+	private int search(int depth, int ply, int alpha, int beta,
+			MoveBuffer searchMoves) {
+		pvLength[ply] = 0;
+		hashes[ply] = bb.getHash();
+
+		if (ply > 0 && isDraw(ply)) {
+			return 0;
+		}
+
+		final long entry = table.probe(hashes[ply]);
+		int hashMove = PackedMove.NULL_MOVE;
+
+		if (entry != TranspositionTable.MISS) {
+			hashMove = TranspositionTable.move(entry);
+
+			if (ply > 0 && TranspositionTable.depth(entry) >= depth) {
+				final int score = fromTable(TranspositionTable.score(entry), ply);
+				final int bound = TranspositionTable.bound(entry);
+
+				if (bound == TranspositionTable.EXACT
+						|| (bound == TranspositionTable.LOWER && score >= beta)
+						|| (bound == TranspositionTable.UPPER && score <= alpha)) {
+					return score;
+				}
+			}
+		}
+
+		final boolean inCheck = MoveGenerator.isInCheck(bb);
+
+		if (inCheck) {
+			depth++;		// never stop searching while in check
+		}
+
+		if (depth <= 0) {
+			return quiesce(ply, alpha, beta);
+		}
+
+		if (ply >= MAX_DEPTH - 1) {
+			return Evaluator.evaluate(bb);
+		}
+
+		if (outOfBudget()) {
+			return 0;
+		}
+
+		nodes++;
+
+		final MoveBuffer moves = buffer(ply);
+		int count = MoveGenerator.generateLegalMoves(bb, moves);
+
+		if (ply == 0 && searchMoves != null) {
+			count = restrict(moves, searchMoves);
+		}
+
+		if (count == 0) {
+			return inCheck ? -MATE + ply : 0;
+		}
+
+		scoreMoves(moves, count, ply, hashMove, false);
+
+		final int originalAlpha = alpha;
+
+		int best = -INFINITY;
+		int bestMove = PackedMove.NULL_MOVE;
+
+		for (int i = 0; i < count; i++) {
+			final int move = pickMove(moves, count, ply, i);
+
+			bb.makeMove(move);
+			final int score = -search(depth - 1, ply + 1, -beta, -alpha, null);
+			bb.unmakeMove(move);
+
+			if (stopped) {
+				return 0;
+			}
+
+			if (score > best) {
+				best = score;
+
+				if (score > alpha) {
+					alpha = score;
+					bestMove = move;
+					updatePv(ply, move);
+
+					if (score >= beta) {
+						if (isQuiet(move)) {
+							storeKiller(ply, move);
+						}
+
+						break;
+					}
+				}
+			}
+		}
+
+		final int bound = best >= beta ? TranspositionTable.LOWER
+				: best > originalAlpha ? TranspositionTable.EXACT
+						: TranspositionTable.UPPER;
+
+		table.store(hashes[ply], bestMove, toTable(best, ply), depth, bound);
+
+		return best;
+	}
+
+	/**
+	 * Quiescence search: only captures and promotions are tried (every move,
+	 * when in check), so that the static evaluation is only ever taken in a
+	 * quiet position
+	 */
+	private int quiesce(int ply, int alpha, int beta) {
+		pvLength[ply] = 0;
+
+		if (outOfBudget()) {
+			return 0;
+		}
+
+		nodes++;
+
+		final boolean inCheck = MoveGenerator.isInCheck(bb);
+
+		if (ply >= MAX_DEPTH - 1) {
+			return Evaluator.evaluate(bb);
+		}
+
+		int best = -INFINITY;
+
+		if (inCheck == false) {
+			best = Evaluator.evaluate(bb);
+
+			if (best >= beta) {
+				return best;
+			}
+
+			if (best > alpha) {
+				alpha = best;
+			}
+		}
+
+		final MoveBuffer moves = buffer(ply);
+		final int count = MoveGenerator.generateLegalMoves(bb, moves);
+
+		if (count == 0) {
+			return inCheck ? -MATE + ply : 0;
+		}
+
+		scoreMoves(moves, count, ply, PackedMove.NULL_MOVE, inCheck == false);
+
+		for (int i = 0; i < count; i++) {
+			final int move = pickMove(moves, count, ply, i);
+
+			if (orderScores[ply][i] == Integer.MIN_VALUE) {
+				break;		// only quiet moves remain
+			}
+
+			bb.makeMove(move);
+			final int score = -quiesce(ply + 1, -beta, -alpha);
+			bb.unmakeMove(move);
+
+			if (stopped) {
+				return 0;
+			}
+
+			if (score > best) {
+				best = score;
+
+				if (score > alpha) {
+					alpha = score;
+					updatePv(ply, move);
+
+					if (score >= beta) {
+						break;
+					}
+				}
+			}
+		}
+
+		return best;
+	}
+
+	/**
+	 * Determines if the position at ply is drawn by the fifty-move rule or by
+	 * repeating a position reached earlier in the search
+	 */
+	private boolean isDraw(int ply) {
+		final int halfmoveClock = bb.getHalfmoveClock();
+
+		if (halfmoveClock >= 100) {
+			return true;
+		}
+
+		final int earliest = Math.max(0, ply - halfmoveClock);
+
+		for (int i = ply - 2; i >= earliest; i -= 2) {
+			if (hashes[i] == hashes[ply]) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Checks the stop signal and the node and time budgets. The budgets
+	 * never cut the first iteration short, so that a move is always
+	 * available.
+	 */
+	private boolean outOfBudget() {
+		if (stopped) {
+			return true;
+		}
+
+		if (stopSignal != null && stopSignal.get()) {
+			stopped = true;
+			return true;
+		}
+
+		if (canStop == false) {
+			return false;
+		}
+
+		if (maxNodes != 0 && nodes >= maxNodes) {
+			stopped = true;
+		} else if ((nodes & (CHECK_INTERVAL - 1)) == 0
+				&& System.nanoTime() >= deadline) {
+			stopped = true;
+		}
+
+		return stopped;
+	}
+
+	/**
+	 * Removes the moves not in searchMoves from moves
+	 *
+	 * @return the number of moves left
+	 */
+	private static int restrict(MoveBuffer moves, MoveBuffer searchMoves) {
+		int kept = 0;
+
+		for (int i = 0; i < moves.size(); i++) {
+			if (searchMoves.contains(moves.get(i))) {
+				moves.set(kept++, moves.get(i));
+			}
+		}
+
+		moves.truncate(kept);
+		return kept;
+	}
+
+	/**
+	 * Converts a score relative to the root into one relative to the node at
+	 * ply, so that a stored mate score stays correct wherever the position is
+	 * reached again
+	 */
+	private static int toTable(int score, int ply) {
+		if (score >= MATE - MAX_DEPTH) {
+			return score + ply;
+		}
+
+		if (score <= -MATE + MAX_DEPTH) {
+			return score - ply;
+		}
+
+		return score;
+	}
+
+	/**
+	 * Inverse of toTable
+	 */
+	private static int fromTable(int score, int ply) {
+		if (score >= MATE - MAX_DEPTH) {
+			return score - ply;
+		}
+
+		if (score <= -MATE + MAX_DEPTH) {
+			return score + ply;
+		}
+
+		return score;
+	}
+
+	/**
+	 * Assigns an ordering score to each move: the previous principal
+	 * variation or the transposition table move first, then captures by most
+	 * valuable victim / least valuable attacker, then killer moves. If
+	 * noisyOnly is true, quiet moves score Integer.MIN_VALUE so that
+	 * quiescence can stop at the first of them.
+	 */
+	private void scoreMoves(MoveBuffer moves, int count, int ply,
+			int hashMove, boolean noisyOnly) {
+		if (orderScores[ply] == null || orderScores[ply].length < count) {
+			orderScores[ply] =
+					new int[Math.max(count, MoveBuffer.DEFAULT_CAPACITY)];
+		}
+
+		final int[] scores = orderScores[ply];
+		final int pvMove = ply < previousPv.length ? previousPv[ply]
+				: PackedMove.NULL_MOVE;
+
+		for (int i = 0; i < count; i++) {
+			final int move = moves.get(i);
+
+			if ((move == pvMove || move == hashMove) && noisyOnly == false) {
+				scores[i] = PV_SCORE;
+			} else if (isQuiet(move) == false) {
+				final int victim = PackedMove.captured(move);
+
+				scores[i] = CAPTURE_SCORE + PackedMove.promotion(move) * 100
+						+ (victim == Bitboard.NONE ? 0 : Evaluator.VALUE[victim])
+						- PackedMove.moved(move);
+			} else if (noisyOnly) {
+				scores[i] = Integer.MIN_VALUE;
+			} else if (move == killers[ply][0]) {
+				scores[i] = KILLER_SCORE + 1;
+			} else if (move == killers[ply][1]) {
+				scores[i] = KILLER_SCORE;
+			} else {
+				scores[i] = 0;
+			}
+		}
+	}
+
+	/**
+	 * Selection sort step: swaps the best scored move among the moves from
+	 * index onward into index, and returns it
+	 */
+	private int pickMove(MoveBuffer moves, int count, int ply, int index) {
+		final int[] scores = orderScores[ply];
+		int best = index;
+
+		for (int i = index + 1; i < count; i++) {
+			if (scores[i] > scores[best]) {
+				best = i;
+			}
+		}
+
+		if (best != index) {
+			final int move = moves.get(best);
+			moves.set(best, moves.get(index));
+			moves.set(index, move);
+
+			final int score = scores[best];
+			scores[best] = scores[index];
+			scores[index] = score;
+		}
+
+		return moves.get(index);
+	}
+
+	/**
+	 * Determines if a move neither captures nor promotes
+	 */
+	private static boolean isQuiet(int move) {
+		return PackedMove.promotion(move) == 0
+				&& PackedMove.isCapture(move) == false;
+	}
+
+	/**
+	 * Remembers a quiet move that caused a cutoff at ply
+	 */
+	private void storeKiller(int ply, int move) {
+		if (killers[ply][0] != move) {
+			killers[ply][1] = killers[ply][0];
+			killers[ply][0] = move;
+		}
+	}
+
+	/**
+	 * Sets the principal variation at ply to move, followed by the
+	 * principal variation found at ply + 1
+	 */
+	private void updatePv(int ply, int move) {
+		pvTable[ply][0] = move;
+
+		final int childLength = pvLength[ply + 1];
+
+		System.arraycopy(pvTable[ply + 1], 0, pvTable[ply], 1, childLength);
+		pvLength[ply] = childLength + 1;
+	}
+
+	/**
+	 * Retrieves the MoveBuffer for a given ply, creating it on first use
+	 */
+	private MoveBuffer buffer(int ply) {
+		if (buffers[ply] == null) {
+			buffers[ply] = new MoveBuffer();
+		}
+
+		return buffers[ply];
+	}
+
+	/**
+	 * Builds a Bitboard from a FEN string
+	 */
+	private static Bitboard fromFen(String fen) {
+		final Bitboard bb = new Bitboard();
+		Fen.load(fen, bb);
+		return bb;
+	}
+
+	/**
+	 * Search command. Usage: Search millis [fen]
+	 *
+	 * @param args Command line arguments
+	 */
+	public static void main(String[] args) {
+		if (args.length < 1) {
+			System.err.println("Usage: Search millis [fen]");
+			return;
+		}
+
+		final Search search = new Search(args.length > 1 ? args[1]
+				: Fen.START_POSITION);
+
+		search.setMaxMillis(Long.parseLong(args[0]));
+
+		final SearchResult result = search.search();
+
+		System.out.println(result);
+		System.out.println("hashfull " + search.getTable().hashfull());
+		System.out.println("bestmove " + PackedMove.toString(result.getBestMove()));
+	}
+}
@@ -0,0 +1,158 @@
+/**
+ * SearchResult.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj.
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package model.engine;
+
+import model.game.PackedMove;
+
+/**
+ * The outcome of a Search: the best move of the deepest completed iteration,
+ * its score and principal variation, and the effort spent finding it.
+ *
+ * @version Oct 18, 2026
+ * @author gemuelealudino
+ */
+public final class SearchResult {
+
+	private final int bestMove;
+	private final int score;
+	private final int depth;
+	private final int[] principalVariation;
+	private final long nodes;
+	private final long elapsedNanos;
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param bestMove           the best move found, or PackedMove.NULL_MOVE
+	 * @param score              the score of bestMove, in centipawns
+	 * @param depth              the depth of the deepest completed iteration
+	 * @param principalVariation the expected line of play, starting with
+	 *                           bestMove (copied)
+	 * @param nodes              the number of nodes visited
+	 * @param elapsedNanos       the time spent searching
+	 */
+	SearchResult(int bestMove, int score, int depth, int[] principalVariation,
+			long nodes, long elapsedNanos) {
+		this.bestMove = bestMove;
+		this.score = score;
+		this.depth = depth;
+		this.principalVariation = principalVariation.clone();
+		this.nodes = nodes;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	/**
+	 * Accessor to retrieve the best move
+	 *
+	 * @return the best move as a PackedMove, or PackedMove.NULL_MOVE if the
+	 *         side to move has no legal moves
+	 */
+	public int getBestMove() {
+		return bestMove;
+	}
+
+	/**
+	 * Accessor to retrieve the score of the best move
+	 *
+	 * @return the score in centipawns, from the point of view of the side to
+	 *         move
+	 */
+	public int getScore() {
+		return score;
+	}
+
+	/**
+	 * Accessor to retrieve the depth of the deepest completed iteration
+	 *
+	 * @return the depth in plies
+	 */
+	public int getDepth() {
+		return depth;
+	}
+
+	/**
+	 * Accessor to retrieve the principal variation
+	 *
+	 * @return a copy of the expected line of play, as PackedMove values
+	 */
+	public int[] getPrincipalVariation() {
+		return principalVariation.clone();
+	}
+
+	/**
+	 * Accessor to retrieve the number of nodes visited
+	 *
+	 * @return the node count
+	 */
+	public long getNodes() {
+		return nodes;
+	}
+
+	/**
+	 * Accessor to retrieve the time spent searching
+	 *
+	 * @return elapsed time in nanoseconds
+	 */
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * Accessor to retrieve the search throughput
+	 *
+	 * @return nodes per second
+	 */
+	public long getNodesPerSecond() {
+		return elapsedNanos == 0 ? 0 : nodes * 1000000000L / elapsedNanos;
+	}
+
+	/**
+	 * Determines if the score is a forced mate, for either side
+	 *
+	 * @return true if the score is a mate score, false otherwise
+	 */
+	public boolean isMate() {
+		return Math.abs(score) >= Search.MATE - Search.MAX_DEPTH;
+	}
+
+	/**
+	 * Retrieves the number of moves (not plies) to a forced mate
+	 *
+	 * @return moves to mate, negative if the side to move is being mated, or 0
+	 *         if the score is not a mate score
+	 */
+	public int getMateIn() {
+		if (isMate() == false) {
+			return 0;
+		}
+
+		final int plies = Search.MATE - Math.abs(score);
+		return score > 0 ? (plies + 1) / 2 : -(plies / 2);
+	}
+
+	/**
+	 * Returns a one-line summary of the search, e.g.
+	 * "depth 6 score cp 35 nodes 91234 nps 1520566 pv e2 e4 e7 e5"
+	 */
+	@Override
+	public String toString() {
+		String str = "depth " + depth;
+
+		str += isMate() ? " score mate " + getMateIn() : " score cp " + score;
+		str += " nodes " + nodes + " nps " + getNodesPerSecond() + " pv";
+
+		for (int move : principalVariation) {
+			str += " " + PackedMove.toString(move);
+		}
+
+		return str;
+	}
+}
@@ -0,0 +1,252 @@
+/**
+ * TranspositionTable.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj.
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package model.engine;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size hash table of search results, keyed by Zobrist hash. Each entry
+ * is two longs in one preallocated array: the key XOR-ed with the data, then
+ * the data itself.
+ *
+ * <pre>
+ * bits  0 - 31   best move (PackedMove)
+ * bits 32 - 47   score (signed)
+ * bits 48 - 55   depth
+ * bits 56 - 57   bound (UPPER, LOWER, or EXACT)
+ * bits 58 - 63   generation
+ * </pre>
+ *
+ * Several threads may probe and store without locking. Two stores racing on
+ * the same entry can leave the key of one with the data of the other; such
+ * an entry no longer XORs back to either hash, so probe reports a miss
+ * instead of returning another position's data.
+ *
+ * Nothing is allocated after construction.
+ *
+ * @version Oct 18, 2026
+ * @author gemuelealudino
+ */
+public final class TranspositionTable {
+
+	/**
+	 * Bound types: the stored score is at most (UPPER), at least (LOWER), or
+	 * exactly (EXACT) the true score. None is 0, so no stored data is 0.
+	 */
+	public static final int UPPER = 1;
+	public static final int LOWER = 2;
+	public static final int EXACT = 3;
+
+	/**
+	 * Value returned by probe when the position is not in the table
+	 */
+	public static final long MISS = 0L;
+
+	/**
+	 * Size used when none is given, in megabytes
+	 */
+	public static final int DEFAULT_MEGABYTES = 16;
+
+	private static final int ENTRY_BYTES = 16;
+
+	private static final int SCORE_SHIFT = 32;
+	private static final int DEPTH_SHIFT = 48;
+	private static final int BOUND_SHIFT = 56;
+	private static final int GENERATION_SHIFT = 58;
+
+	private static final long MOVE_MASK = 0xFFFFFFFFL;
+	private static final int DEPTH_MASK = 0xFF;
+	private static final int BOUND_MASK = 0x3;
+	private static final int GENERATION_MASK = 0x3F;
+
+	private final long[] table;
+	private final int mask;			// entry count - 1
+
+	private int generation;
+
+	/**
+	 * Default constructor
+	 */
+	public TranspositionTable() {
+		this(DEFAULT_MEGABYTES);
+	}
+
+	/**
+	 * Parameterized constructor. The entry count is rounded down to a power
+	 * of two.
+	 *
+	 * @param megabytes the size of the table (at least 1)
+	 */
+	public TranspositionTable(int megabytes) {
+		if (megabytes < 1) {
+			throw new IllegalArgumentException("Table size must be at least 1 MB");
+		}
+
+		final long entries = Long.highestOneBit(
+				Math.min((long) megabytes * 1024 * 1024 / ENTRY_BYTES,
+						1L << 29));
+
+		table = new long[(int) entries * 2];
+		mask = (int) entries - 1;
+		generation = 0;
+	}
+
+	/**
+	 * Empties the table
+	 */
+	public void clear() {
+		Arrays.fill(table, 0L);
+		generation = 0;
+	}
+
+	/**
+	 * Marks the start of a new search. Entries left by earlier searches are
+	 * replaced before entries of the current one.
+	 */
+	public void newSearch() {
+		generation = (generation + 1) & GENERATION_MASK;
+	}
+
+	/**
+	 * Looks up a position
+	 *
+	 * @param hash the Zobrist hash of the position
+	 *
+	 * @return the stored data (decoded with move, score, depth and bound), or
+	 *         MISS
+	 */
+	public long probe(long hash) {
+		final int index = ((int) hash & mask) << 1;
+
+		final long data = table[index + 1];
+
+		return (table[index] ^ data) == hash ? data : MISS;
+	}
+
+	/**
+	 * Stores the result of searching a position. An entry for another
+	 * position is only replaced if it is from an earlier search or was
+	 * searched no deeper.
+	 *
+	 * @param hash  the Zobrist hash of the position
+	 * @param move  the best move found (PackedMove), or PackedMove.NULL_MOVE
+	 * @param score the score, between -32768 and 32767
+	 * @param depth the depth searched, 0 - 255
+	 * @param bound UPPER, LOWER, or EXACT
+	 */
+	public void store(long hash, int move, int score, int depth, int bound) {
+		final int index = ((int) hash & mask) << 1;
+
+		final long oldData = table[index + 1];
+		final boolean samePosition = (table[index] ^ oldData) == hash;
+
+		if (samePosition == false && oldData != MISS
+				&& generation(oldData) == generation
+				&& depth(oldData) > depth) {
+			return;
+		}
+
+		// Keep the old best move if this search did not find one
+		if (move == 0 && samePosition) {
+			move = move(oldData);
+		}
+
+		final long data = (move & MOVE_MASK)
+				| ((long) (score & 0xFFFF) << SCORE_SHIFT)
+				| ((long) (depth & DEPTH_MASK) << DEPTH_SHIFT)
+				| ((long) bound << BOUND_SHIFT)
+				| ((long) generation << GENERATION_SHIFT);
+
+		table[index] = hash ^ data;
+		table[index + 1] = data;
+	}
+
+	/**
+	 * Retrieves the share of entries written by the current search, sampled
+	 * over the first thousand entries
+	 *
+	 * @return the share in permille (0 - 1000)
+	 */
+	public int hashfull() {
+		final int sample = Math.min(1000, mask + 1);
+		int used = 0;
+
+		for (int i = 0; i < sample; i++) {
+			final long data = table[(i << 1) + 1];
+
+			if (data != MISS && generation(data) == generation) {
+				used++;
+			}
+		}
+
+		return used * 1000 / sample;
+	}
+
+	/**
+	 * Accessor to retrieve the number of entries
+	 *
+	 * @return the entry count (a power of two)
+	 */
+	public int capacity() {
+		return mask + 1;
+	}
+
+	/**
+	 * Retrieves the best move of probed data
+	 *
+	 * @param data a value returned by probe
+	 *
+	 * @return the PackedMove, or PackedMove.NULL_MOVE
+	 */
+	public static int move(long data) {
+		return (int) (data & MOVE_MASK);
+	}
+
+	/**
+	 * Retrieves the score of probed data
+	 *
+	 * @param data a value returned by probe
+	 *
+	 * @return the score, as stored
+	 */
+	public static int score(long data) {
+		return (short) (data >>> SCORE_SHIFT);
+	}
+
+	/**
+	 * Retrieves the depth of probed data
+	 *
+	 * @param data a value returned by probe
+	 *
+	 * @return the depth searched
+	 */
+	public static int depth(long data) {
+		return (int) (data >>> DEPTH_SHIFT) & DEPTH_MASK;
+	}
+
+	/**
+	 * Retrieves the bound type of probed data
+	 *
+	 * @param data a value returned by probe
+	 *
+	 * @return UPPER, LOWER, or EXACT
+	 */
+	public static int bound(long data) {
+		return (int) (data >>> BOUND_SHIFT) & BOUND_MASK;
+	}
+
+	/**
+	 * Retrieves the generation of stored data
+	 */
+	private static int generation(long data) {
+		return (int) (data >>> GENERATION_SHIFT) & GENERATION_MASK;
+	}
+}
@@ -0,0 +1,16 @@
+/**
+ * package-info.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj.
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+/**
+ * @version Oct 18, 2026
+ * @author gemuelealudino
+ *
+ */
+package model.engine;
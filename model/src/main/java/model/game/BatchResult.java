@@ -0,0 +1,125 @@
+/**
+ * BatchResult.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj.
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package model.game;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The totals of a BatchRunner replay: games and moves replayed, how many
+ * games ended each way, the time taken, and every game that failed to
+ * replay, in input order. Successful games are counted, not kept, so that a
+ * batch of millions takes no more memory than its failures.
+ *
+ * @version Oct 18, 2026
+ * @author gemuelealudino
+ */
+public final class BatchResult {
+
+	private final int games;
+	private final long plies;
+	private final int[] outcomeCounts;		// [Outcome.ordinal()]
+	private final List<ReplayResult> failures;
+	private final long elapsedNanos;
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param games         the number of games replayed
+	 * @param plies         the number of moves replayed, in all games
+	 * @param outcomeCounts the number of games per Outcome (copied)
+	 * @param failures      the games that failed, in input order (copied)
+	 * @param elapsedNanos  the time spent replaying
+	 */
+	BatchResult(int games, long plies, int[] outcomeCounts,
+			List<ReplayResult> failures, long elapsedNanos) {
+		this.games = games;
+		this.plies = plies;
+		this.outcomeCounts = outcomeCounts.clone();
+		this.failures = Collections.unmodifiableList(
+				new ArrayList<ReplayResult>(failures));
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	/**
+	 * Accessor to retrieve the number of games replayed
+	 *
+	 * @return the game count, failures included
+	 */
+	public int getGames() {
+		return games;
+	}
+
+	/**
+	 * Accessor to retrieve the number of moves replayed
+	 *
+	 * @return the ply count, over all games
+	 */
+	public long getPlies() {
+		return plies;
+	}
+
+	/**
+	 * Accessor to retrieve the number of games that ended a given way
+	 *
+	 * @param outcome the Outcome to count
+	 *
+	 * @return the number of games
+	 */
+	public int getCount(ReplayResult.Outcome outcome) {
+		return outcomeCounts[outcome.ordinal()];
+	}
+
+	/**
+	 * Accessor to retrieve the games that failed to replay
+	 *
+	 * @return an unmodifiable list of results, in input order
+	 */
+	public List<ReplayResult> getFailures() {
+		return failures;
+	}
+
+	/**
+	 * Accessor to retrieve the time spent replaying
+	 *
+	 * @return elapsed time in nanoseconds
+	 */
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * Accessor to retrieve the replay throughput
+	 *
+	 * @return games per second
+	 */
+	public double getGamesPerSecond() {
+		return elapsedNanos == 0 ? 0.0 : games * 1e9 / elapsedNanos;
+	}
+
+	/**
+	 * Returns a one-line summary of the batch, e.g.
+	 * "games 1000 plies 71234 invalid 2 games/s 8123.4 (CHECKMATE 310 ...)"
+	 */
+	@Override
+	public String toString() {
+		String str = String.format("games %d plies %d invalid %d games/s %.1f (",
+				games, plies, failures.size(), getGamesPerSecond());
+
+		for (ReplayResult.Outcome outcome : ReplayResult.Outcome.values()) {
+			str += (outcome.ordinal() == 0 ? "" : " ") + outcome + " "
+					+ outcomeCounts[outcome.ordinal()];
+		}
+
+		return str + ")";
+	}
+}
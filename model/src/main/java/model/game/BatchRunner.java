@@ -0,0 +1,495 @@
+/**
+ * BatchRunner.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj.
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package model.game;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+import model.PieceType;
+import model.chess_set.Bitboard;
+import model.chess_set.Board;
+import model.chess_set.Fen;
+import model.chess_set.Piece;
+import model.chess_set.PieceSet;
+import model.chess_set.Snapshot;
+
+/**
+ * Replays saved games without a console: each game, given as a .chess22 file
+ * or as a list of move strings ("e2 e4", "e7 e8 Q", "draw?", "resign"...),
+ * is played out on a Board to a ReplayResult, and the results of a batch are
+ * totalled in a BatchResult. Nothing is read from System.in or printed, and
+ * a missing or malformed file is a failed game, not the end of the program.
+ *
+ * Games are spread over a number of workers, each with a Board of its own
+ * that is set back to the start for every game. Workers take the next game
+ * from the batch as they finish the last, so a batch may be a lazy Iterable
+ * of any length.
+ *
+ * @version Oct 18, 2026
+ * @author gemuelealudino
+ */
+public final class BatchRunner {
+
+	private static final Snapshot START;
+
+	static {
+		final Bitboard bb = new Bitboard();
+		Fen.load(Fen.START_POSITION, bb);
+
+		START = Snapshot.of(bb);
+	}
+
+	/**
+	 * Reads the moves of one item of a batch
+	 */
+	private interface Loader<T> {
+		String nameOf(T item, int index);
+
+		Iterable<String> load(T item) throws IOException;
+	}
+
+	private static final Loader<File> FILE_LOADER = new Loader<File>() {
+		@Override
+		public String nameOf(File file, int index) {
+			return file.getPath();
+		}
+
+		@Override
+		public Iterable<String> load(File file) throws IOException {
+			return readMoves(file);
+		}
+	};
+
+	private static final Loader<Iterable<String>> MOVE_LOADER =
+			new Loader<Iterable<String>>() {
+		@Override
+		public String nameOf(Iterable<String> moves, int index) {
+			return "game " + index;
+		}
+
+		@Override
+		public Iterable<String> load(Iterable<String> moves) {
+			return moves;
+		}
+	};
+
+	private final int threads;
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param threads the number of workers (at least 1)
+	 */
+	public BatchRunner(int threads) {
+		if (threads < 1) {
+			throw new IllegalArgumentException("At least one thread is required");
+		}
+
+		this.threads = threads;
+	}
+
+	/**
+	 * Replays saved games, one per file
+	 *
+	 * @param files the .chess22 files (or files of move strings, one per
+	 *              line)
+	 *
+	 * @return the totals of the batch, naming failed games by file path
+	 */
+	public BatchResult replayFiles(Iterable<File> files) {
+		return run(files.iterator(), FILE_LOADER);
+	}
+
+	/**
+	 * Replays games given as move strings
+	 *
+	 * @param games the games, each a sequence of lines as in the [MOVES]
+	 *              section of a .chess22 file
+	 *
+	 * @return the totals of the batch, naming failed games "game n"
+	 */
+	@SuppressWarnings("unchecked")
+	public BatchResult replayGames(Iterable<? extends Iterable<String>> games) {
+		return run((Iterator<Iterable<String>>) games.iterator(), MOVE_LOADER);
+	}
+
+	/**
+	 * Replays a batch on this runner's workers: the calling thread and
+	 * threads - 1 helpers
+	 */
+	private <T> BatchResult run(final Iterator<T> source, final Loader<T> loader) {
+		final long start = System.nanoTime();
+
+		final Worker<?>[] workers = new Worker<?>[threads];
+		final Thread[] helpers = new Thread[threads - 1];
+		final int[] nextIndex = new int[1];
+
+		for (int i = 0; i < threads; i++) {
+			workers[i] = new Worker<T>(source, loader, nextIndex);
+		}
+
+		for (int i = 0; i < helpers.length; i++) {
+			helpers[i] = new Thread(workers[i + 1], "batch-worker-" + (i + 1));
+			helpers[i].setDaemon(true);
+			helpers[i].start();
+		}
+
+		workers[0].run();
+
+		for (Thread helper : helpers) {
+			try {
+				helper.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+
+		int games = 0;
+		long plies = 0;
+		final int[] outcomeCounts = new int[ReplayResult.Outcome.values().length];
+		final List<ReplayResult> failures = new ArrayList<ReplayResult>();
+
+		for (Worker<?> worker : workers) {
+			games += worker.games;
+			plies += worker.plies;
+
+			for (int i = 0; i < outcomeCounts.length; i++) {
+				outcomeCounts[i] += worker.outcomeCounts[i];
+			}
+
+			failures.addAll(worker.failures);
+		}
+
+		Collections.sort(failures, new Comparator<ReplayResult>() {
+			@Override
+			public int compare(ReplayResult a, ReplayResult b) {
+				return Integer.compare(a.getIndex(), b.getIndex());
+			}
+		});
+
+		return new BatchResult(games, plies, outcomeCounts, failures,
+				System.nanoTime() - start);
+	}
+
+	/**
+	 * Replays games from a shared source on a Board of its own, keeping its
+	 * own totals until the source runs dry
+	 */
+	private static final class Worker<T> implements Runnable {
+
+		private final Iterator<T> source;
+		private final Loader<T> loader;
+		private final int[] nextIndex;		// shared, guarded by source
+
+		private final Board board = new Board();
+
+		private int games;
+		private long plies;
+		private final int[] outcomeCounts = new int[ReplayResult.Outcome.values().length];
+		private final List<ReplayResult> failures = new ArrayList<ReplayResult>();
+
+		Worker(Iterator<T> source, Loader<T> loader, int[] nextIndex) {
+			this.source = source;
+			this.loader = loader;
+			this.nextIndex = nextIndex;
+		}
+
+		@Override
+		public void run() {
+			while (true) {
+				final T item;
+				final int index;
+
+				synchronized (source) {
+					if (source.hasNext() == false) {
+						return;
+					}
+
+					item = source.next();
+					index = nextIndex[0]++;
+				}
+
+				final ReplayResult result = replay(board, index, item, loader);
+
+				++games;
+				plies += result.getPlies();
+				++outcomeCounts[result.getOutcome().ordinal()];
+
+				if (result.isInvalid()) {
+					failures.add(result);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Replays one saved game file on a Board, as replayFiles does
+	 *
+	 * @param board the Board to play on
+	 * @param index the position of the game in its batch
+	 * @param file  the .chess22 file (or file of move strings)
+	 *
+	 * @return the result of the game, named by file path; a file that cannot
+	 *         be read is a failed game
+	 */
+	static ReplayResult replayFile(Board board, int index, File file) {
+		return replay(board, index, file, FILE_LOADER);
+	}
+
+	/**
+	 * Loads one item of a batch and replays it, turning any failure to load
+	 * or replay it into a failed game
+	 */
+	private static <T> ReplayResult replay(Board board, int index, T item,
+			Loader<T> loader) {
+		final String name = loader.nameOf(item, index);
+
+		try {
+			return replay(board, index, name, loader.load(item));
+		} catch (IOException e) {
+			return new ReplayResult(index, name, 0, -1, null,
+					"cannot read: " + e.getMessage());
+		} catch (RuntimeException e) {
+			return new ReplayResult(index, name, 0, -1, null,
+					"cannot replay: " + e);
+		}
+	}
+
+	/**
+	 * Replays one game on a Board, which is first set back to the start.
+	 * Blank lines (a .chess22 file has one for every capture) are skipped.
+	 * A line may end in "resign", as Game.generateSaveGameString writes it
+	 * after the last move of a resigned game.
+	 *
+	 * @param board the Board to play on
+	 * @param index the position of the game in its batch
+	 * @param name  the name of the game
+	 * @param moves the lines of the game
+	 *
+	 * @return the result of the game
+	 */
+	public static ReplayResult replay(Board board, int index, String name,
+			Iterable<String> moves) {
+		board.setPosition(START);
+
+		ReplayResult.Outcome outcome = null;
+		PieceType.Color winner = null;
+
+		boolean drawOffered = false;
+		int plies = 0;
+		int line = -1;
+
+		for (String input : moves) {
+			++line;
+
+			final int parsed = MoveText.parse(input);
+			final int command = MoveText.command(parsed);
+
+			if (command == MoveText.BLANK) {
+				continue;
+			}
+
+			if (outcome != null) {
+				return new ReplayResult(index, name, plies, line, input,
+						"move after the end of the game");
+			}
+
+			if (command == MoveText.DRAW) {
+				if (drawOffered == false) {
+					return new ReplayResult(index, name, plies, line, input,
+							"draw was not offered");
+				}
+
+				outcome = ReplayResult.Outcome.DRAW;
+				continue;
+			}
+
+			if (MoveText.isMove(parsed)) {
+				final int move = MoveText.move(parsed);
+
+				drawOffered = command == MoveText.DRAW_OFFER;
+
+				final String error = play(board,
+						toPosition(PackedMove.from(move)),
+						toPosition(PackedMove.to(move)),
+						Board.promotionType(PackedMove.promotion(move)));
+
+				if (error != null) {
+					return new ReplayResult(index, name, plies, line, input,
+							error);
+				}
+
+				++plies;
+
+				if (board.isCheckmate()) {
+					outcome = ReplayResult.Outcome.CHECKMATE;
+					winner = board.isWhiteWinner() ? PieceType.Color.WHITE
+							: PieceType.Color.BLACK;
+				}
+			} else if (command != MoveText.RESIGN) {
+				return new ReplayResult(index, name, plies, line, input,
+						"unreadable move");
+			}
+
+			if (command == MoveText.RESIGN || MoveText.resigns(parsed)) {
+				if (outcome != null) {
+					return new ReplayResult(index, name, plies, line, input,
+							"unreadable move");
+				}
+
+				// The side to move resigns
+				outcome = ReplayResult.Outcome.RESIGNATION;
+				winner = board.getBitboard().getSideToMove() == Bitboard.WHITE
+						? PieceType.Color.BLACK : PieceType.Color.WHITE;
+			}
+		}
+
+		return new ReplayResult(index, name,
+				outcome == null ? ReplayResult.Outcome.UNFINISHED : outcome,
+				winner, plies);
+	}
+
+	/**
+	 * Plays a move for the side to move
+	 *
+	 * @return null if the move was played, or the reason it was not
+	 */
+	private static String play(Board board, Position from, Position to,
+			PieceType promoType) {
+		final PieceSet set = board.getBitboard().getSideToMove() == Bitboard.WHITE
+				? board.getWhiteSet() : board.getBlackSet();
+
+		final Piece piece = set.getPieceByPosition(from);
+
+		if (piece == null) {
+			return "no piece of the side to move on " + from;
+		}
+
+		if (from.equals(to) || board.movePiece(piece, set, to, promoType) == false) {
+			return "illegal move";
+		}
+
+		return null;
+	}
+
+	/**
+	 * Reads the moves of a saved game: the [MOVES] section of a .chess22 file
+	 * (see Game.generateSaveGameString), or every line of a file that does not
+	 * begin with [GAME_LIST]
+	 *
+	 * @param file the file to read
+	 *
+	 * @return the lines of the game, untrimmed
+	 *
+	 * @throws IOException if the file cannot be read
+	 */
+	public static List<String> readMoves(File file) throws IOException {
+		final BufferedReader reader = new BufferedReader(new InputStreamReader(
+				new FileInputStream(file), StandardCharsets.UTF_8));
+
+		try {
+			return readMoves(reader);
+		} finally {
+			reader.close();
+		}
+	}
+
+	/**
+	 * Reads the moves of a saved game, as readMoves(File) does
+	 *
+	 * @param reader the text of the game
+	 *
+	 * @return the lines of the game, untrimmed
+	 *
+	 * @throws IOException if the text cannot be read
+	 */
+	public static List<String> readMoves(BufferedReader reader)
+			throws IOException {
+		final List<String> moves = new ArrayList<String>();
+
+		String line = reader.readLine();
+
+		while (line != null && line.trim().isEmpty()) {
+			line = reader.readLine();
+		}
+
+		if (line == null) {
+			return moves;
+		}
+
+		if (line.trim().equals("[GAME_LIST]") == false) {
+			do {
+				moves.add(line);
+			} while ((line = reader.readLine()) != null);
+
+			return moves;
+		}
+
+		while ((line = reader.readLine()) != null
+				&& line.trim().equals("[MOVES]") == false) {
+			// [TITLE] and [DATE] are of no use to a replay
+		}
+
+		while ((line = reader.readLine()) != null
+				&& line.trim().equals("[/MOVES]") == false) {
+			moves.add(line);
+		}
+
+		return moves;
+	}
+
+	/**
+	 * Converts a square index to a Position
+	 */
+	private static Position toPosition(int square) {
+		return Position.of(square & 7, square >>> 3);
+	}
+
+	/**
+	 * Batch replay command. Usage: BatchRunner threads file...
+	 *
+	 * Prints the totals of the batch, then one line per failed game.
+	 *
+	 * @param args Command line arguments
+	 */
+	public static void main(String[] args) {
+		if (args.length < 2) {
+			System.err.println("Usage: BatchRunner threads file...");
+			return;
+		}
+
+		final List<File> files = new ArrayList<File>();
+
+		for (String path : Arrays.asList(args).subList(1, args.length)) {
+			files.add(new File(path));
+		}
+
+		final BatchResult result = new BatchRunner(Integer.parseInt(args[0]))
+				.replayFiles(files);
+
+		System.out.println(result);
+
+		for (ReplayResult failure : result.getFailures()) {
+			System.out.println(failure);
+		}
+	}
+}
@@ -24,6 +24,9 @@ import model.PieceType.Color;
 import model.chess_set.Board;
 import model.chess_set.Piece;
 import model.chess_set.PieceSet;
+import model.engine.ParallelSearch;
+import model.engine.SearchResult;
+import model.engine.TranspositionTable;
 
 final class GameReplay {
 
@@ -64,20 +67,6 @@ public final class Game {
 	private boolean validMoveInputWithDraw;
 	private boolean validMoveInputWithPromotion;
 
-	private static final String whiteSpaceRegex = "[ \\\\t\\\\n\\\\x0b\\\\r\\\\f]";
-	private static final String fileRankRegex = "[a-h][1-8]";
-	private static final String validFileRankRegex = String.format("%s%s%s",
-			fileRankRegex, whiteSpaceRegex, fileRankRegex);
-
-	private static final String drawRegex = "draw\\?";
-	private static final String validFileRankWithDrawRegex = String
-			.format("%s%s%s", validFileRankRegex, whiteSpaceRegex, drawRegex);
-
-	private static final String pieceRegex = "[qQbBnNrR]";
-
-	private static final String validFileRankWithPromotion = String
-			.format("%s%s%s", validFileRankRegex, whiteSpaceRegex, pieceRegex);
-
 	private String input;
 	private String output;
 
@@ -111,6 +100,8 @@ public final class Game {
 	
 	private List<String> moveListInputFile;
 
+	private TranspositionTable transpositionTable;
+
 	/**
 	 * Default constructor
 	 */
@@ -162,6 +153,8 @@ public final class Game {
 		
 		gameTitleString = "<untitled>";
 		gameDateString = gameStartTime.format(dateTimeFormatter);
+
+		transpositionTable = null;		// allocated by the first search
 	}
 	
 	/**
@@ -600,7 +593,7 @@ public final class Game {
 		PieceSet pieceSet = whitesMove ? white.pieceSetRef : black.pieceSetRef;
 
 		Piece piece = pieceSet
-				.getPieceByPosition(new Position(oldFile, oldRank));
+				.getPieceByPosition(Position.of(oldFile, oldRank));
 
 		if (piece != null) {
 			if (piece.isPawn()) {
@@ -619,6 +612,59 @@ public final class Game {
 		return canPromote;
 	}
 
+	/**
+	 * Searches the current position for the best move of the side to move.
+	 * The transposition table is kept from one call to the next.
+	 * 
+	 * @param maxMillis the time budget in milliseconds, or 0 for no limit
+	 * 
+	 * @return the best move (PackedMove.NULL_MOVE if there is none), its
+	 *         score, principal variation and nodes per second
+	 */
+	public SearchResult searchBestMove(long maxMillis) {
+		return searchBestMove(maxMillis, 1);
+	}
+
+	/**
+	 * Searches the current position for the best move of the side to move,
+	 * on several threads sharing one transposition table (see
+	 * ParallelSearch). The Board is not modified.
+	 * 
+	 * @param maxMillis the time budget in milliseconds, or 0 for no limit
+	 * @param threads   the number of search threads (at least 1)
+	 * 
+	 * @return the best move (PackedMove.NULL_MOVE if there is none), its
+	 *         score, principal variation and nodes per second
+	 */
+	public SearchResult searchBestMove(long maxMillis, int threads) {
+		if (transpositionTable == null) {
+			transpositionTable = new TranspositionTable();
+		}
+
+		final ParallelSearch search = new ParallelSearch(board,
+				transpositionTable, threads);
+		search.setMaxMillis(maxMillis);
+
+		/*
+		 * Board does not carry out castling, so castling moves are left out
+		 * at the root: the result must be playable through readInput.
+		 */
+		final MoveBuffer rootMoves = new MoveBuffer();
+		final MoveBuffer legalMoves = new MoveBuffer();
+
+		board.generateLegalMoves(legalMoves);
+
+		for (int i = 0; i < legalMoves.size(); i++) {
+			final int move = legalMoves.get(i);
+
+			if (PackedMove.flag(move) != PackedMove.CASTLE) {
+				rootMoves.add(move);
+			}
+		}
+
+		return search.search(rootMoves);
+	}
+
 	/**
 	 * Called by ChessActivity::movePiece, to determine the PieceType of a PAWN
 	 * (PAWN_0, PAWN_1, ...)
@@ -1182,7 +1228,11 @@ public final class Game {
 	 *              will end the game and the requester loses
 	 */
 	public void readInput(String input) {
-		if (input.equals("undo")) {
+		final int parsed = MoveText.parse(input);
+		final int command = MoveText.resigns(parsed) ? MoveText.INVALID
+				: MoveText.command(parsed);
+
+		if (command == MoveText.UNDO) {
 			output = "";
 			undoMove();
 			return;
@@ -1214,16 +1264,15 @@ public final class Game {
 			return;
 		}
 
-		int[] fileRankArray = null;
-
-		validMoveInput = false;
+		final boolean promotes = MoveText.isMove(parsed)
+				&& PackedMove.promotion(MoveText.move(parsed)) != 0;
 
-		validMoveInput = input.matches(validFileRankRegex);
-		validMoveInputWithDraw = input.matches(validFileRankWithDrawRegex);
-		validMoveInputWithPromotion = input.matches(validFileRankWithPromotion);
+		validMoveInput = command == MoveText.MOVE && !promotes;
+		validMoveInputWithDraw = command == MoveText.DRAW_OFFER;
+		validMoveInputWithPromotion = command == MoveText.MOVE && promotes;
 
-		drawGranted = willDraw && input.equals("draw");
-		willResign = input.equals("resign");
+		drawGranted = willDraw && command == MoveText.DRAW;
+		willResign = command == MoveText.RESIGN;
 
 		if (validMoveInput) {
 			willDraw = false;
@@ -1242,19 +1291,14 @@ public final class Game {
 
 		if (validMoveInput || validMoveInputWithPromotion
 				|| validMoveInputWithDraw) {
-			int file = -1;
-			int rank = -1;
-			int newFile = -1;
-			int newRank = -1;
-			int promo = -1;
+			final int move = MoveText.move(parsed);
 
-			fileRankArray = getFileRankArray(input);
-
-			file = fileRankArray[0];
-			rank = fileRankArray[1];
-			newFile = fileRankArray[2];
-			newRank = fileRankArray[3];
-			promo = fileRankArray[4];
+			final int file = PackedMove.from(move) & 7;
+			final int rank = PackedMove.from(move) >>> 3;
+			final int newFile = PackedMove.to(move) & 7;
+			final int newRank = PackedMove.to(move) >>> 3;
+			final int promo = Board.promotionType(PackedMove.promotion(move))
+					.ordinal();
 
 			if (whitesMove) {
 				validMoveInput = whitePlayMove(file, rank, newFile, newRank,
@@ -1264,6 +1308,10 @@ public final class Game {
 						promo);
 			}
 
+			if (validMoveInput && board.isCheck() && !board.isCheckmate()) {
+				System.out.println("Check");
+			}
+
 			if (board.checkPromoteWhite()) {
 				promoteWhite = true;
 			} else if (board.checkPromoteBlack()) {
@@ -1520,58 +1568,27 @@ public final class Game {
 
 	/**
 	 * Parses a line of input into an integer array of a Piece's current file
-	 * and rank, and the desired file and rank for a new Position
+	 * and rank, and the desired file and rank for a new Position (see
+	 * MoveText, which reads the line)
 	 * 
 	 * @param input a line of input
 	 * 
 	 * @return an integer array representing a Piece's current position and the
-	 *         desired position to move to
+	 *         desired position to move to, or null if the input is not a move
 	 */
 	public int[] getFileRankArray(String input) {
-		if (input.equals("draw") || input.equals("resign")) {
-			return null;
-		}
-
-		String fileRankStr = "";
-		String newFileNewRankStr = "";
-		String promoStr = null;
-
-		int file = -1;
-		int rank = -1;
-		int newFile = -1;
-		int newRank = -1;
-		int promo = -1;
-
-		int[] result = new int[5];
-
-		Scanner parse = new Scanner(input);
-		fileRankStr = parse.next(fileRankRegex).toLowerCase();
-		newFileNewRankStr = parse.next(fileRankRegex).toLowerCase();
+		final int parsed = MoveText.parse(input);
 
-		if (parse.hasNext()) {
-			promoStr = parse.next();
-			promoStr = promoStr.toUpperCase();
+		if (MoveText.isMove(parsed) == false) {
+			return null;
 		}
 
-		char chFile = fileRankStr.charAt(0);
-		char chNewFile = newFileNewRankStr.charAt(0);
-		char chPromo = promoStr != null ? promoStr.charAt(0) : '!';
-
-		file = Game.charToInt(chFile);
-		newFile = Game.charToInt(chNewFile);
-		promo = Game.charToInt(chPromo);
-
-		rank = Integer.parseInt(fileRankStr.substring(1)) - 1;
-		newRank = Integer.parseInt(newFileNewRankStr.substring(1)) - 1;
+		final int move = MoveText.move(parsed);
 
-		result[0] = file;
-		result[1] = rank;
-		result[2] = newFile;
-		result[3] = newRank;
-		result[4] = promo;
-
-		parse.close();
-		return result;
+		return new int[] { PackedMove.from(move) & 7,
+				PackedMove.from(move) >>> 3, PackedMove.to(move) & 7,
+				PackedMove.to(move) >>> 3,
+				Board.promotionType(PackedMove.promotion(move)).ordinal() };
 	}
 
 	/**
@@ -1642,8 +1659,8 @@ public final class Game {
 	 */
 	private boolean whitePlayMove(int file, int rank, int newFile, int newRank,
 			int promo) {
-		whitePlay = new Position(file, rank);
-		whiteNewPosition = new Position(newFile, newRank);
+		whitePlay = Position.of(file, rank);
+		whiteNewPosition = Position.of(newFile, newRank);
 
 		return white.playMove(whitePlay, whiteNewPosition, promo);
 	}
@@ -1661,8 +1678,8 @@ public final class Game {
 	 */
 	private boolean blackPlayMove(int file, int rank, int newFile, int newRank,
 			int promo) {
-		blackPlay = new Position(file, rank);
-		blackNewPosition = new Position(newFile, newRank);
+		blackPlay = Position.of(file, rank);
+		blackNewPosition = Position.of(newFile, newRank);
 
 		return black.playMove(blackPlay, blackNewPosition, promo);
 	}
@@ -0,0 +1,536 @@
+/**
+ * ImportPipeline.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj.
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package model.game;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import model.PieceType;
+import model.chess_set.Board;
+
+/**
+ * Imports a corpus of games -- PGN archives and .chess22 files -- on every
+ * core of the machine. The list of files is split in halves on a
+ * ForkJoinPool, and so is each PGN archive: each cut is moved forward to
+ * the start of the next game's tags, down to chunks of about chunkSize
+ * bytes. Every chunk is read by a PgnReader of its own, which resolves each
+ * move against the legal moves of its position; every .chess22 file is
+ * replayed through Board, as BatchRunner replays it.
+ *
+ * Results are merged as the halves are joined, so the totals and failures
+ * of the BatchResult come back in input order: game n of the corpus is the
+ * nth game of the files, in the order given. A failed PGN game is named by
+ * its file and its number within the file, e.g. "twic1500.pgn game 12".
+ *
+ * PGN does not record how a decisive game was lost: a game won without
+ * checkmate on the board counts as a RESIGNATION.
+ *
+ * An ImportPipeline made with a number of threads owns its pool, and shuts
+ * it down when closed; one made with a pool leaves it to the caller.
+ *
+ * @version Oct 18, 2026
+ * @author gemuelealudino
+ */
+public final class ImportPipeline implements AutoCloseable {
+
+	/**
+	 * Size of the PGN chunks read by one task, in bytes, unless given
+	 */
+	public static final int CHUNK_SIZE = 1 << 20;
+
+	/**
+	 * Most .chess22 files replayed by one task, on one Board
+	 */
+	private static final int FILES_PER_TASK = 16;
+
+	private static final int SCAN_SIZE = 1 << 12;
+
+	private final ForkJoinPool pool;
+	private final boolean ownsPool;
+	private final int chunkSize;
+
+	/**
+	 * Parameterized constructor; the pool it starts is shut down by close
+	 *
+	 * @param parallelism the number of worker threads (at least 1)
+	 */
+	public ImportPipeline(int parallelism) {
+		this(new ForkJoinPool(parallelism), true, CHUNK_SIZE);
+	}
+
+	/**
+	 * Parameterized constructor; the pool is left running by close
+	 *
+	 * @param pool      the pool to run on
+	 * @param chunkSize the size of the PGN chunks read by one task, in bytes
+	 *
+	 * @throws IllegalArgumentException if chunkSize is less than 1
+	 */
+	public ImportPipeline(ForkJoinPool pool, int chunkSize) {
+		this(pool, false, chunkSize);
+	}
+
+	private ImportPipeline(ForkJoinPool pool, boolean ownsPool,
+			int chunkSize) {
+		if (chunkSize < 1) {
+			throw new IllegalArgumentException(
+					"Chunk size must be positive: " + chunkSize);
+		}
+
+		this.pool = pool;
+		this.ownsPool = ownsPool;
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Imports a corpus
+	 *
+	 * @param files the files to import: PGN archives (ending in ".pgn") and
+	 *              .chess22 files
+	 *
+	 * @return the totals of the corpus, with its failed games in input
+	 *         order; a file that cannot be read is a failed game
+	 */
+	public BatchResult importFiles(List<File> files) {
+		final long start = System.nanoTime();
+		final Tally tally = pool.invoke(
+				new FilesTask(files, 0, files.size(), chunkSize));
+
+		return tally.toResult(System.nanoTime() - start);
+	}
+
+	/**
+	 * Shuts down the pool, if this ImportPipeline started it; imports under
+	 * way are finished first
+	 */
+	@Override
+	public void close() {
+		if (ownsPool) {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Determines if a file is a PGN archive, by its name
+	 */
+	private static boolean isPgn(File file) {
+		return file.getName().toLowerCase().endsWith(".pgn");
+	}
+
+	/**
+	 * Imports a PGN archive, split into chunks, and names its failed games
+	 */
+	private static Tally importPgn(File file, int chunkSize) {
+		final String path = file.getPath();
+		final Tally tally;
+
+		try {
+			final FileChannel channel = new FileInputStream(file).getChannel();
+
+			try {
+				tally = new PgnTask(channel, path, 0, channel.size(),
+						chunkSize).invoke();
+			} finally {
+				channel.close();
+			}
+		} catch (IOException e) {
+			final Tally failed = new Tally();
+			failed.add(new ReplayResult(0, path, 0, -1, null,
+					"cannot read: " + e.getMessage()));
+			return failed;
+		}
+
+		for (int i = 0; i < tally.failures.size(); i++) {
+			final ReplayResult failure = tally.failures.get(i);
+
+			tally.failures.set(i, failure.renumber(failure.getIndex(),
+					path + " game " + (failure.getIndex() + 1)));
+		}
+
+		return tally;
+	}
+
+	/**
+	 * Converts a game read by PgnReader to a ReplayResult
+	 */
+	private static ReplayResult toResult(PgnGame game, int index,
+			String name) {
+		if (game.isValid() == false) {
+			return new ReplayResult(index, name, game.getPlies(), -1, null,
+					game.getError());
+		}
+
+		final String result = game.getResult();
+		final ReplayResult.Outcome decisive = game.isCheckmate()
+				? ReplayResult.Outcome.CHECKMATE
+				: ReplayResult.Outcome.RESIGNATION;
+
+		if ("1-0".equals(result)) {
+			return new ReplayResult(index, name, decisive,
+					PieceType.Color.WHITE, game.getPlies());
+		} else if ("0-1".equals(result)) {
+			return new ReplayResult(index, name, decisive,
+					PieceType.Color.BLACK, game.getPlies());
+		} else if ("1/2-1/2".equals(result)) {
+			return new ReplayResult(index, name, ReplayResult.Outcome.DRAW,
+					null, game.getPlies());
+		}
+
+		return new ReplayResult(index, name, ReplayResult.Outcome.UNFINISHED,
+				null, game.getPlies());
+	}
+
+	/**
+	 * Finds where the next game begins, after a given offset of a PGN
+	 * archive: the first line opening with "[" that follows a whole line
+	 * that does not (a blank line, or movetext)
+	 *
+	 * @return the offset of the game's first tag, or end if there is none
+	 */
+	private static long nextGameStart(FileChannel channel, long from,
+			long end) throws IOException {
+		final ByteBuffer buffer = ByteBuffer.allocate(SCAN_SIZE);
+		final byte[] bytes = buffer.array();
+
+		boolean atLineStart = false;	// from may fall within a line
+		boolean inLine = false;			// within a line seen from its start
+		boolean lineIsTag = false;
+		boolean previousKnown = false;
+		boolean previousIsTag = false;
+
+		for (long pos = from; pos < end;) {
+			buffer.clear();
+
+			if (end - pos < SCAN_SIZE) {
+				buffer.limit((int) (end - pos));
+			}
+
+			final int n = channel.read(buffer, pos);
+
+			if (n <= 0) {
+				break;
+			}
+
+			for (int i = 0; i < n; i++) {
+				final byte c = bytes[i];
+
+				if (atLineStart && c != '\n') {
+					lineIsTag = c == '[';
+
+					if (lineIsTag && previousKnown && previousIsTag == false) {
+						return pos + i;
+					}
+
+					atLineStart = false;
+					inLine = true;
+				}
+
+				if (c == '\n') {
+					if (inLine || atLineStart) {
+						previousKnown = true;
+						previousIsTag = inLine && lineIsTag;
+					}
+
+					atLineStart = true;
+					inLine = false;
+				}
+			}
+
+			pos += n;
+		}
+
+		return end;
+	}
+
+	/**
+	 * Games replayed, by outcome, and the failures among them, in input order
+	 */
+	private static final class Tally {
+
+		private int games;
+		private long plies;
+		private final int[] outcomeCounts =
+				new int[ReplayResult.Outcome.values().length];
+		private final List<ReplayResult> failures =
+				new ArrayList<ReplayResult>();
+
+		/**
+		 * Counts one more game
+		 */
+		void add(ReplayResult result) {
+			++games;
+			plies += result.getPlies();
+			++outcomeCounts[result.getOutcome().ordinal()];
+
+			if (result.isInvalid()) {
+				failures.add(result);
+			}
+		}
+
+		/**
+		 * Counts the games of the part of the input that follows this one
+		 */
+		void append(Tally next) {
+			for (ReplayResult failure : next.failures) {
+				failures.add(failure.renumber(games + failure.getIndex(),
+						failure.getName()));
+			}
+
+			games += next.games;
+			plies += next.plies;
+
+			for (int i = 0; i < outcomeCounts.length; i++) {
+				outcomeCounts[i] += next.outcomeCounts[i];
+			}
+		}
+
+		BatchResult toResult(long elapsedNanos) {
+			return new BatchResult(games, plies, outcomeCounts, failures,
+					elapsedNanos);
+		}
+	}
+
+	/**
+	 * Imports files lo to hi - 1 of a list, in halves
+	 */
+	private static final class FilesTask extends RecursiveTask<Tally> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final List<File> files;
+		private final int lo;
+		private final int hi;
+		private final int chunkSize;
+
+		FilesTask(List<File> files, int lo, int hi, int chunkSize) {
+			this.files = files;
+			this.lo = lo;
+			this.hi = hi;
+			this.chunkSize = chunkSize;
+		}
+
+		@Override
+		protected Tally compute() {
+			if (hi - lo == 1 && isPgn(files.get(lo))) {
+				return importPgn(files.get(lo), chunkSize);
+			}
+
+			boolean anyPgn = false;
+
+			for (int i = lo; i < hi && anyPgn == false; i++) {
+				anyPgn = isPgn(files.get(i));
+			}
+
+			if (hi - lo > FILES_PER_TASK || anyPgn) {
+				final int mid = (lo + hi) >>> 1;
+
+				final FilesTask left = new FilesTask(files, lo, mid, chunkSize);
+				left.fork();
+
+				final Tally right =
+						new FilesTask(files, mid, hi, chunkSize).compute();
+				final Tally tally = left.join();
+
+				tally.append(right);
+				return tally;
+			}
+
+			final Tally tally = new Tally();
+
+			if (hi > lo) {
+				final Board board = new Board();
+
+				for (int i = lo; i < hi; i++) {
+					tally.add(BatchRunner.replayFile(board, i - lo,
+							files.get(i)));
+				}
+			}
+
+			return tally;
+		}
+	}
+
+	/**
+	 * Reads bytes start to end - 1 of a PGN archive, in halves cut at game
+	 * boundaries
+	 */
+	private static final class PgnTask extends RecursiveTask<Tally> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final FileChannel channel;
+		private final String path;
+		private final long start;
+		private final long end;
+		private final int chunkSize;
+
+		PgnTask(FileChannel channel, String path, long start, long end,
+				int chunkSize) {
+			this.channel = channel;
+			this.path = path;
+			this.start = start;
+			this.end = end;
+			this.chunkSize = chunkSize;
+		}
+
+		@Override
+		protected Tally compute() {
+			long cut = end;
+
+			if (end - start > chunkSize) {
+				try {
+					cut = nextGameStart(channel, start + (end - start) / 2,
+							end);
+				} catch (IOException e) {
+					cut = end;		// read the whole range, and fail there
+				}
+			}
+
+			if (cut < end) {
+				final PgnTask left =
+						new PgnTask(channel, path, start, cut, chunkSize);
+				left.fork();
+
+				final Tally right =
+						new PgnTask(channel, path, cut, end, chunkSize).compute();
+				final Tally tally = left.join();
+
+				tally.append(right);
+				return tally;
+			}
+
+			return read();
+		}
+
+		/**
+		 * Reads the games of this task's range, one after the other
+		 */
+		private Tally read() {
+			final Tally tally = new Tally();
+			final PgnGame game = new PgnGame();
+			final PgnReader reader = new PgnReader(
+					new RangeChannel(channel, start, end),
+					(int) Math.min(PgnReader.DEFAULT_BUFFER_SIZE,
+							Math.max(1, end - start)));
+
+			try {
+				while (reader.next(game)) {
+					tally.add(toResult(game, tally.games, path));
+				}
+			} catch (IOException e) {
+				tally.add(new ReplayResult(tally.games, path, 0, -1, null,
+						"cannot read: " + e.getMessage()));
+			}
+
+			return tally;
+		}
+	}
+
+	/**
+	 * A range of a FileChannel, read with absolute positions, so that many
+	 * tasks may read the same file at once
+	 */
+	private static final class RangeChannel implements ReadableByteChannel {
+
+		private final FileChannel channel;
+		private long position;
+		private final long end;
+
+		RangeChannel(FileChannel channel, long start, long end) {
+			this.channel = channel;
+			this.position = start;
+			this.end = end;
+		}
+
+		@Override
+		public int read(ByteBuffer dst) throws IOException {
+			final long remaining = end - position;
+
+			if (remaining <= 0) {
+				return -1;
+			}
+
+			final int limit = dst.limit();
+			int n;
+
+			if (dst.remaining() > remaining) {
+				dst.limit(dst.position() + (int) remaining);
+			}
+
+			try {
+				n = channel.read(dst, position);
+			} finally {
+				dst.limit(limit);
+			}
+
+			if (n > 0) {
+				position += n;
+			}
+
+			return n;
+		}
+
+		@Override
+		public boolean isOpen() {
+			return channel.isOpen();
+		}
+
+		@Override
+		public void close() {
+			// the channel is closed once the whole archive is read
+		}
+	}
+
+	/**
+	 * Bulk import command. Usage: ImportPipeline threads file...
+	 *
+	 * Prints the totals of the corpus, then one line per failed game.
+	 *
+	 * @param args Command line arguments
+	 */
+	public static void main(String[] args) {
+		if (args.length < 2) {
+			System.err.println("Usage: ImportPipeline threads file...");
+			return;
+		}
+
+		final List<File> files = new ArrayList<File>();
+
+		for (String path : Arrays.asList(args).subList(1, args.length)) {
+			files.add(new File(path));
+		}
+
+		final ImportPipeline pipeline =
+				new ImportPipeline(Integer.parseInt(args[0]));
+		final BatchResult result;
+
+		try {
+			result = pipeline.importFiles(files);
+		} finally {
+			pipeline.close();
+		}
+
+		System.out.println(result);
+
+		for (ReplayResult failure : result.getFailures()) {
+			System.out.println(failure);
+		}
+	}
+}
@@ -0,0 +1,139 @@
+/**
+ * MoveBuffer.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj.
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package model.game;
+
+/**
+ * A reusable list of PackedMove values, backed by a fixed int array. Callers
+ * create one MoveBuffer and pass it to Board::generateLegalMoves as often as
+ * they like -- nothing is allocated once the buffer exists.
+ *
+ * @version Oct 18, 2026
+ * @author gemuelealudino
+ */
+public final class MoveBuffer {
+
+	/**
+	 * No legal chess position has more than 218 moves
+	 */
+	public static final int DEFAULT_CAPACITY = 256;
+
+	private final int[] moves;
+	private int size;
+
+	/**
+	 * Default constructor
+	 */
+	public MoveBuffer() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param capacity the maximum number of moves to hold
+	 */
+	public MoveBuffer(int capacity) {
+		moves = new int[capacity];
+		size = 0;
+	}
+
+	/**
+	 * Empties the buffer
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Appends an encoded move to the buffer
+	 *
+	 * @param move the encoded move, as per PackedMove
+	 */
+	public void add(int move) {
+		moves[size++] = move;
+	}
+
+	/**
+	 * Retrieves an encoded move by index
+	 *
+	 * @param index 0 to size() - 1
+	 *
+	 * @return the encoded move at index
+	 */
+	public int get(int index) {
+		return moves[index];
+	}
+
+	/**
+	 * Replaces an encoded move by index (used when sorting in place)
+	 *
+	 * @param index 0 to size() - 1
+	 * @param move  the encoded move to store
+	 */
+	public void set(int index, int move) {
+		moves[index] = move;
+	}
+
+	/**
+	 * Drops every move from a given index onward
+	 *
+	 * @param size the number of moves to keep (at most size())
+	 */
+	public void truncate(int size) {
+		this.size = Math.min(this.size, size);
+	}
+
+	/**
+	 * Accessor to retrieve the number of moves held
+	 *
+	 * @return the number of moves in the buffer
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Determines if the buffer holds no moves
+	 *
+	 * @return true if empty, false otherwise
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Determines if the buffer holds a given encoded move
+	 *
+	 * @param move the encoded move to find
+	 *
+	 * @return true if found, false otherwise
+	 */
+	public boolean contains(int move) {
+		for (int i = 0; i < size; i++) {
+			if (moves[i] == move) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	@Override
+	public String toString() {
+		String str = "";
+
+		for (int i = 0; i < size; i++) {
+			str += PackedMove.toString(moves[i]) + "\n";
+		}
+
+		return str;
+	}
+}
@@ -0,0 +1,342 @@
+/**
+ * MoveText.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj.
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package model.game;
+
+import model.chess_set.Bitboard;
+
+/**
+ * Reads a line of move text, as typed into Game::readInput or saved in a
+ * .chess22 file, into a single int without allocating: no regex, Scanner,
+ * substring or boxing. Text may be given as a CharSequence or as a range of
+ * ASCII bytes, so that a file can be parsed straight from its buffer.
+ *
+ * <pre>
+ * "e2 e4"          MOVE
+ * "e7 e8 Q"        MOVE, with a promotion (Q, B, N or R, either case)
+ * "e2 e4 draw?"    DRAW_OFFER, a move that offers a draw
+ * "draw"           DRAW, accepting an offer
+ * "resign"         RESIGN
+ * "undo"           UNDO
+ * ""               BLANK (whitespace only)
+ * </pre>
+ *
+ * A move may be followed by "resign", as Game::generateSaveGameString writes
+ * it after the last move of a resigned game (see resigns). Tokens are
+ * separated by whitespace; leading and trailing whitespace is ignored.
+ * Anything else is INVALID.
+ *
+ * <pre>
+ * bits  0 - 14   the move, as a PackedMove (origin, destination, promotion)
+ * bits 24 - 26   command (INVALID - BLANK)
+ * bit  27        set if the move is followed by "resign"
+ * </pre>
+ *
+ * @version Oct 18, 2026
+ * @author gemuelealudino
+ */
+public final class MoveText {
+
+	/**
+	 * Commands a line of text may hold
+	 */
+	public static final int INVALID = 0;
+	public static final int MOVE = 1;
+	public static final int DRAW_OFFER = 2;
+	public static final int DRAW = 3;
+	public static final int RESIGN = 4;
+	public static final int UNDO = 5;
+	public static final int BLANK = 6;
+
+	private static final int MOVE_MASK = (1 << 15) - 1;
+
+	private static final int COMMAND_SHIFT = 24;
+	private static final int COMMAND_MASK = 0x7;
+
+	private static final int RESIGNS_BIT = 1 << 27;
+
+	private static final String WORD_DRAW = "draw";
+	private static final String WORD_DRAW_OFFER = "draw?";
+	private static final String WORD_RESIGN = "resign";
+	private static final String WORD_UNDO = "undo";
+
+	private MoveText() {
+
+	}
+
+	/**
+	 * Parses a line of text
+	 *
+	 * @param text the line to parse
+	 *
+	 * @return the parsed line, INVALID (0) if it cannot be read
+	 */
+	public static int parse(CharSequence text) {
+		return parse(text, null, 0, text.length());
+	}
+
+	/**
+	 * Parses part of a line of text
+	 *
+	 * @param text  the text to parse
+	 * @param start the index of the first char to read
+	 * @param end   the index after the last char to read
+	 *
+	 * @return the parsed line, INVALID (0) if it cannot be read
+	 */
+	public static int parse(CharSequence text, int start, int end) {
+		return parse(text, null, start, end);
+	}
+
+	/**
+	 * Parses a line of ASCII text from a byte buffer
+	 *
+	 * @param bytes  the buffer to read
+	 * @param offset the index of the first byte to read
+	 * @param length the number of bytes to read
+	 *
+	 * @return the parsed line, INVALID (0) if it cannot be read
+	 */
+	public static int parse(byte[] bytes, int offset, int length) {
+		return parse(null, bytes, offset, offset + length);
+	}
+
+	/**
+	 * Retrieves the command of a parsed line
+	 *
+	 * @param parsed a value returned by parse
+	 *
+	 * @return INVALID, MOVE, DRAW_OFFER, DRAW, RESIGN, UNDO or BLANK
+	 */
+	public static int command(int parsed) {
+		return (parsed >>> COMMAND_SHIFT) & COMMAND_MASK;
+	}
+
+	/**
+	 * Determines if a parsed line holds a move (MOVE or DRAW_OFFER)
+	 *
+	 * @param parsed a value returned by parse
+	 *
+	 * @return true if the line holds a move, false otherwise
+	 */
+	public static boolean isMove(int parsed) {
+		final int command = command(parsed);
+
+		return command == MOVE || command == DRAW_OFFER;
+	}
+
+	/**
+	 * Retrieves the move of a parsed line. Its moved and captured kinds and
+	 * flag are not recorded; see PackedMove.
+	 *
+	 * @param parsed a value returned by parse, for which isMove is true
+	 *
+	 * @return the move, encoded as a PackedMove
+	 */
+	public static int move(int parsed) {
+		return parsed & MOVE_MASK;
+	}
+
+	/**
+	 * Determines if a parsed move is followed by "resign"
+	 *
+	 * @param parsed a value returned by parse
+	 *
+	 * @return true if the mover's opponent resigns after the move, false
+	 *         otherwise
+	 */
+	public static boolean resigns(int parsed) {
+		return (parsed & RESIGNS_BIT) != 0;
+	}
+
+	/**
+	 * Parses text from either a CharSequence or a byte buffer, whichever is
+	 * not null
+	 */
+	private static int parse(CharSequence text, byte[] bytes, int start,
+			int end) {
+		while (start < end && isSpace(charAt(text, bytes, start))) {
+			++start;
+		}
+
+		while (end > start && isSpace(charAt(text, bytes, end - 1))) {
+			--end;
+		}
+
+		if (start == end) {
+			return BLANK << COMMAND_SHIFT;
+		}
+
+		if (isWord(text, bytes, start, end, WORD_UNDO)) {
+			return UNDO << COMMAND_SHIFT;
+		} else if (isWord(text, bytes, start, end, WORD_DRAW)) {
+			return DRAW << COMMAND_SHIFT;
+		} else if (isWord(text, bytes, start, end, WORD_RESIGN)) {
+			return RESIGN << COMMAND_SHIFT;
+		}
+
+		// origin square, whitespace, destination square
+		if (end - start < 5) {
+			return INVALID;
+		}
+
+		final int from = square(charAt(text, bytes, start),
+				charAt(text, bytes, start + 1));
+
+		int i = skipSpace(text, bytes, start + 2, end);
+
+		if (from < 0 || i == start + 2 || end - i < 2) {
+			return INVALID;
+		}
+
+		final int to = square(charAt(text, bytes, i),
+				charAt(text, bytes, i + 1));
+
+		if (to < 0) {
+			return INVALID;
+		}
+
+		int command = MOVE;
+		int promotion = 0;
+		int resigns = 0;
+
+		i += 2;
+
+		// then a promotion or a draw offer, then "resign"
+		if (i < end) {
+			final int next = skipSpace(text, bytes, i, end);
+
+			if (next == i) {
+				return INVALID;
+			}
+
+			i = next;
+
+			if (end - i == 1 || isSpace(charAt(text, bytes, i + 1))) {
+				promotion = promotion(charAt(text, bytes, i));
+
+				if (promotion == 0) {
+					return INVALID;
+				}
+
+				i = skipSpace(text, bytes, i + 1, end);
+			} else if (startsWithWord(text, bytes, i, end, WORD_DRAW_OFFER)) {
+				command = DRAW_OFFER;
+				i = skipSpace(text, bytes, i + WORD_DRAW_OFFER.length(), end);
+			}
+
+			if (i < end) {
+				if (isWord(text, bytes, i, end, WORD_RESIGN) == false) {
+					return INVALID;
+				}
+
+				resigns = RESIGNS_BIT;
+			}
+		}
+
+		return PackedMove.of(from, to, promotion, PackedMove.NORMAL)
+				| (command << COMMAND_SHIFT) | resigns;
+	}
+
+	/**
+	 * Retrieves the char at an index, from a CharSequence or a byte buffer
+	 */
+	private static char charAt(CharSequence text, byte[] bytes, int i) {
+		return text != null ? text.charAt(i) : (char) (bytes[i] & 0xFF);
+	}
+
+	/**
+	 * Determines if a char separates tokens
+	 */
+	private static boolean isSpace(char ch) {
+		return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r'
+				|| ch == '\f' || ch == 0x0B;
+	}
+
+	/**
+	 * Returns the index of the first char from i that is not whitespace, or
+	 * end
+	 */
+	private static int skipSpace(CharSequence text, byte[] bytes, int i,
+			int end) {
+		while (i < end && isSpace(charAt(text, bytes, i))) {
+			++i;
+		}
+
+		return i;
+	}
+
+	/**
+	 * Determines if the text from start to end is exactly a word
+	 */
+	private static boolean isWord(CharSequence text, byte[] bytes, int start,
+			int end, String word) {
+		return end - start == word.length()
+				&& startsWithWord(text, bytes, start, end, word);
+	}
+
+	/**
+	 * Determines if a word, followed by whitespace or the end, begins at start
+	 */
+	private static boolean startsWithWord(CharSequence text, byte[] bytes,
+			int start, int end, String word) {
+		final int length = word.length();
+
+		if (end - start < length) {
+			return false;
+		}
+
+		for (int i = 0; i < length; i++) {
+			if (charAt(text, bytes, start + i) != word.charAt(i)) {
+				return false;
+			}
+		}
+
+		return start + length == end
+				|| isSpace(charAt(text, bytes, start + length));
+	}
+
+	/**
+	 * Converts a file and rank, such as 'e' and '2', to a square index
+	 *
+	 * @return the square index, or -1 if not a square
+	 */
+	private static int square(char file, char rank) {
+		if (file < 'a' || file > 'h' || rank < '1' || rank > '8') {
+			return -1;
+		}
+
+		return Bitboard.square(file - 'a', rank - '1');
+	}
+
+	/**
+	 * Converts a promotion letter to a Bitboard kind
+	 *
+	 * @return KNIGHT, BISHOP, ROOK or QUEEN, or 0 if not a promotion letter
+	 */
+	private static int promotion(char ch) {
+		switch (ch) {
+		case 'Q':
+		case 'q':
+			return Bitboard.QUEEN;
+		case 'B':
+		case 'b':
+			return Bitboard.BISHOP;
+		case 'N':
+		case 'n':
+			return Bitboard.KNIGHT;
+		case 'R':
+		case 'r':
+			return Bitboard.ROOK;
+		default:
+			return 0;
+		}
+	}
+}
@@ -0,0 +1,273 @@
+/**
+ * PackedMove.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj.
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package model.game;
+
+import model.chess_set.Bitboard;
+
+/**
+ * Encodes a move as a single int, so that move lists can be filled without
+ * allocating a Move per entry. Squares are Bitboard square indices and piece
+ * kinds are Bitboard kinds.
+ *
+ * <pre>
+ * bits  0 -  5   origin square
+ * bits  6 - 11   destination square
+ * bits 12 - 14   promotion kind (KNIGHT - QUEEN), or 0 if none
+ * bits 15 - 17   flag (NORMAL, DOUBLE_PUSH, EN_PASSANT, or CASTLE)
+ * bits 18 - 20   moved kind + 1, or 0 if not recorded
+ * bits 21 - 23   captured kind + 1, or 0 if none
+ * </pre>
+ *
+ * MoveGenerator fills in the moved and captured kinds. Moves built from
+ * squares alone (e.g. parsed from text) leave them 0; Bitboard::makeMove does
+ * not depend on them.
+ *
+ * @version Oct 18, 2026
+ * @author gemuelealudino
+ */
+public final class PackedMove {
+
+	/**
+	 * Flags for moves that need more than a piece relocation
+	 */
+	public static final int NORMAL = 0;
+	public static final int DOUBLE_PUSH = 1;
+	public static final int EN_PASSANT = 2;
+	public static final int CASTLE = 3;
+
+	/**
+	 * Value used where no move is available
+	 */
+	public static final int NULL_MOVE = 0;
+
+	private static final int SQUARE_MASK = 0x3F;
+	private static final int FIELD_MASK = 0x7;
+
+	private static final int TO_SHIFT = 6;
+	private static final int PROMOTION_SHIFT = 12;
+	private static final int FLAG_SHIFT = 15;
+	private static final int MOVED_SHIFT = 18;
+	private static final int CAPTURED_SHIFT = 21;
+
+	private static final int SQUARES_MASK = (1 << MOVED_SHIFT) - 1;
+
+	private static final String FILES = "abcdefgh";
+	private static final String PROMOTION_SUFFIX = " NBRQ";
+
+	private PackedMove() {
+
+	}
+
+	/**
+	 * Encodes a plain move
+	 *
+	 * @param from the origin square index
+	 * @param to   the destination square index
+	 *
+	 * @return the encoded move
+	 */
+	public static int of(int from, int to) {
+		return from | (to << TO_SHIFT);
+	}
+
+	/**
+	 * Encodes a move with a promotion kind and flag
+	 *
+	 * @param from      the origin square index
+	 * @param to        the destination square index
+	 * @param promotion KNIGHT, BISHOP, ROOK, QUEEN, or 0 if none
+	 * @param flag      NORMAL, DOUBLE_PUSH, EN_PASSANT, or CASTLE
+	 *
+	 * @return the encoded move
+	 */
+	public static int of(int from, int to, int promotion, int flag) {
+		return from | (to << TO_SHIFT) | (promotion << PROMOTION_SHIFT)
+				| (flag << FLAG_SHIFT);
+	}
+
+	/**
+	 * Encodes a move with every field
+	 *
+	 * @param from      the origin square index
+	 * @param to        the destination square index
+	 * @param moved     the kind of the moving piece
+	 * @param captured  the kind of the captured piece, or Bitboard.NONE
+	 * @param promotion KNIGHT, BISHOP, ROOK, QUEEN, or 0 if none
+	 * @param flag      NORMAL, DOUBLE_PUSH, EN_PASSANT, or CASTLE
+	 *
+	 * @return the encoded move
+	 */
+	public static int of(int from, int to, int moved, int captured,
+			int promotion, int flag) {
+		return from | (to << TO_SHIFT) | (promotion << PROMOTION_SHIFT)
+				| (flag << FLAG_SHIFT) | ((moved + 1) << MOVED_SHIFT)
+				| ((captured + 1) << CAPTURED_SHIFT);
+	}
+
+	/**
+	 * Retrieves the origin square of an encoded move
+	 *
+	 * @param move the encoded move
+	 *
+	 * @return the origin square index
+	 */
+	public static int from(int move) {
+		return move & SQUARE_MASK;
+	}
+
+	/**
+	 * Retrieves the destination square of an encoded move
+	 *
+	 * @param move the encoded move
+	 *
+	 * @return the destination square index
+	 */
+	public static int to(int move) {
+		return (move >>> TO_SHIFT) & SQUARE_MASK;
+	}
+
+	/**
+	 * Retrieves the promotion kind of an encoded move
+	 *
+	 * @param move the encoded move
+	 *
+	 * @return KNIGHT, BISHOP, ROOK, QUEEN, or 0 if not a promotion
+	 */
+	public static int promotion(int move) {
+		return (move >>> PROMOTION_SHIFT) & FIELD_MASK;
+	}
+
+	/**
+	 * Retrieves the flag of an encoded move
+	 *
+	 * @param move the encoded move
+	 *
+	 * @return NORMAL, DOUBLE_PUSH, EN_PASSANT, or CASTLE
+	 */
+	public static int flag(int move) {
+		return (move >>> FLAG_SHIFT) & FIELD_MASK;
+	}
+
+	/**
+	 * Retrieves the kind of the moving piece of an encoded move
+	 *
+	 * @param move the encoded move
+	 *
+	 * @return PAWN through KING, or Bitboard.NONE if not recorded
+	 */
+	public static int moved(int move) {
+		return ((move >>> MOVED_SHIFT) & FIELD_MASK) - 1;
+	}
+
+	/**
+	 * Retrieves the kind of the captured piece of an encoded move
+	 *
+	 * @param move the encoded move
+	 *
+	 * @return PAWN through QUEEN, or Bitboard.NONE if nothing is captured
+	 *         (or the capture was not recorded)
+	 */
+	public static int captured(int move) {
+		return ((move >>> CAPTURED_SHIFT) & FIELD_MASK) - 1;
+	}
+
+	/**
+	 * Determines if an encoded move captures a piece
+	 *
+	 * @param move the encoded move
+	 *
+	 * @return true if a capture is recorded, false otherwise
+	 */
+	public static boolean isCapture(int move) {
+		return (move >>> CAPTURED_SHIFT) != 0;
+	}
+
+	/**
+	 * Determines if two encoded moves describe the same move, whether or not
+	 * their moved and captured kinds were recorded
+	 *
+	 * @param a an encoded move
+	 * @param b another encoded move
+	 *
+	 * @return true if squares, promotion and flag match, false otherwise
+	 */
+	public static boolean sameMove(int a, int b) {
+		return ((a ^ b) & SQUARES_MASK) == 0;
+	}
+
+	/**
+	 * Encodes a Move logged by Board (see Board::toMove for the reverse)
+	 *
+	 * @param move the Move to encode (not a kill entry)
+	 * @param kill the kill entry logged with move, or null if none
+	 *
+	 * @return the encoded move
+	 */
+	public static int fromMove(Move move, Move kill) {
+		final Position start = move.getStartPosition();
+		final Position end = move.getEndPosition();
+
+		final int from = Bitboard.square(start.getFile(), start.getRank());
+		final int to = Bitboard.square(end.getFile(), end.getRank());
+
+		final boolean promoted = move.getPromotedFrom() != null;
+		final int moved = promoted ? Bitboard.PAWN
+				: Bitboard.kindOf(move.getLastPiece());
+		final int promotion = promoted ? Bitboard.kindOf(move.getLastPiece())
+				: 0;
+
+		int captured = kill == null ? Bitboard.NONE
+				: Bitboard.kindOf(kill.getLastPiece());
+		int flag = NORMAL;
+
+		if (moved == Bitboard.PAWN) {
+			final int rankDistance = Math.abs(end.getRank() - start.getRank());
+			final boolean diagonal = end.getFile() != start.getFile();
+
+			if (rankDistance == 2) {
+				flag = DOUBLE_PUSH;
+			} else if (diagonal && kill == null) {
+				// Board logs no kill for en passant: the pawn taken was
+				// not on the destination square.
+				flag = EN_PASSANT;
+				captured = Bitboard.PAWN;
+			}
+		} else if (moved == Bitboard.KING
+				&& Math.abs(end.getFile() - start.getFile()) == 2) {
+			flag = CASTLE;
+		}
+
+		return of(from, to, moved, captured, promotion, flag);
+	}
+
+	/**
+	 * Returns an encoded move in the notation read by Game::readInput,
+	 * e.g. "e2 e4" or "e7 e8 Q"
+	 *
+	 * @param move the encoded move
+	 *
+	 * @return the move as a string
+	 */
+	public static String toString(int move) {
+		final int from = from(move);
+		final int to = to(move);
+		final int promotion = promotion(move);
+
+		String str = "" + FILES.charAt(from & 7) + ((from >>> 3) + 1) + " "
+				+ FILES.charAt(to & 7) + ((to >>> 3) + 1);
+
+		if (promotion != 0) {
+			str += " " + PROMOTION_SUFFIX.charAt(promotion);
+		}
+
+		return str;
+	}
+}
@@ -0,0 +1,229 @@
+/**
+ * PgnGame.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj.
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package model.game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * One game read by PgnReader: its tag pairs, its main line as PackedMove
+ * values, and its result. Comments and variations are not kept. If a move
+ * of the main line could not be resolved, the game keeps the moves before
+ * it, and the reason.
+ *
+ * A PgnGame is meant to be filled again and again by PgnReader::next, so
+ * that reading an archive takes no more memory than its longest game.
+ *
+ * @version Oct 18, 2026
+ * @author gemuelealudino
+ */
+public final class PgnGame {
+
+	private final List<String> tagNames;
+	private final List<String> tagValues;
+
+	private int[] moves;
+	private int plies;
+
+	private String result;
+	private boolean checkmate;
+	private String error;
+
+	/**
+	 * Default constructor
+	 */
+	public PgnGame() {
+		tagNames = new ArrayList<String>();
+		tagValues = new ArrayList<String>();
+
+		moves = new int[256];
+		plies = 0;
+	}
+
+	/**
+	 * Empties the game, for the next one to be read
+	 */
+	void clear() {
+		tagNames.clear();
+		tagValues.clear();
+
+		plies = 0;
+
+		result = null;
+		checkmate = false;
+		error = null;
+	}
+
+	/**
+	 * Adds a tag pair
+	 */
+	void addTag(String name, String value) {
+		tagNames.add(name);
+		tagValues.add(value);
+	}
+
+	/**
+	 * Appends a move to the main line
+	 */
+	void addMove(int move) {
+		if (plies == moves.length) {
+			moves = Arrays.copyOf(moves, plies * 2);
+		}
+
+		moves[plies++] = move;
+	}
+
+	/**
+	 * Mutator to set the game termination marker
+	 */
+	void setResult(String result) {
+		this.result = result;
+	}
+
+	/**
+	 * Mutator to mark a game whose main line ends in checkmate
+	 */
+	void setCheckmate(boolean checkmate) {
+		this.checkmate = checkmate;
+	}
+
+	/**
+	 * Mutator to mark the game as failed; the first failure is kept
+	 */
+	void setError(String error) {
+		if (this.error == null) {
+			this.error = error;
+		}
+	}
+
+	/**
+	 * Accessor to retrieve the value of a tag, e.g. "White" or "FEN"
+	 *
+	 * @param name the name of the tag
+	 *
+	 * @return the value of the first tag of that name, or null if none
+	 */
+	public String getTag(String name) {
+		final int i = tagNames.indexOf(name);
+
+		return i < 0 ? null : tagValues.get(i);
+	}
+
+	/**
+	 * Accessor to retrieve the number of tag pairs
+	 *
+	 * @return the number of tags, in the order read
+	 */
+	public int getTagCount() {
+		return tagNames.size();
+	}
+
+	/**
+	 * Accessor to retrieve the name of a tag by index
+	 *
+	 * @param index 0 to getTagCount() - 1
+	 *
+	 * @return the name of the tag
+	 */
+	public String getTagName(int index) {
+		return tagNames.get(index);
+	}
+
+	/**
+	 * Accessor to retrieve the value of a tag by index
+	 *
+	 * @param index 0 to getTagCount() - 1
+	 *
+	 * @return the value of the tag
+	 */
+	public String getTagValue(int index) {
+		return tagValues.get(index);
+	}
+
+	/**
+	 * Accessor to retrieve the number of moves of the main line
+	 *
+	 * @return the number of plies read (before the error, if any)
+	 */
+	public int getPlies() {
+		return plies;
+	}
+
+	/**
+	 * Accessor to retrieve a move of the main line
+	 *
+	 * @param ply 0 to getPlies() - 1
+	 *
+	 * @return the move, as a PackedMove with its moved and captured kinds
+	 */
+	public int getMove(int ply) {
+		if (ply < 0 || ply >= plies) {
+			throw new IndexOutOfBoundsException("ply " + ply);
+		}
+
+		return moves[ply];
+	}
+
+	/**
+	 * Accessor to retrieve the game termination marker
+	 *
+	 * @return "1-0", "0-1", "1/2-1/2" or "*", or null if the game text ended
+	 *         without one
+	 */
+	public String getResult() {
+		return result;
+	}
+
+	/**
+	 * Determines if the main line ends in checkmate
+	 *
+	 * @return true if the side to move after the last move is mated, false
+	 *         otherwise (or if the game could not be read in full)
+	 */
+	public boolean isCheckmate() {
+		return checkmate;
+	}
+
+	/**
+	 * Determines if every move of the main line was resolved
+	 *
+	 * @return true if the game was read without error, false otherwise
+	 */
+	public boolean isValid() {
+		return error == null;
+	}
+
+	/**
+	 * Accessor to retrieve the reason the game could not be read in full
+	 *
+	 * @return a description of the error, e.g. "cannot play Nf6 at ply 12",
+	 *         or null if there was none
+	 */
+	public String getError() {
+		return error;
+	}
+
+	/**
+	 * Returns the main line in the notation read by Game::readInput, one
+	 * move per line
+	 */
+	@Override
+	public String toString() {
+		final StringBuilder sb = new StringBuilder();
+
+		for (int i = 0; i < plies; i++) {
+			sb.append(PackedMove.toString(moves[i])).append('\n');
+		}
+
+		return sb.toString();
+	}
+}
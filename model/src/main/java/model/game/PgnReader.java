@@ -0,0 +1,628 @@
+/**
+ * PgnReader.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj.
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package model.game;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+import model.chess_set.Bitboard;
+import model.chess_set.Fen;
+import model.chess_set.MoveGenerator;
+import model.chess_set.Snapshot;
+
+/**
+ * Reads games from a PGN (Portable Game Notation) archive, one at a time,
+ * through a fixed-size buffer over a channel -- so that an archive of any
+ * size is read at the speed of the disk, in the memory of its longest game.
+ *
+ * Tag pairs are kept. The moves of the main line are resolved against a
+ * Bitboard (from the start, or from the FEN tag if there is one) with San,
+ * and kept as PackedMove values. Comments ("{...}" and ";..." to the end of
+ * the line), variations ("(...)", nested), numeric annotation glyphs ("$1"),
+ * move numbers and "%" escape lines are skipped. A game ends at its
+ * termination marker ("1-0", "0-1", "1/2-1/2", "*"), at the tags of the
+ * next game, or at the end of the archive.
+ *
+ * A move that cannot be resolved does not stop the reader: the game is
+ * marked with the error (see PgnGame::getError), the rest of its moves are
+ * skipped, and the next game is read as usual. A game whose main line ends
+ * in checkmate is marked as such (see PgnGame::isCheckmate).
+ *
+ * <pre>
+ * PgnReader reader = PgnReader.open(new File("twic1500.pgn"));
+ * PgnGame game = new PgnGame();
+ *
+ * while (reader.next(game)) {
+ *     ...
+ * }
+ *
+ * reader.close();
+ * </pre>
+ *
+ * @version Oct 18, 2026
+ * @author gemuelealudino
+ */
+public final class PgnReader implements Closeable {
+
+	/**
+	 * Size of the read buffer, in bytes, unless given
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+	/**
+	 * Longest move and tag kept -- anything longer is cut short (and so will
+	 * not resolve, or keeps a truncated tag value)
+	 */
+	private static final int MAX_TOKEN_LENGTH = 32;
+	private static final int MAX_TAG_LENGTH = 1024;
+
+	private static final Snapshot START;
+
+	static {
+		final Bitboard bb = new Bitboard();
+		Fen.load(Fen.START_POSITION, bb);
+
+		START = Snapshot.of(bb);
+	}
+
+	private final ReadableByteChannel channel;
+	private final ByteBuffer buffer;
+	private final byte[] bytes;
+	private int pos;
+	private int limit;
+	private boolean eof;
+	private int lastByte;
+
+	private final Bitboard bb;
+	private final San san;
+	private final MoveBuffer legal;
+	private final StringBuilder token;
+	private final byte[] tagBytes;
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param channel the archive to read
+	 */
+	public PgnReader(ReadableByteChannel channel) {
+		this(channel, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param channel    the archive to read
+	 * @param bufferSize the size of the read buffer, in bytes
+	 *
+	 * @throws IllegalArgumentException if bufferSize is less than 1
+	 */
+	public PgnReader(ReadableByteChannel channel, int bufferSize) {
+		if (bufferSize < 1) {
+			throw new IllegalArgumentException(
+					"Buffer size must be positive: " + bufferSize);
+		}
+
+		this.channel = channel;
+
+		bytes = new byte[bufferSize];
+		buffer = ByteBuffer.wrap(bytes);
+		pos = 0;
+		limit = 0;
+		eof = false;
+		lastByte = '\n';
+
+		bb = new Bitboard();
+		san = new San();
+		legal = new MoveBuffer();
+		token = new StringBuilder(MAX_TOKEN_LENGTH);
+		tagBytes = new byte[MAX_TAG_LENGTH];
+	}
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param in the archive to read
+	 */
+	public PgnReader(InputStream in) {
+		this(Channels.newChannel(in));
+	}
+
+	/**
+	 * Opens an archive file for reading
+	 *
+	 * @param file the file to read
+	 *
+	 * @return a PgnReader over the file, to be closed by the caller
+	 *
+	 * @throws IOException if the file cannot be opened
+	 */
+	public static PgnReader open(File file) throws IOException {
+		return new PgnReader(new FileInputStream(file).getChannel());
+	}
+
+	/**
+	 * Reads the next game of the archive
+	 *
+	 * @param game the PgnGame to fill (its previous contents are cleared)
+	 *
+	 * @return true if a game was read, false at the end of the archive
+	 *
+	 * @throws IOException if the archive cannot be read
+	 */
+	public boolean next(PgnGame game) throws IOException {
+		game.clear();
+		skipSpace();
+
+		if (peek() < 0) {
+			return false;
+		}
+
+		// Tag pair section
+		while (peek() == '[') {
+			read();
+			readTag(game);
+			skipSpace();
+		}
+
+		setUp(game);
+
+		// Movetext section
+		for (;;) {
+			skipSpace();
+
+			final int c = peek();
+
+			if (c < 0 || c == '[') {
+				return finish(game);
+			}
+
+			read();
+
+			switch (c) {
+			case '{':
+				skipComment();
+				break;
+			case ';':
+				skipLine();
+				break;
+			case '(':
+				skipVariation();
+				break;
+			case ')':
+			case '.':
+				break;
+			case '$':
+				while (peek() >= '0' && peek() <= '9') {
+					read();
+				}
+				break;
+			case '*':
+				game.setResult("*");
+				return finish(game);
+			default:
+				if (readToken(c)) {
+					final String result = result();
+
+					if (result != null) {
+						game.setResult(result);
+						return finish(game);
+					}
+
+					play(game);
+				}
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Closes the channel
+	 *
+	 * @throws IOException if the channel cannot be closed
+	 */
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	/**
+	 * Marks a game whose main line ends in checkmate
+	 *
+	 * @return true
+	 */
+	private boolean finish(PgnGame game) {
+		if (game.isValid() && game.getPlies() > 0) {
+			final int us = bb.getSideToMove();
+
+			game.setCheckmate(MoveGenerator.generateLegalMoves(bb, legal) == 0
+					&& bb.isSquareAttacked(bb.kingSquare(us), us ^ 1));
+		}
+
+		return true;
+	}
+
+	/**
+	 * Sets the Bitboard up for a game: at the start, or at its FEN tag
+	 */
+	private void setUp(PgnGame game) {
+		final String fen = game.getTag("FEN");
+
+		if (fen == null) {
+			START.copyTo(bb);
+			return;
+		}
+
+		try {
+			Fen.load(fen, bb);
+		} catch (IllegalArgumentException e) {
+			game.setError("cannot set up FEN " + fen);
+			return;
+		}
+
+		if (Long.bitCount(bb.getPieces(Bitboard.WHITE, Bitboard.KING)) != 1
+				|| Long.bitCount(bb.getPieces(Bitboard.BLACK,
+						Bitboard.KING)) != 1) {
+			game.setError("cannot set up FEN " + fen);
+		}
+	}
+
+	/**
+	 * Resolves the move in token and plays it, unless the game has already
+	 * failed
+	 */
+	private void play(PgnGame game) {
+		if (game.isValid() == false) {
+			return;
+		}
+
+		final int move = san.decode(bb, token, 0, token.length());
+
+		if (move == PackedMove.NULL_MOVE) {
+			game.setError("cannot play " + token + " at ply "
+					+ (game.getPlies() + 1));
+			return;
+		}
+
+		// Start a fresh undo stack before the Bitboard's fills up; the
+		// reader never unmakes a move.
+		if (game.getPlies() > 0 && game.getPlies() % Bitboard.MAX_PLY == 0) {
+			Snapshot.of(bb).copyTo(bb);
+		}
+
+		game.addMove(move);
+		bb.makeMove(move);
+	}
+
+	/**
+	 * Reads a token that begins with c into token. A number followed by dots
+	 * is a move number, and is skipped.
+	 *
+	 * @return true if token holds a move or a result, false if a move number
+	 *         was skipped
+	 */
+	private boolean readToken(int c) throws IOException {
+		token.setLength(0);
+		token.append((char) c);
+
+		if (c >= '0' && c <= '9') {
+			while (peek() >= '0' && peek() <= '9') {
+				append(read());
+			}
+
+			if (peek() == '.') {
+				while (peek() == '.') {
+					read();
+				}
+
+				return false;
+			}
+		}
+
+		while (isTokenChar(peek())) {
+			append(read());
+		}
+
+		return true;
+	}
+
+	/**
+	 * Appends a char to token, up to MAX_TOKEN_LENGTH chars
+	 */
+	private void append(int c) {
+		if (token.length() < MAX_TOKEN_LENGTH) {
+			token.append((char) c);
+		}
+	}
+
+	/**
+	 * Determines if token is a game termination marker
+	 *
+	 * @return the marker, or null if token is not one
+	 */
+	private String result() {
+		final int length = token.length();
+
+		if (length == 3 && token.charAt(1) == '-') {
+			if (token.charAt(0) == '1' && token.charAt(2) == '0') {
+				return "1-0";
+			} else if (token.charAt(0) == '0' && token.charAt(2) == '1') {
+				return "0-1";
+			}
+		} else if (length == 7 && token.charAt(0) == '1'
+				&& token.charAt(1) == '/' && token.charAt(2) == '2'
+				&& token.charAt(3) == '-' && token.charAt(4) == '1'
+				&& token.charAt(5) == '/' && token.charAt(6) == '2') {
+			return "1/2-1/2";
+		}
+
+		return null;
+	}
+
+	/**
+	 * Reads a tag pair, [Name "Value"], after its opening bracket. A tag is
+	 * read no further than the end of its line.
+	 */
+	private void readTag(PgnGame game) throws IOException {
+		while (peek() == ' ' || peek() == '\t') {
+			read();
+		}
+
+		int length = 0;
+
+		while (peek() > ' ' && peek() != '"' && peek() != ']') {
+			length = appendTag(length, read());
+		}
+
+		final String name = new String(tagBytes, 0, length,
+				StandardCharsets.UTF_8);
+
+		while (peek() == ' ' || peek() == '\t') {
+			read();
+		}
+
+		length = 0;
+
+		if (peek() == '"') {
+			read();
+
+			for (int c = read(); c >= 0 && c != '"' && c != '\n'; c = read()) {
+				if (c == '\\' && (peek() == '"' || peek() == '\\')) {
+					c = read();
+				}
+
+				length = appendTag(length, c);
+			}
+		}
+
+		final String value = new String(tagBytes, 0, length,
+				StandardCharsets.UTF_8);
+
+		while (lastByte != '\n' && peek() >= 0 && peek() != '\n'
+				&& read() != ']') {
+			// the rest of the tag is of no use
+		}
+
+		if (name.isEmpty() == false) {
+			game.addTag(name, value);
+		}
+	}
+
+	/**
+	 * Appends a byte of a tag to tagBytes, up to MAX_TAG_LENGTH bytes
+	 *
+	 * @return the new length
+	 */
+	private int appendTag(int length, int c) {
+		if (length < MAX_TAG_LENGTH) {
+			tagBytes[length++] = (byte) c;
+		}
+
+		return length;
+	}
+
+	/**
+	 * Skips whitespace, and "%" escape lines
+	 */
+	private void skipSpace() throws IOException {
+		for (int c = peek(); c >= 0; c = peek()) {
+			if (c == '%' && lastByte == '\n') {
+				skipLine();
+			} else if (isSpace(c)) {
+				read();
+			} else {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Skips the rest of a line
+	 */
+	private void skipLine() throws IOException {
+		for (int c = read(); c >= 0 && c != '\n'; c = read()) {
+			// skip
+		}
+	}
+
+	/**
+	 * Skips a comment, after its opening brace
+	 */
+	private void skipComment() throws IOException {
+		for (int c = read(); c >= 0 && c != '}'; c = read()) {
+			// skip
+		}
+	}
+
+	/**
+	 * Skips a variation, after its opening parenthesis, with the variations
+	 * and comments nested within it
+	 */
+	private void skipVariation() throws IOException {
+		int depth = 1;
+
+		for (int c = read(); c >= 0; c = read()) {
+			if (c == '(') {
+				++depth;
+			} else if (c == ')' && --depth == 0) {
+				return;
+			} else if (c == '{') {
+				skipComment();
+			} else if (c == ';') {
+				skipLine();
+			}
+		}
+	}
+
+	/**
+	 * Retrieves the next byte without consuming it
+	 *
+	 * @return the byte (0 - 255), or -1 at the end of the archive
+	 */
+	private int peek() throws IOException {
+		if (pos == limit && fill() == false) {
+			return -1;
+		}
+
+		return bytes[pos] & 0xFF;
+	}
+
+	/**
+	 * Consumes the next byte
+	 *
+	 * @return the byte (0 - 255), or -1 at the end of the archive
+	 */
+	private int read() throws IOException {
+		final int c = peek();
+
+		if (c >= 0) {
+			++pos;
+			lastByte = c;
+		}
+
+		return c;
+	}
+
+	/**
+	 * Refills the buffer from the channel
+	 *
+	 * @return true if bytes were read, false at the end of the archive
+	 */
+	private boolean fill() throws IOException {
+		if (eof) {
+			return false;
+		}
+
+		int n;
+
+		buffer.clear();
+
+		do {
+			n = channel.read(buffer);
+		} while (n == 0);
+
+		if (n < 0) {
+			eof = true;
+			return false;
+		}
+
+		pos = 0;
+		limit = n;
+
+		return true;
+	}
+
+	/**
+	 * Determines if a byte separates tokens
+	 */
+	private static boolean isSpace(int c) {
+		return c == ' ' || c == '\n' || c == '\r' || c == '\t' || c == '\f'
+				|| c == 0x0B;
+	}
+
+	/**
+	 * Determines if a byte may be part of a move or result token
+	 */
+	private static boolean isTokenChar(int c) {
+		if (c <= ' ') {
+			return false;
+		}
+
+		switch (c) {
+		case '{':
+		case '}':
+		case '(':
+		case ')':
+		case '[':
+		case ']':
+		case ';':
+		case '$':
+		case '.':
+		case '"':
+			return false;
+		default:
+			return true;
+		}
+	}
+
+	/**
+	 * PGN import command. Usage: PgnReader file...
+	 *
+	 * Prints the number of games and moves read from each file, and the
+	 * games that could not be read in full.
+	 *
+	 * @param args Command line arguments
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length < 1) {
+			System.err.println("Usage: PgnReader file...");
+			return;
+		}
+
+		final PgnGame game = new PgnGame();
+
+		for (String path : args) {
+			final long start = System.nanoTime();
+			final PgnReader reader = open(new File(path));
+
+			int games = 0;
+			int invalid = 0;
+			long plies = 0;
+
+			try {
+				while (reader.next(game)) {
+					++games;
+					plies += game.getPlies();
+
+					if (game.isValid() == false) {
+						++invalid;
+						System.out.println(path + ": game " + games + ": "
+								+ game.getError());
+					}
+				}
+			} finally {
+				reader.close();
+			}
+
+			final double seconds = (System.nanoTime() - start) / 1e9;
+
+			System.out.println(String.format(
+					"%s: games %d plies %d invalid %d games/s %.1f", path,
+					games, plies, invalid, seconds == 0 ? 0.0 : games / seconds));
+		}
+	}
+}
@@ -12,8 +12,10 @@ package model.game;
 
 /**
  * Represents a (file, rank) pair as per a Chess board. Instances of Position
- * are owned by Cell, and referred to by subclasses of Piece. Temporary Position
- * objects may be created during the execution and logging of Moves.
+ * are immutable and interned: Position.of returns one of 64 shared
+ * instances, or OFF_BOARD, so no Position is allocated after class
+ * initialization and two Positions are equal only if they are the same
+ * object.
  * 
  * @version Mar 3, 2019
  * @author gemuelealudino
@@ -21,36 +23,79 @@ package model.game;
  */
 public final class Position implements Comparable<Position> {
 
-	private int file;
-	private int rank;
+	/**
+	 * Returned by Position.of for a file or rank outside 0 - 7. Its file and
+	 * rank are both -1.
+	 */
+	public static final Position OFF_BOARD = new Position(-1, -1);
+
+	private static final Position[] SQUARES = new Position[64];
 
-	Position() {
-		file = -1;
-		rank = -1;
+	static {
+		for (int i = 0; i < SQUARES.length; i++) {
+			SQUARES[i] = new Position(i & 7, i >>> 3);
+		}
 	}
 
+	private final int file;
+	private final int rank;
+
 	/**
-	 * Parameterized constructor
+	 * Parameterized constructor (Position.of is to be used instead)
 	 * 
 	 * @param file Integer representation for a file (0 is a, 1 is b, ...)
 	 * @param rank Integer representation for a rank (0 is 1, 1 is 2, ...)
 	 */
-	public Position(int file, int rank) {
+	private Position(int file, int rank) {
+		this.file = file;
+		this.rank = rank;
+	}
+
+	/**
+	 * Retrieves the Position of a (file, rank) pair
+	 * 
+	 * @param file Integer representation for a file (0 is a, 1 is b, ...)
+	 * @param rank Integer representation for a rank (0 is 1, 1 is 2, ...)
+	 * 
+	 * @return the shared instance for that square, or OFF_BOARD if file or
+	 *         rank is out of range
+	 */
+	public static Position of(int file, int rank) {
 		if ((file < 0 || rank < 0) || (file > 7 || rank > 7)) {
-			return;
+			return OFF_BOARD;
 		}
 
-		this.file = file;
-		this.rank = rank;
+		return SQUARES[(rank << 3) | file];
 	}
-	
+
+	/**
+	 * Retrieves the Position of a Bitboard square index
+	 * 
+	 * @param square the square index (rank * 8 + file, 0 - 63)
+	 * 
+	 * @return the shared instance for that square, or OFF_BOARD if square is
+	 *         out of range
+	 */
+	public static Position ofSquare(int square) {
+		return square < 0 || square > 63 ? OFF_BOARD : SQUARES[square];
+	}
+
 	/**
-	 * Copy constructor
+	 * Retrieve the Bitboard square index of a Position
 	 * 
-	 * @param toCopy Position instance to copy
+	 * @return rank * 8 + file, or -1 for OFF_BOARD
 	 */
-	public Position(Position toCopy) {
-		this(toCopy.file, toCopy.rank);
+	public int getSquare() {
+		return this == OFF_BOARD ? -1 : (rank << 3) | file;
+	}
+
+	/**
+	 * Determines if a Position is on the board
+	 * 
+	 * @return true unless this is OFF_BOARD
+	 */
+	public boolean isOnBoard() {
+		return this != OFF_BOARD;
 	}
 
 	/**
@@ -75,7 +120,9 @@ public final class Position implements Comparable<Position> {
 	public boolean equals(Object o) {
 		boolean result = false;
 
-		if (o != null && o instanceof Position) {
+		if (o == this) {
+			result = true;
+		} else if (o != null && o instanceof Position) {
 			Position other = (Position) (o);
 
 			if (file == other.file && rank == other.rank) {
@@ -88,6 +135,11 @@ public final class Position implements Comparable<Position> {
 		return result;
 	}
 
+	@Override
+	public int hashCode() {
+		return (rank << 3) | file;
+	}
+
 	@Override
 	public String toString() {
 		char file = ' ';
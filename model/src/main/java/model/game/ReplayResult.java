@@ -0,0 +1,206 @@
+/**
+ * ReplayResult.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj.
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package model.game;
+
+import model.PieceType;
+
+/**
+ * The outcome of replaying one saved game: how it ended, after how many
+ * moves -- or, if it could not be replayed, the line that failed and why.
+ *
+ * @version Oct 18, 2026
+ * @author gemuelealudino
+ */
+public final class ReplayResult {
+
+	/**
+	 * How a replayed game ended
+	 */
+	public enum Outcome {
+		CHECKMATE, RESIGNATION, DRAW, UNFINISHED, INVALID
+	}
+
+	private final int index;
+	private final String name;
+	private final Outcome outcome;
+	private final PieceType.Color winner;
+	private final int plies;
+	private final int failedLine;
+	private final String failedInput;
+	private final String reason;
+
+	/**
+	 * Parameterized constructor, for a game replayed to its end
+	 *
+	 * @param index   the position of the game in its batch
+	 * @param name    the name of the game, e.g. its file path
+	 * @param outcome how the game ended
+	 * @param winner  the winning color, or null
+	 * @param plies   the number of moves played
+	 */
+	ReplayResult(int index, String name, Outcome outcome,
+			PieceType.Color winner, int plies) {
+		this(index, name, outcome, winner, plies, -1, null, null);
+	}
+
+	/**
+	 * Parameterized constructor, for a game that failed to replay
+	 *
+	 * @param index       the position of the game in its batch
+	 * @param name        the name of the game, e.g. its file path
+	 * @param plies       the number of moves played before the failure
+	 * @param failedLine  the index of the failing line among the game's
+	 *                    moves, or -1 if the game could not be read at all
+	 * @param failedInput the failing line, or null
+	 * @param reason      a description of the failure
+	 */
+	ReplayResult(int index, String name, int plies, int failedLine,
+			String failedInput, String reason) {
+		this(index, name, Outcome.INVALID, null, plies, failedLine,
+				failedInput, reason);
+	}
+
+	private ReplayResult(int index, String name, Outcome outcome,
+			PieceType.Color winner, int plies, int failedLine,
+			String failedInput, String reason) {
+		this.index = index;
+		this.name = name;
+		this.outcome = outcome;
+		this.winner = winner;
+		this.plies = plies;
+		this.failedLine = failedLine;
+		this.failedInput = failedInput;
+		this.reason = reason;
+	}
+
+	/**
+	 * Copies the result under another index and name, for a game whose
+	 * position in its batch is only known once the parts of the batch
+	 * before it are counted
+	 *
+	 * @param index the position of the game in its batch
+	 * @param name  the name of the game
+	 *
+	 * @return the copy
+	 */
+	ReplayResult renumber(int index, String name) {
+		return new ReplayResult(index, name, outcome, winner, plies,
+				failedLine, failedInput, reason);
+	}
+
+	/**
+	 * Accessor to retrieve the position of the game in its batch
+	 *
+	 * @return the index, starting at 0
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	/**
+	 * Accessor to retrieve the name of the game
+	 *
+	 * @return the file path, or another name given to the game
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Accessor to retrieve how the game ended
+	 *
+	 * @return the Outcome; INVALID if the game failed to replay
+	 */
+	public Outcome getOutcome() {
+		return outcome;
+	}
+
+	/**
+	 * Accessor to retrieve the winner of the game
+	 *
+	 * @return the winning color, or null after a draw, or if the game is
+	 *         unfinished or invalid
+	 */
+	public PieceType.Color getWinner() {
+		return winner;
+	}
+
+	/**
+	 * Accessor to retrieve the number of moves played
+	 *
+	 * @return the number of plies replayed successfully
+	 */
+	public int getPlies() {
+		return plies;
+	}
+
+	/**
+	 * Determines if the game failed to replay
+	 *
+	 * @return true if the Outcome is INVALID, false otherwise
+	 */
+	public boolean isInvalid() {
+		return outcome == Outcome.INVALID;
+	}
+
+	/**
+	 * Accessor to retrieve the line that failed to replay
+	 *
+	 * @return the index of the line among the game's moves, or -1
+	 */
+	public int getFailedLine() {
+		return failedLine;
+	}
+
+	/**
+	 * Accessor to retrieve the text of the line that failed to replay
+	 *
+	 * @return the line, or null
+	 */
+	public String getFailedInput() {
+		return failedInput;
+	}
+
+	/**
+	 * Accessor to retrieve the reason the game failed to replay
+	 *
+	 * @return a description of the failure, or null
+	 */
+	public String getReason() {
+		return reason;
+	}
+
+	/**
+	 * Returns a one-line summary of the replay, e.g.
+	 * "game.chess22: CHECKMATE WHITE after 37 plies" or
+	 * "game.chess22: INVALID at line 12 "e2 e5": illegal move" (lines
+	 * counted from 1)
+	 */
+	@Override
+	public String toString() {
+		String str = name + ": " + outcome;
+
+		if (isInvalid()) {
+			if (failedLine >= 0) {
+				str += " at line " + (failedLine + 1) + " \"" + failedInput
+						+ "\"";
+			}
+
+			return str + ": " + reason;
+		}
+
+		if (winner != null) {
+			str += " " + winner;
+		}
+
+		return str + " after " + plies + " plies";
+	}
+}
@@ -0,0 +1,403 @@
+/**
+ * San.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj.
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package model.game;
+
+import model.chess_set.Bitboard;
+import model.chess_set.Board;
+import model.chess_set.MoveGenerator;
+
+/**
+ * Reads and writes moves in Standard Algebraic Notation (SAN), as found in
+ * PGN files -- "e4", "Nxf3", "R1e2", "exd8=Q+", "O-O-O".
+ *
+ * Moves are read by matching them against the legal moves of a position.
+ * Check and mate marks and annotations ("!", "?!") are ignored; the
+ * destination square, moving piece, promotion and whatever file or rank the
+ * text gives must single out one legal move. Moves are written the same way
+ * in reverse: a file, a rank, or both are given only when another legal
+ * move of the same kind of piece reaches the same square, and "+" or "#" is
+ * added when the move gives check or mate.
+ *
+ * A San keeps the legal moves of the last position it looked at, keyed by
+ * its Zobrist hash, so reading or writing several moves of one position
+ * generates them once; nothing is allocated per move. It is not thread
+ * safe; use one per thread.
+ *
+ * @version Oct 18, 2026
+ * @author gemuelealudino
+ */
+public final class San {
+
+	private static final String PIECE_LETTERS = "PNBRQK";
+	private static final String SUFFIXES = "+#!?";
+
+	private static final String CASTLE_SHORT = "O-O";
+	private static final String CASTLE_LONG = "O-O-O";
+
+	private final MoveBuffer legal;		// legal moves of legalHash
+	private final MoveBuffer replies;	// to tell check from mate
+
+	private long legalHash;
+	private boolean legalValid;
+
+	/**
+	 * Default constructor
+	 */
+	public San() {
+		legal = new MoveBuffer();
+		replies = new MoveBuffer();
+
+		legalValid = false;
+	}
+
+	/**
+	 * Finds the legal move a SAN string describes, in the current position
+	 * of a Board
+	 *
+	 * @param board the Board the move is played on
+	 * @param text  the move, e.g. "Nbd7"
+	 *
+	 * @return the move, as per decode(Bitboard, CharSequence)
+	 */
+	public int decode(Board board, CharSequence text) {
+		return decode(board.getBitboard(), text, 0, text.length());
+	}
+
+	/**
+	 * Finds the legal move a SAN string describes
+	 *
+	 * @param bb   the position the move is played in
+	 * @param text the move, e.g. "Nbd7"
+	 *
+	 * @return the move, as a PackedMove with its moved and captured kinds,
+	 *         or PackedMove.NULL_MOVE if no legal move, or more than one,
+	 *         matches the text
+	 */
+	public int decode(Bitboard bb, CharSequence text) {
+		return decode(bb, text, 0, text.length());
+	}
+
+	/**
+	 * Finds the legal move part of a string describes, in SAN
+	 *
+	 * @param bb    the position the move is played in
+	 * @param text  the text holding the move
+	 * @param start the index of the first char of the move
+	 * @param end   the index after the last char of the move
+	 *
+	 * @return the move, as a PackedMove with its moved and captured kinds,
+	 *         or PackedMove.NULL_MOVE if no legal move, or more than one,
+	 *         matches the text
+	 */
+	public int decode(Bitboard bb, CharSequence text, int start, int end) {
+		while (end > start && SUFFIXES.indexOf(text.charAt(end - 1)) >= 0) {
+			--end;
+		}
+
+		if (end - start < 2) {
+			return PackedMove.NULL_MOVE;
+		}
+
+		generateLegalMoves(bb);
+
+		if (isCastle(text, start, end, CASTLE_SHORT)) {
+			return findCastle(true);
+		} else if (isCastle(text, start, end, CASTLE_LONG)) {
+			return findCastle(false);
+		}
+
+		// Promotion: "e8=Q", or "e8Q"
+		int promotion = 0;
+
+		if (end - start >= 3) {
+			final char last = text.charAt(end - 1);
+			final char before = text.charAt(end - 2);
+
+			if (before == '=' || (before >= '1' && before <= '8'
+					&& PIECE_LETTERS.indexOf(last) >= 0)) {
+				promotion = PIECE_LETTERS.indexOf(Character.toUpperCase(last));
+				end -= before == '=' ? 2 : 1;
+
+				if (promotion < Bitboard.KNIGHT || promotion > Bitboard.QUEEN) {
+					return PackedMove.NULL_MOVE;
+				}
+			}
+		}
+
+		// Destination square, always last
+		if (end - start < 2) {
+			return PackedMove.NULL_MOVE;
+		}
+
+		final int to = square(text.charAt(end - 2), text.charAt(end - 1));
+
+		if (to < 0) {
+			return PackedMove.NULL_MOVE;
+		}
+
+		end -= 2;
+
+		// Moving piece, then the file and/or rank it moves from
+		int kind = Bitboard.PAWN;
+		int i = start;
+
+		if (i < end && PIECE_LETTERS.indexOf(text.charAt(i)) >= 0) {
+			kind = PIECE_LETTERS.indexOf(text.charAt(i));
+			++i;
+		}
+
+		int fromFile = -1;
+		int fromRank = -1;
+
+		for (; i < end; i++) {
+			final char ch = text.charAt(i);
+
+			if (ch >= 'a' && ch <= 'h') {
+				fromFile = ch - 'a';
+			} else if (ch >= '1' && ch <= '8') {
+				fromRank = ch - '1';
+			} else if (ch != 'x' && ch != ':' && ch != '-') {
+				return PackedMove.NULL_MOVE;
+			}
+		}
+
+		int found = PackedMove.NULL_MOVE;
+
+		for (int m = 0; m < legal.size(); m++) {
+			final int move = legal.get(m);
+			final int from = PackedMove.from(move);
+
+			if (PackedMove.to(move) != to || PackedMove.moved(move) != kind
+					|| PackedMove.promotion(move) != promotion
+					|| (fromFile >= 0 && Bitboard.fileOf(from) != fromFile)
+					|| (fromRank >= 0 && Bitboard.rankOf(from) != fromRank)) {
+				continue;
+			}
+
+			if (found != PackedMove.NULL_MOVE) {
+				return PackedMove.NULL_MOVE;	// ambiguous
+			}
+
+			found = move;
+		}
+
+		return found;
+	}
+
+	/**
+	 * Writes a move in SAN, in the current position of a Board
+	 *
+	 * @param board the Board the move is to be played on
+	 * @param move  the move, as a PackedMove (only its squares and promotion
+	 *              are read)
+	 *
+	 * @return the move in SAN, e.g. "Nbxd7+", or null if the move is not
+	 *         legal
+	 */
+	public String encode(Board board, int move) {
+		return encode(board.getBitboard(), move);
+	}
+
+	/**
+	 * Writes a move in SAN
+	 *
+	 * @param bb   the position the move is to be played in
+	 * @param move the move, as a PackedMove (only its squares and promotion
+	 *             are read)
+	 *
+	 * @return the move in SAN, e.g. "Nbxd7+", or null if the move is not
+	 *         legal
+	 */
+	public String encode(Bitboard bb, int move) {
+		final StringBuilder sb = new StringBuilder(8);
+
+		return encode(bb, move, sb) ? sb.toString() : null;
+	}
+
+	/**
+	 * Writes a move in SAN at the end of a StringBuilder, without allocating
+	 *
+	 * @param bb   the position the move is to be played in; it is played and
+	 *             taken back to look for check and mate
+	 * @param move the move, as a PackedMove; only its squares and promotion
+	 *             are read, the rest is taken from the legal move they match
+	 * @param sb   the StringBuilder to append to
+	 *
+	 * @return true if the move is legal and was written, false otherwise
+	 */
+	public boolean encode(Bitboard bb, int move, StringBuilder sb) {
+		generateLegalMoves(bb);
+
+		int found = PackedMove.NULL_MOVE;
+
+		for (int m = 0; m < legal.size(); m++) {
+			final int other = legal.get(m);
+
+			if (PackedMove.from(other) == PackedMove.from(move)
+					&& PackedMove.to(other) == PackedMove.to(move)
+					&& PackedMove.promotion(other) == PackedMove.promotion(move)) {
+				found = other;
+				break;
+			}
+		}
+
+		if (found == PackedMove.NULL_MOVE) {
+			return false;
+		}
+
+		final int from = PackedMove.from(found);
+		final int to = PackedMove.to(found);
+		final int kind = PackedMove.moved(found);
+
+		if (PackedMove.flag(found) == PackedMove.CASTLE) {
+			sb.append(to > from ? CASTLE_SHORT : CASTLE_LONG);
+		} else {
+			if (kind == Bitboard.PAWN) {
+				if (PackedMove.isCapture(found)) {
+					sb.append((char) ('a' + Bitboard.fileOf(from)));
+				}
+			} else {
+				sb.append(PIECE_LETTERS.charAt(kind));
+				appendOrigin(found, sb);
+			}
+
+			if (PackedMove.isCapture(found)) {
+				sb.append('x');
+			}
+
+			sb.append((char) ('a' + Bitboard.fileOf(to)))
+					.append((char) ('1' + Bitboard.rankOf(to)));
+
+			if (PackedMove.promotion(found) != 0) {
+				sb.append('=').append(
+						PIECE_LETTERS.charAt(PackedMove.promotion(found)));
+			}
+		}
+
+		bb.makeMove(found);
+
+		if (MoveGenerator.isInCheck(bb)) {
+			sb.append(MoveGenerator.generateLegalMoves(bb, replies) == 0
+					? '#' : '+');
+		}
+
+		bb.unmakeMove(found);
+
+		return true;
+	}
+
+	/**
+	 * Appends as much of the origin square of a piece move as it takes to
+	 * tell it from the other legal moves of the same kind of piece to the
+	 * same square: nothing, the file, the rank, or both
+	 */
+	private void appendOrigin(int move, StringBuilder sb) {
+		final int from = PackedMove.from(move);
+		boolean ambiguous = false;
+		boolean sameFile = false;
+		boolean sameRank = false;
+
+		for (int m = 0; m < legal.size(); m++) {
+			final int other = legal.get(m);
+			final int otherFrom = PackedMove.from(other);
+
+			if (otherFrom == from || PackedMove.to(other) != PackedMove.to(move)
+					|| PackedMove.moved(other) != PackedMove.moved(move)) {
+				continue;
+			}
+
+			ambiguous = true;
+			sameFile |= Bitboard.fileOf(otherFrom) == Bitboard.fileOf(from);
+			sameRank |= Bitboard.rankOf(otherFrom) == Bitboard.rankOf(from);
+		}
+
+		if (!ambiguous) {
+			return;
+		}
+
+		if (!sameFile) {
+			sb.append((char) ('a' + Bitboard.fileOf(from)));
+		} else if (!sameRank) {
+			sb.append((char) ('1' + Bitboard.rankOf(from)));
+		} else {
+			sb.append((char) ('a' + Bitboard.fileOf(from)))
+					.append((char) ('1' + Bitboard.rankOf(from)));
+		}
+	}
+
+	/**
+	 * Fills legal with the legal moves of a position, unless they are those
+	 * of the position last looked at
+	 */
+	private void generateLegalMoves(Bitboard bb) {
+		final long hash = bb.getHash();
+
+		if (legalValid && hash == legalHash) {
+			return;
+		}
+
+		MoveGenerator.generateLegalMoves(bb, legal);
+
+		legalHash = hash;
+		legalValid = true;
+	}
+
+	/**
+	 * Finds the legal castling move to one side, among the moves generated
+	 */
+	private int findCastle(boolean kingSide) {
+		for (int m = 0; m < legal.size(); m++) {
+			final int move = legal.get(m);
+
+			if (PackedMove.flag(move) == PackedMove.CASTLE
+					&& (PackedMove.to(move) > PackedMove.from(move)) == kingSide) {
+				return move;
+			}
+		}
+
+		return PackedMove.NULL_MOVE;
+	}
+
+	/**
+	 * Determines if text is a castling move, written with letter O or with
+	 * digit 0
+	 */
+	private static boolean isCastle(CharSequence text, int start, int end,
+			String castle) {
+		if (end - start != castle.length()) {
+			return false;
+		}
+
+		for (int i = 0; i < castle.length(); i++) {
+			final char ch = text.charAt(start + i);
+			final char expected = castle.charAt(i);
+
+			if (ch != expected && (expected != 'O' || ch != '0')) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Converts a file and rank, such as 'e' and '4', to a square index
+	 *
+	 * @return the square index, or -1 if not a square
+	 */
+	private static int square(char file, char rank) {
+		if (file < 'a' || file > 'h' || rank < '1' || rank > '8') {
+			return -1;
+		}
+
+		return Bitboard.square(file - 'a', rank - '1');
+	}
+}
@@ -0,0 +1,132 @@
+/**
+ * AttackMapTest.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package com.rutgers.chess22;
+
+import org.junit.Test;
+
+import model.chess_set.AttackMap;
+import model.chess_set.Bitboard;
+import model.chess_set.Board;
+import model.chess_set.Fen;
+import model.chess_set.MoveGenerator;
+import model.game.MoveBuffer;
+import model.game.PackedMove;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that incremental updates of an AttackMap always match a map built
+ * from scratch, and that its check and escape masks agree with Bitboard.
+ */
+public class AttackMapTest {
+
+    private static void assertSameMap(Bitboard bb, AttackMap map) {
+        AttackMap fresh = new AttackMap(bb);
+
+        for (int color = Bitboard.WHITE; color <= Bitboard.BLACK; color++) {
+            assertEquals(fresh.getAttacked(color), map.getAttacked(color));
+
+            for (int sq = 0; sq < 64; sq++) {
+                assertEquals(fresh.getAttackerCount(sq, color),
+                        map.getAttackerCount(sq, color));
+                assertEquals(Long.bitCount(bb.attackersTo(sq, color,
+                        bb.getOccupied())), map.getAttackerCount(sq, color));
+            }
+        }
+    }
+
+    /**
+     * Updates map for every square a move changed (or will change back)
+     */
+    private static void updateSquares(AttackMap map, int move, int us) {
+        int from = PackedMove.from(move);
+        int to = PackedMove.to(move);
+
+        map.update(from);
+        map.update(to);
+
+        if (PackedMove.flag(move) == PackedMove.EN_PASSANT) {
+            map.update(to + (us == Bitboard.WHITE ? -8 : 8));
+        } else if (PackedMove.flag(move) == PackedMove.CASTLE) {
+            map.update(to > from ? from + 1 : from - 1);
+            map.update(to > from ? from + 3 : from - 4);
+        }
+    }
+
+    private static void walk(Bitboard bb, AttackMap map, int depth) {
+        assertSameMap(bb, map);
+
+        int us = bb.getSideToMove();
+        assertEquals(bb.isSquareAttacked(bb.kingSquare(us), us ^ 1),
+                map.isInCheck(us));
+
+        if (depth == 0) {
+            return;
+        }
+
+        MoveBuffer moves = new MoveBuffer();
+        MoveGenerator.generateLegalMoves(bb, moves);
+
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+
+            bb.makeMove(move);
+            updateSquares(map, move, us);
+            walk(bb, map, depth - 1);
+
+            bb.unmakeMove(move);
+            updateSquares(map, move, us);
+        }
+
+        assertSameMap(bb, map);
+    }
+
+    @Test
+    public void incrementalUpdatesMatchRebuild() {
+        Bitboard bb = new Bitboard();
+        Fen.load(PerftTest.KIWIPETE, bb);
+
+        walk(bb, new AttackMap(bb), 2);
+    }
+
+    @Test
+    public void kingEscapesExcludeSquaresBehindKing() {
+        Bitboard bb = new Bitboard();
+        Fen.load("4r2k/8/8/8/8/8/8/4K3 w - - 0 1", bb);
+
+        AttackMap map = new AttackMap(bb);
+
+        assertTrue(map.isInCheck(Bitboard.WHITE));
+        assertEquals(1, map.getAttackerCount(4, Bitboard.BLACK));
+
+        // d1, d2, f1 and f2 -- but not e2, nor e1's file behind the King
+        long expected = (1L << 3) | (1L << 11) | (1L << 5) | (1L << 13);
+        assertEquals(expected, map.kingEscapes(Bitboard.WHITE));
+    }
+
+    @Test
+    public void boardKeepsMapInStep() {
+        Board board = new Board();
+        String[] moves = { "e2 e4", "d7 d5", "e4 d5", "d8 d5", "b1 c3",
+                "d5 a5", "f1 b5" };
+
+        for (String move : moves) {
+            assertTrue(move, Moves.play(board, move));
+            assertSameMap(board.getBitboard(), board.getAttackMap());
+        }
+
+        assertTrue(board.getAttackMap().isInCheck(Bitboard.BLACK));
+
+        board.undoMovePiece();
+        assertSameMap(board.getBitboard(), board.getAttackMap());
+        assertFalse(board.getAttackMap().isInCheck(Bitboard.BLACK));
+    }
+}
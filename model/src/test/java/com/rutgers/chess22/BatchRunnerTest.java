@@ -0,0 +1,157 @@
+/**
+ * BatchRunnerTest.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package com.rutgers.chess22;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import model.PieceType;
+import model.chess_set.Board;
+import model.game.BatchResult;
+import model.game.BatchRunner;
+import model.game.Game;
+import model.game.ReplayResult;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that BatchRunner replays saved games to the right outcome, reports
+ * the ones that fail in input order, and reads the files Game saves.
+ */
+public class BatchRunnerTest {
+
+    private static final List<String> FOOLS_MATE =
+            Arrays.asList("f2 f3", "e7 e5", "g2 g4", "d8 h4");
+
+    private static final List<String> RESIGNED =
+            Arrays.asList("e2 e4", "", "d7 d5", "e4 d5\t\tresign");
+
+    private static final List<String> DRAWN =
+            Arrays.asList("e2 e4", "e7 e5 draw?", "draw");
+
+    private static final List<String> ILLEGAL =
+            Arrays.asList("e2 e4", "e7 e5", "e4 e5");
+
+    @Test
+    public void gamesReplayToTheirOutcome() {
+        BatchResult result = new BatchRunner(1).replayGames(
+                Arrays.asList(FOOLS_MATE, RESIGNED, DRAWN, ILLEGAL,
+                        Arrays.asList("e2 e4")));
+
+        assertEquals(5, result.getGames());
+        assertEquals(1, result.getCount(ReplayResult.Outcome.CHECKMATE));
+        assertEquals(1, result.getCount(ReplayResult.Outcome.RESIGNATION));
+        assertEquals(1, result.getCount(ReplayResult.Outcome.DRAW));
+        assertEquals(1, result.getCount(ReplayResult.Outcome.UNFINISHED));
+        assertEquals(4 + 3 + 2 + 2 + 1, result.getPlies());
+
+        ReplayResult failure = result.getFailures().get(0);
+
+        assertEquals(1, result.getFailures().size());
+        assertEquals(3, failure.getIndex());
+        assertEquals(2, failure.getFailedLine());
+        assertEquals("illegal move", failure.getReason());
+    }
+
+    @Test
+    public void winnersAndFailuresAreReported() {
+        Board board = new Board();
+
+        assertEquals(PieceType.Color.BLACK,
+                BatchRunner.replay(board, 0, "mate", FOOLS_MATE).getWinner());
+        assertEquals(PieceType.Color.WHITE,
+                BatchRunner.replay(board, 0, "resign", RESIGNED).getWinner());
+
+        assertEquals("draw was not offered", BatchRunner.replay(board, 0, "draw",
+                Arrays.asList("e2 e4", "draw")).getReason());
+        assertEquals("move after the end of the game", BatchRunner.replay(board,
+                0, "late", Arrays.asList("f2 f3", "e7 e5", "g2 g4", "d8 h4",
+                        "a2 a3")).getReason());
+        assertEquals("unreadable move", BatchRunner.replay(board, 0, "typo",
+                Arrays.asList("e2 e9")).getReason());
+        assertTrue(BatchRunner.replay(board, 0, "wrong side",
+                Arrays.asList("e7 e5")).getReason().startsWith("no piece"));
+    }
+
+    @Test
+    public void unnamedPromotionsBecomeQueens() {
+        Board board = new Board();
+        ReplayResult result = BatchRunner.replay(board, 0, "promotion",
+                Arrays.asList("h2 h4", "g7 g5", "h4 g5", "h7 h6", "g5 h6",
+                        "f8 g7", "h6 g7", "a7 a6", "g7 h8", "a6 a5"));
+
+        assertEquals(ReplayResult.Outcome.UNFINISHED, result.getOutcome());
+        assertEquals("rnbqk1nQ/1ppppp2/8/p7/8/8/PPPPPPP1/RNBQKBNR w KQq - 0 6",
+                board.toFen());
+    }
+
+    @Test
+    public void manyWorkersMatchOne() {
+        List<List<String>> games = new ArrayList<List<String>>();
+
+        for (int i = 0; i < 400; i++) {
+            games.add(i % 7 == 3 ? ILLEGAL : i % 2 == 0 ? FOOLS_MATE : RESIGNED);
+        }
+
+        BatchResult one = new BatchRunner(1).replayGames(games);
+        BatchResult four = new BatchRunner(4).replayGames(games);
+
+        assertEquals(one.getGames(), four.getGames());
+        assertEquals(one.getPlies(), four.getPlies());
+        assertEquals(one.getFailures().size(), four.getFailures().size());
+
+        for (int i = 0; i < one.getFailures().size(); i++) {
+            assertEquals(one.getFailures().get(i).getIndex(),
+                    four.getFailures().get(i).getIndex());
+        }
+
+        for (ReplayResult.Outcome outcome : ReplayResult.Outcome.values()) {
+            assertEquals(one.getCount(outcome), four.getCount(outcome));
+        }
+    }
+
+    @Test
+    public void savedGamesReplay() throws IOException {
+        Game game = new Game();
+        game.togglePrintBoard();
+
+        for (String move : Arrays.asList("e2 e4", "d7 d5", "e4 d5", "d8 d5",
+                "b1 c3", "d5 a5")) {
+            game.readInput(move);
+        }
+
+        File saved = File.createTempFile("batch", ".chess22");
+        File missing = new File(saved.getPath() + ".missing");
+        saved.deleteOnExit();
+
+        Writer writer = new OutputStreamWriter(new FileOutputStream(saved),
+                StandardCharsets.UTF_8);
+        writer.write(game.generateSaveGameString());
+        writer.close();
+
+        BatchResult result = new BatchRunner(2).replayFiles(
+                Arrays.asList(saved, missing));
+
+        assertEquals(6, result.getPlies());
+        assertEquals(1, result.getCount(ReplayResult.Outcome.UNFINISHED));
+        assertEquals(missing.getPath(), result.getFailures().get(0).getName());
+        assertEquals(-1, result.getFailures().get(0).getFailedLine());
+    }
+}
@@ -0,0 +1,239 @@
+/**
+ * BoardTest.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package com.rutgers.chess22;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import model.PieceType;
+import model.chess_set.Bitboard;
+import model.chess_set.Board;
+import model.chess_set.PieceSet;
+import model.chess_set.Zobrist;
+import model.game.MoveBuffer;
+import model.game.PackedMove;
+import model.game.Position;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that Board.movePiece accepts every evasion of a check, and rejects
+ * moves of pinned pieces and moves into check -- and that every move, made
+ * either way, is undone exactly.
+ */
+public class BoardTest {
+
+    /**
+     * Plays the generated move matching "e1 g1" with Board.makeMove
+     */
+    private static int makeMove(Board board, String move) {
+        MoveBuffer moves = new MoveBuffer();
+        board.generateLegalMoves(moves);
+
+        for (int i = 0; i < moves.size(); i++) {
+            if (PackedMove.toString(moves.get(i)).startsWith(move)) {
+                board.makeMove(moves.get(i));
+                return moves.get(i);
+            }
+        }
+
+        fail(move);
+        return PackedMove.NULL_MOVE;
+    }
+
+    private static Board playAll(String... moves) {
+        Board board = new Board();
+
+        for (String move : moves) {
+            assertTrue(move, Moves.play(board, move));
+        }
+
+        return board;
+    }
+
+    @Test
+    public void checksMayBeBlocked() {
+        Board board = playAll("e2 e4", "d7 d5", "f1 b5");
+
+        assertFalse(Moves.play(board, "a7 a6"));
+        assertTrue(Moves.play(board, "c7 c6"));
+        assertFalse(board.isCheckmate());
+    }
+
+    @Test
+    public void checkersMayBeCaptured() {
+        Board board = playAll("e2 e4", "e7 e5", "d1 h5", "b8 c6", "h5 f7");
+
+        assertFalse(Moves.play(board, "e8 d7"));
+        assertFalse(Moves.play(board, "g8 f6"));
+        assertTrue(Moves.play(board, "e8 f7"));
+    }
+
+    @Test
+    public void pinnedPiecesStayOnTheirLine() {
+        Board board = playAll("d2 d4", "e7 e6", "b1 c3", "f8 b4");
+
+        assertFalse(Moves.play(board, "c3 b5"));
+        assertFalse(Moves.play(board, "c3 a4"));
+        assertTrue(Moves.play(board, "a2 a3"));
+    }
+
+    @Test
+    public void kingMayNotMoveIntoCheck() {
+        Board board = playAll("e2 e4", "e7 e5", "e1 e2", "d8 g5");
+
+        assertFalse(Moves.play(board, "e2 e3"));
+        assertTrue(Moves.play(board, "e2 f3"));
+    }
+
+    @Test
+    public void pawnsMayNotJumpOverPieces() {
+        Board board = playAll("e2 e4", "e7 e5", "g1 f3", "b8 c6", "f3 e5",
+                "c6 e5");
+
+        assertFalse(Moves.play(board, "e4 e5"));
+        assertTrue(Moves.play(board, "g2 g4"));
+
+        board = playAll("a2 a3", "g8 f6", "a3 a4", "f6 g4", "a4 a5", "g4 e3");
+
+        assertFalse(Moves.play(board, "e2 e4"));
+        assertFalse(Moves.play(board, "e2 e3"));
+        assertTrue(Moves.play(board, "d2 e3"));
+    }
+
+    @Test
+    public void onlyPawnsArePromoted() {
+        Board board = new Board("4k3/8/8/8/8/8/8/R3K3 w Q - 0 1");
+        PieceSet white = board.getWhiteSet();
+
+        assertTrue(board.movePiece(white.getPieceByPosition(Position.of(0, 0)),
+                white, Position.of(0, 7), PieceType.QUEEN));
+        assertEquals("R3k3/8/8/8/8/8/8/4K3 b - - 1 1", board.toFen());
+    }
+
+    @Test
+    public void checkmateIsDetected() {
+        Board board = playAll("f2 f3", "e7 e5", "g2 g4", "d8 h4");
+
+        assertTrue(board.isCheckmate());
+    }
+
+    @Test
+    public void undoRestoresCapturesAndEnPassant() {
+        String start = new Board().toString();
+        Board board = playAll("e2 e4", "d7 d5", "e4 d5", "c7 c5", "d5 c6");
+
+        assertTrue(board.getBlackSet().getPieceByPosition(Position.of(2, 4)) == null);
+
+        long hashBefore = 0L;
+
+        while (board.getLastMove() != null) {
+            hashBefore = board.getHash();
+            board.undoMovePiece();
+            assertNotEquals(hashBefore, board.getHash());
+        }
+
+        assertEquals(start, board.toString());
+        assertEquals(new Board().getHash(), board.getHash());
+        assertTrue(board.getMoveList().isEmpty());
+
+        // The pawns may advance two squares again
+        assertTrue(Moves.play(board, "e2 e4"));
+        assertTrue(Moves.play(board, "c7 c5"));
+    }
+
+    @Test
+    public void movesAndKillsAreLoggedApart() {
+        Board board = playAll("e2 e4", "d7 d5");
+
+        assertNull(board.getLastKill());
+        assertEquals(Position.of(3, 4), board.getLastMove().getEndPosition());
+
+        assertTrue(Moves.play(board, "e4 d5"));
+        assertTrue(Moves.play(board, "d8 d5"));
+
+        assertEquals(4, board.getMoveCount());
+        assertEquals(6, board.getMoveList().size());
+        assertEquals(Position.of(4, 3), board.getMove(0).getEndPosition());
+        assertEquals(Position.of(3, 4), board.getMove(2).getEndPosition());
+        assertSame(board.getMove(3), board.getLastMove());
+        assertNull(board.getLastKill().getEndPosition());
+        assertTrue(board.getLastKill().getLastPiece().isWhite());
+
+        board.undoMovePiece();
+
+        assertEquals(3, board.getMoveCount());
+        assertSame(board.getMove(2), board.getLastMove());
+        assertFalse(board.getLastKill().getLastPiece().isWhite());
+
+        board.undoMovePiece();
+
+        assertNull(board.getLastKill());
+    }
+
+    @Test
+    public void playbackAndUndoRoundTrip() {
+        Board board = new Board();
+        String start = board.toString();
+        MoveBuffer moves = new MoveBuffer();
+        Random random = new Random(7);
+        int made = 0;
+
+        for (int ply = 0; ply < 300; ply++) {
+            if (board.generateLegalMoves(moves) == 0) {
+                break;
+            }
+
+            board.makeMove(moves.get(random.nextInt(moves.size())));
+            made++;
+
+            assertEquals(Zobrist.compute(board.getBitboard()), board.getHash());
+        }
+
+        for (int i = 0; i < made; i++) {
+            board.undoMovePiece();
+        }
+
+        assertEquals(start, board.toString());
+        assertEquals(new Board().getHash(), board.getHash());
+        assertTrue(board.getMoveList().isEmpty());
+    }
+
+    @Test
+    public void makeMoveCastlesAndTakesEnPassant() {
+        Board board = new Board();
+        String start = board.toString();
+        String[] moves = { "e2 e4", "g8 f6", "e4 e5", "d7 d5", "e5 d6",
+                "e7 e6", "g1 f3", "f8 e7", "f1 c4" };
+
+        for (String move : moves) {
+            makeMove(board, move);
+        }
+
+        assertEquals(PackedMove.CASTLE, PackedMove.flag(makeMove(board, "e8 g8")));
+        assertEquals(PackedMove.CASTLE, PackedMove.flag(makeMove(board, "e1 g1")));
+
+        PieceSet black = board.getBlackSet();
+
+        assertEquals(Bitboard.ROOK,
+                Bitboard.kindOf(black.getPieceByPosition(Position.of(5, 7))));
+        assertEquals(7, black.getCount(Bitboard.PAWN));
+        assertEquals(Zobrist.compute(board.getBitboard()), board.getHash());
+
+        while (board.getLastMove() != null) {
+            board.undoMovePiece();
+        }
+
+        assertEquals(start, board.toString());
+        assertEquals(new Board().getHash(), board.getHash());
+    }
+}
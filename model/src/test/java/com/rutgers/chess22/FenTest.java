@@ -0,0 +1,131 @@
+/**
+ * FenTest.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package com.rutgers.chess22;
+
+import org.junit.Test;
+
+import model.chess_set.Bitboard;
+import model.chess_set.Board;
+import model.chess_set.Fen;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that FEN strings are read into a Board and written back unchanged,
+ * that a Board writes the FEN of the position it has reached, and hashes it
+ * as if the position had been played, and that malformed FEN strings are
+ * rejected.
+ */
+public class FenTest {
+
+    private static final String[] POSITIONS = {
+            Fen.START_POSITION,
+            "rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3",
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+            "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8",
+            "4k3/8/8/8/8/8/8/4K2R b K - 12 60" };
+
+    @Test
+    public void positionsRoundTrip() {
+        Board board = new Board();
+
+        for (String fen : POSITIONS) {
+            board.setPosition(fen);
+
+            assertEquals(fen, board.toFen());
+            assertEquals(fen, new Board(fen).toFen());
+            assertTrue(board.getMoveList().isEmpty());
+        }
+    }
+
+    @Test
+    public void boardsWriteThePositionReached() {
+        Board board = new Board();
+
+        assertEquals(Fen.START_POSITION, board.toFen());
+
+        for (String move : new String[] { "e2 e4", "c7 c5", "g1 f3" }) {
+            assertTrue(move, Moves.play(board, move));
+        }
+
+        assertEquals("rnbqkbnr/pp1ppppp/8/2p5/4P3/5N2/PPPP1PPP/RNBQKB1R b KQkq - 1 2",
+                board.toFen());
+
+        Board resumed = new Board(board.toFen());
+
+        assertEquals(board.toString(), resumed.toString());
+        assertEquals(board.getHash(), resumed.getHash());
+    }
+
+    @Test
+    public void enPassantSquaresHashAsWhenPlayed() {
+        Board played = new Board();
+        assertTrue(Moves.play(played, "e2 e4"));
+
+        Board loaded = new Board(
+                "rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1");
+
+        assertEquals(played.toFen(), loaded.toFen());
+        assertEquals(played.getHash(), loaded.getHash());
+
+        // Here the pawn on e5 can take on f6, so the square is kept
+        for (String move : new String[] { "d7 d5", "e4 e5", "f7 f5" }) {
+            assertTrue(move, Moves.play(played, move));
+        }
+
+        loaded.setPosition(
+                "rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3");
+
+        assertEquals(played.toFen(), loaded.toFen());
+        assertEquals(played.getHash(), loaded.getHash());
+    }
+
+    @Test
+    public void castlingNeedsKingAndRookAtHome() {
+        Board board = new Board("4k3/8/8/8/8/8/8/R3K3 w KQkq - 0 1");
+
+        assertEquals(Bitboard.CASTLE_WHITE_QUEEN,
+                board.getBitboard().getCastlingRights());
+        assertEquals("4k3/8/8/8/8/8/8/R3K3 w Q - 0 1", board.toFen());
+    }
+
+    @Test
+    public void malformedFenIsRejected() {
+        String[] malformed = {
+                "",
+                "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP w KQkq - 0 1",
+                "rnbqkbnr/pppppppp/9/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+                "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR x KQkq - 0 1",
+                "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkx - 0 1",
+                "rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e4 0 1",
+                "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - x 1",
+                "8/8/8/8/8/8/8/8 w - - 0 1",
+                "QQQQk3/8/8/8/8/8/PPPPPPPP/QQQK4 w - - 0 1" };
+
+        Board board = new Board();
+        assertTrue(Moves.play(board, "e2 e4"));
+        String before = board.toFen();
+        String drawn = board.toString();
+
+        for (String fen : malformed) {
+            try {
+                board.setPosition(fen);
+                fail(fen);
+            } catch (IllegalArgumentException e) {
+                assertEquals(before, board.toFen());
+                assertEquals(drawn, board.toString());
+            }
+        }
+
+        assertTrue(Moves.play(board, "e7 e5"));
+    }
+}
@@ -0,0 +1,155 @@
+/**
+ * ImportPipelineTest.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package com.rutgers.chess22;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import model.game.BatchResult;
+import model.game.ImportPipeline;
+import model.game.ReplayResult;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that ImportPipeline imports PGN archives and .chess22 files to the
+ * same totals, with the same failures in the same order, however finely it
+ * splits them.
+ */
+public class ImportPipelineTest {
+
+    private static final String MATE = "[Event \"Mate\"]\n[Result \"0-1\"]\n\n"
+            + "1. f2f3 e5 2. g4 {blunder} Qh4# 0-1\n\n";
+
+    private static final String DRAW = "[Event \"Draw\"]\n[Result \"1/2-1/2\"]\n\n"
+            + "1. Nf3 Nf6 (1... d5 2. d4) 2. Ng1 Ng8 1/2-1/2\n\n";
+
+    private static final String RESIGNED = "[Event \"Resigned\"]\n\n"
+            + "1. e4 e5 2. Qh5 Nc6 3. Bc4 Nf6 1-0\n\n";
+
+    private static final String ILLEGAL = "[Event \"Illegal\"]\n\n"
+            + "1. e4 e5 2. Ke3 *\n\n";
+
+    private static File write(String suffix, String text) throws IOException {
+        File file = File.createTempFile("import", suffix);
+        file.deleteOnExit();
+
+        Writer writer = new OutputStreamWriter(new FileOutputStream(file),
+                StandardCharsets.UTF_8);
+        writer.write(text);
+        writer.close();
+
+        return file;
+    }
+
+    @Test
+    public void splittingDoesNotChangeTheResult() throws IOException {
+        StringBuilder pgn = new StringBuilder();
+        int mates = 0;
+        int illegal = 0;
+
+        for (int i = 0; i < 120; i++) {
+            if (i % 17 == 5) {
+                pgn.append(ILLEGAL);
+                ++illegal;
+            } else if (i % 3 == 0) {
+                pgn.append(MATE);
+                ++mates;
+            } else {
+                pgn.append(i % 3 == 1 ? DRAW : RESIGNED);
+            }
+        }
+
+        File archive = write(".pgn", pgn.toString());
+        File saved = write(".chess22", "e2 e4\ne7 e5\n");
+        File missing = new File(saved.getPath() + ".missing");
+        List<File> files = Arrays.asList(archive, saved, missing, archive);
+
+        ForkJoinPool one = new ForkJoinPool(1);
+        ForkJoinPool four = new ForkJoinPool(4);
+        BatchResult whole;
+        BatchResult split;
+
+        try {
+            whole = new ImportPipeline(one, Integer.MAX_VALUE).importFiles(files);
+            split = new ImportPipeline(four, 256).importFiles(files);
+        } finally {
+            one.shutdown();
+            four.shutdown();
+        }
+
+        assertEquals(242, whole.getGames());
+        assertEquals(2 * mates, whole.getCount(ReplayResult.Outcome.CHECKMATE));
+        assertEquals(2 * illegal + 1, whole.getCount(ReplayResult.Outcome.INVALID));
+        assertEquals(1, whole.getCount(ReplayResult.Outcome.UNFINISHED));
+
+        assertEquals(whole.getGames(), split.getGames());
+        assertEquals(whole.getPlies(), split.getPlies());
+
+        for (ReplayResult.Outcome outcome : ReplayResult.Outcome.values()) {
+            assertEquals(whole.getCount(outcome), split.getCount(outcome));
+        }
+
+        assertEquals(whole.getFailures().toString(), split.getFailures().toString());
+
+        List<ReplayResult> failures = split.getFailures();
+        ReplayResult first = failures.get(0);
+
+        assertEquals(5, first.getIndex());
+        assertEquals(archive.getPath() + " game 6", first.getName());
+        assertEquals("cannot play Ke3 at ply 3", first.getReason());
+
+        for (int i = 1; i < failures.size(); i++) {
+            assertTrue(failures.get(i - 1).getIndex() < failures.get(i).getIndex());
+        }
+
+        assertEquals(2 * illegal + 1, failures.size());
+        assertEquals(missing.getPath(), failures.get(illegal).getName());
+        assertEquals(121, failures.get(illegal).getIndex());
+        assertEquals(archive.getPath() + " game 6",
+                failures.get(illegal + 1).getName());
+        assertEquals(127, failures.get(illegal + 1).getIndex());
+    }
+
+    @Test
+    public void closeShutsDownOnlyAPoolItStarted() throws IOException {
+        File saved = write(".chess22", "e2 e4\ne7 e5\n");
+        ForkJoinPool given = new ForkJoinPool(2);
+
+        try {
+            ImportPipeline borrowing = new ImportPipeline(given, 256);
+            borrowing.close();
+
+            assertFalse(given.isShutdown());
+            assertEquals(1, new ImportPipeline(given, 256)
+                    .importFiles(Arrays.asList(saved)).getGames());
+        } finally {
+            given.shutdown();
+        }
+
+        ImportPipeline owning = new ImportPipeline(2);
+
+        try {
+            assertEquals(1, owning.importFiles(Arrays.asList(saved)).getGames());
+        } finally {
+            owning.close();
+        }
+    }
+}
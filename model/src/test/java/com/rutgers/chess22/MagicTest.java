@@ -0,0 +1,88 @@
+/**
+ * MagicTest.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package com.rutgers.chess22;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import model.chess_set.Bitboard;
+import model.chess_set.Board;
+import model.chess_set.Magic;
+import model.chess_set.PieceSet;
+import model.game.Position;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the magic sliding attack tables against the path-walking versions.
+ * MagicBenchmark times one against the other.
+ */
+public class MagicTest {
+
+    private static final int SAMPLES = 4096;
+
+    /**
+     * Occupancy masks of roughly the density seen in play
+     */
+    private static long[] randomOccupancies(long seed) {
+        Random random = new Random(seed);
+        long[] occ = new long[SAMPLES];
+
+        for (int i = 0; i < occ.length; i++) {
+            occ[i] = random.nextLong() & random.nextLong();
+        }
+
+        return occ;
+    }
+
+    @Test
+    public void tablesMatchWalking() {
+        long[] occ = randomOccupancies(213);
+
+        for (int sq = 0; sq < 64; sq++) {
+            assertEquals(Magic.walkRookAttacks(sq, 0L), Magic.rookAttacks(sq, 0L));
+            assertEquals(Magic.walkBishopAttacks(sq, 0L), Magic.bishopAttacks(sq, 0L));
+
+            for (long o : occ) {
+                assertEquals(Magic.walkRookAttacks(sq, o), Magic.rookAttacks(sq, o));
+                assertEquals(Magic.walkBishopAttacks(sq, o), Magic.bishopAttacks(sq, o));
+                assertEquals(Magic.rookAttacks(sq, o) | Magic.bishopAttacks(sq, o),
+                        Bitboard.queenAttacks(sq, o));
+            }
+        }
+    }
+
+    @Test
+    public void slidersStopAtBlockers() {
+        Board board = new Board();
+        PieceSet white = board.getWhiteSet();
+
+        // Every sliding piece is boxed in at the start
+        assertFalse(board.movePiece(white.getPieceByPosition(Position.of(0, 0)),
+                white, Position.of(0, 2), null));                   // a1 a3
+        assertFalse(board.movePiece(white.getPieceByPosition(Position.of(2, 0)),
+                white, Position.of(4, 2), null));                   // c1 e3
+        assertFalse(board.movePiece(white.getPieceByPosition(Position.of(3, 0)),
+                white, Position.of(3, 2), null));                   // d1 d3
+
+        assertTrue(board.movePiece(white.getPieceByPosition(Position.of(4, 1)),
+                white, Position.of(4, 3), null));                   // e2 e4
+        assertTrue(board.movePiece(board.getBlackSet().getPieceByPosition(
+                Position.of(0, 6)), board.getBlackSet(), Position.of(0, 5), null));
+
+        // ... until e2 opens the diagonals of the f1 bishop and d1 queen
+        assertFalse(board.movePiece(white.getPieceByPosition(Position.of(3, 0)),
+                white, Position.of(3, 2), null));                   // d1 d3
+        assertTrue(board.movePiece(white.getPieceByPosition(Position.of(3, 0)),
+                white, Position.of(7, 4), null));                   // d1 h5
+    }
+}
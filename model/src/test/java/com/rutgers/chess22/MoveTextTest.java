@@ -0,0 +1,91 @@
+/**
+ * MoveTextTest.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package com.rutgers.chess22;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import model.chess_set.Bitboard;
+import model.game.MoveText;
+import model.game.PackedMove;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that MoveText reads every form of move text Game accepts, from
+ * strings and from byte buffers alike, and rejects the rest.
+ */
+public class MoveTextTest {
+
+    @Test
+    public void movesAreRead() {
+        int parsed = MoveText.parse("e2 e4");
+
+        assertEquals(MoveText.MOVE, MoveText.command(parsed));
+        assertEquals(PackedMove.of(Bitboard.square(4, 1), Bitboard.square(4, 3)),
+                MoveText.move(parsed));
+        assertFalse(MoveText.resigns(parsed));
+
+        parsed = MoveText.parse("g7 h8 n");
+
+        assertEquals(MoveText.MOVE, MoveText.command(parsed));
+        assertEquals(Bitboard.KNIGHT, PackedMove.promotion(MoveText.move(parsed)));
+        assertEquals("g7 h8 N", PackedMove.toString(MoveText.move(parsed)));
+
+        parsed = MoveText.parse("e7 e5 draw?");
+
+        assertEquals(MoveText.DRAW_OFFER, MoveText.command(parsed));
+        assertEquals("e7 e5", PackedMove.toString(MoveText.move(parsed)));
+
+        parsed = MoveText.parse("  e4 d5\t\tresign\n");
+
+        assertEquals(MoveText.MOVE, MoveText.command(parsed));
+        assertTrue(MoveText.resigns(parsed));
+    }
+
+    @Test
+    public void commandsAreRead() {
+        assertEquals(MoveText.DRAW, MoveText.command(MoveText.parse("draw")));
+        assertEquals(MoveText.RESIGN, MoveText.command(MoveText.parse("resign")));
+        assertEquals(MoveText.UNDO, MoveText.command(MoveText.parse("undo")));
+        assertEquals(MoveText.BLANK, MoveText.command(MoveText.parse(" \t")));
+        assertFalse(MoveText.isMove(MoveText.parse("draw")));
+    }
+
+    @Test
+    public void malformedTextIsInvalid() {
+        String[] lines = { "e2e4", "e2 e9", "i2 e4", "E2 E4", "e2 e4 K",
+                "e2 e4 draw", "e2 e4 Q draw?", "e2 e4 resign resign", "e2 e45",
+                "draw?", "drawn", "save", "e2" };
+
+        for (String line : lines) {
+            assertEquals(line, MoveText.INVALID, MoveText.parse(line));
+        }
+    }
+
+    @Test
+    public void bytesAndCharsAgree() {
+        String text = "undo|e2 e4|a7 a8 Q|h2 h4 draw?|draw|b1 c3 resign|e2 e9";
+        byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+        int start = 0;
+
+        for (String line : text.split("\\|")) {
+            int parsed = MoveText.parse(bytes, start, line.length());
+
+            assertEquals(line, MoveText.parse(line), parsed);
+            assertEquals(line, MoveText.parse(text, start, start + line.length()),
+                    parsed);
+
+            start += line.length() + 1;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/**
+ * Moves.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package com.rutgers.chess22;
+
+import model.chess_set.Board;
+import model.chess_set.PieceSet;
+import model.game.MoveText;
+import model.game.PackedMove;
+import model.game.Position;
+
+/**
+ * Plays moves written as Game::readInput reads them ("e2 e4") on a Board,
+ * through Board.movePiece, for the tests.
+ */
+final class Moves {
+
+    private Moves() {
+    }
+
+    /**
+     * Tries a move for the color of the piece on its start square
+     *
+     * @param board the Board to play on
+     * @param move  the move, e.g. "e2 e4" (promotions are not supported;
+     *              see Board.makeMove)
+     *
+     * @return true if movePiece accepted the move, false otherwise
+     */
+    static boolean play(Board board, String move) {
+        int parsed = MoveText.parse(move);
+
+        if (!MoveText.isMove(parsed) || MoveText.resigns(parsed)
+                || PackedMove.promotion(MoveText.move(parsed)) != 0) {
+            throw new IllegalArgumentException(move);
+        }
+
+        Position from = Position.ofSquare(PackedMove.from(MoveText.move(parsed)));
+        Position to = Position.ofSquare(PackedMove.to(MoveText.move(parsed)));
+
+        PieceSet set = board.getWhiteSet().getPieceByPosition(from) != null
+                ? board.getWhiteSet() : board.getBlackSet();
+
+        return board.movePiece(set.getPieceByPosition(from), set, to, null);
+    }
+}
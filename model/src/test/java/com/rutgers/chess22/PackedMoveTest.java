@@ -0,0 +1,122 @@
+/**
+ * PackedMoveTest.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package com.rutgers.chess22;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import model.chess_set.Bitboard;
+import model.chess_set.Board;
+import model.game.Move;
+import model.game.MoveBuffer;
+import model.game.PackedMove;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the int move encoding, and its conversions to and from Move.
+ */
+public class PackedMoveTest {
+
+    /**
+     * Plays moves ("e2 e4", ...) on a Board, then encodes the last logged
+     * Move (with its kill entry, if any)
+     */
+    private static int playAndEncodeLast(String... moves) {
+        Board board = new Board();
+
+        for (String move : moves) {
+            assertTrue(move, Moves.play(board, move));
+        }
+
+        List<Move> log = board.getMoveList();
+        Move last = log.get(log.size() - 1);
+        Move kill = null;
+
+        if (last.getEndPosition() == null) {
+            kill = last;
+            last = log.get(log.size() - 2);
+        }
+
+        return PackedMove.fromMove(last, kill);
+    }
+
+    @Test
+    public void fieldsRoundTrip() {
+        int move = PackedMove.of(52, 61, Bitboard.PAWN, Bitboard.ROOK,
+                Bitboard.QUEEN, PackedMove.NORMAL);
+
+        assertEquals(52, PackedMove.from(move));
+        assertEquals(61, PackedMove.to(move));
+        assertEquals(Bitboard.PAWN, PackedMove.moved(move));
+        assertEquals(Bitboard.ROOK, PackedMove.captured(move));
+        assertEquals(Bitboard.QUEEN, PackedMove.promotion(move));
+        assertTrue(PackedMove.isCapture(move));
+        assertEquals("e7 f8 Q", PackedMove.toString(move));
+
+        int bare = PackedMove.of(52, 61, Bitboard.QUEEN, PackedMove.NORMAL);
+
+        assertEquals(Bitboard.NONE, PackedMove.moved(bare));
+        assertEquals(Bitboard.NONE, PackedMove.captured(bare));
+        assertTrue(PackedMove.sameMove(move, bare));
+        assertFalse(PackedMove.sameMove(move, PackedMove.of(52, 61)));
+    }
+
+    @Test
+    public void generatedMovesRecordPieces() {
+        Board board = new Board();
+        MoveBuffer moves = new MoveBuffer();
+        board.generateLegalMoves(moves);
+
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+
+            assertEquals(board.getBitboard().kindAt(PackedMove.from(move)),
+                    PackedMove.moved(move));
+            assertFalse(PackedMove.isCapture(move));
+        }
+    }
+
+    @Test
+    public void encodesLoggedMoves() {
+        assertEquals(PackedMove.of(12, 28, Bitboard.PAWN, Bitboard.NONE, 0,
+                PackedMove.DOUBLE_PUSH), playAndEncodeLast("e2 e4"));
+
+        assertEquals(PackedMove.of(28, 35, Bitboard.PAWN, Bitboard.PAWN, 0,
+                PackedMove.NORMAL), playAndEncodeLast("e2 e4", "d7 d5", "e4 d5"));
+
+        assertEquals(PackedMove.of(36, 43, Bitboard.PAWN, Bitboard.PAWN, 0,
+                PackedMove.EN_PASSANT),
+                playAndEncodeLast("e2 e4", "a7 a6", "e4 e5", "d7 d5", "e5 d6"));
+
+        assertEquals(PackedMove.of(6, 21, Bitboard.KNIGHT, Bitboard.NONE, 0,
+                PackedMove.NORMAL), playAndEncodeLast("g1 f3"));
+    }
+
+    @Test
+    public void decodesToMove() {
+        Board board = new Board();
+        Move move = board.toMove(PackedMove.of(6, 21));
+
+        assertTrue(move.getLastPiece().isWhite());
+        assertEquals(6, move.getStartPosition().getFile());
+        assertEquals(0, move.getStartPosition().getRank());
+        assertEquals(5, move.getEndPosition().getFile());
+        assertEquals(2, move.getEndPosition().getRank());
+        assertNull(move.getPromotedFrom());
+
+        assertEquals(PackedMove.of(6, 21, Bitboard.KNIGHT, Bitboard.NONE, 0,
+                PackedMove.NORMAL), PackedMove.fromMove(move, null));
+
+        assertNull(board.toMove(PackedMove.of(20, 28)));
+    }
+}
@@ -0,0 +1,140 @@
+/**
+ * PerftTest.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package com.rutgers.chess22;
+
+import org.junit.Test;
+
+import java.util.Map;
+
+import model.chess_set.Board;
+import model.chess_set.Fen;
+import model.chess_set.Perft;
+
+import static org.junit.Assert.*;
+
+/**
+ * Perft regression suite: leaf node counts for the standard test positions,
+ * as published on the Chess Programming Wiki ("Perft Results").
+ *
+ * Depths are kept low enough for the suite to run in a few seconds; run
+ * Perft.main with a greater depth for throughput figures.
+ */
+public class PerftTest {
+
+    public static final String KIWIPETE =
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+    public static final String POSITION_3 =
+            "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1";
+    public static final String POSITION_4 =
+            "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1";
+    public static final String POSITION_4_MIRRORED =
+            "r2q1rk1/pP1p2pp/Q4n2/bbp1p3/Np6/1B3NBn/pPPP1PPP/R3K2R b KQ - 0 1";
+    public static final String POSITION_5 =
+            "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8";
+    public static final String POSITION_6 =
+            "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10";
+
+    private static void assertPerft(String fen, long... expected) {
+        Perft perft = new Perft(fen);
+
+        for (int depth = 1; depth <= expected.length; depth++) {
+            assertEquals(fen + " at depth " + depth, expected[depth - 1],
+                    perft.count(depth));
+        }
+    }
+
+    @Test
+    public void startPosition() {
+        assertPerft(Fen.START_POSITION, 20, 400, 8902, 197281, 4865609);
+    }
+
+    @Test
+    public void startPositionFromBoard() {
+        assertEquals(197281, new Perft(new Board()).count(4));
+    }
+
+    @Test
+    public void kiwipete() {
+        assertPerft(KIWIPETE, 48, 2039, 97862, 4085603);
+    }
+
+    @Test
+    public void position3() {
+        assertPerft(POSITION_3, 14, 191, 2812, 43238, 674624);
+    }
+
+    @Test
+    public void position4() {
+        assertPerft(POSITION_4, 6, 264, 9467, 422333);
+        assertPerft(POSITION_4_MIRRORED, 6, 264, 9467, 422333);
+    }
+
+    @Test
+    public void position5() {
+        assertPerft(POSITION_5, 44, 1486, 62379, 2103487);
+    }
+
+    @Test
+    public void position6() {
+        assertPerft(POSITION_6, 46, 2079, 89890, 3894594);
+    }
+
+    /**
+     * The same counts, with every move made through Board::movePiece and
+     * every other origin and target refused by it
+     */
+    @Test
+    public void boardPathAgrees() {
+        String[] fens = { Fen.START_POSITION, KIWIPETE, POSITION_3, POSITION_4,
+                POSITION_4_MIRRORED, POSITION_5, POSITION_6 };
+
+        for (String fen : fens) {
+            Perft perft = new Perft(fen);
+
+            for (int depth = 1; depth <= 2; depth++) {
+                assertEquals(fen + " at depth " + depth, perft.count(depth),
+                        perft.countOnBoard(depth));
+            }
+        }
+
+        assertEquals(8902, new Perft(new Board()).countOnBoard(3));
+        assertEquals(2812, new Perft(POSITION_3).countOnBoard(3));
+    }
+
+    @Test
+    public void boardPathDivideSumsToCount() {
+        Map<String, Long> divide = new Perft(POSITION_5).divideOnBoard(2);
+
+        long total = 0;
+
+        for (long nodes : divide.values()) {
+            total += nodes;
+        }
+
+        assertEquals(44, divide.size());
+        assertEquals(1486, total);
+    }
+
+    @Test
+    public void divideSumsToCount() {
+        Perft perft = new Perft(KIWIPETE);
+        Map<String, Long> divide = perft.divide(3);
+
+        long total = 0;
+
+        for (long nodes : divide.values()) {
+            total += nodes;
+        }
+
+        assertEquals(48, divide.size());
+        assertEquals(97862, total);
+    }
+}
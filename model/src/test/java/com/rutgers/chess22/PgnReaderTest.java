@@ -0,0 +1,152 @@
+/**
+ * PgnReaderTest.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package com.rutgers.chess22;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import model.chess_set.Bitboard;
+import model.game.PackedMove;
+import model.game.PgnGame;
+import model.game.PgnReader;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that PgnReader resolves the main line of each game in an archive,
+ * keeps tags and skips comments and variations, reports moves it cannot
+ * play, and reads the same whatever its buffer size.
+ */
+public class PgnReaderTest {
+
+    private static final String ARCHIVE = ""
+            + "[Event \"Paris\"]\n"
+            + "[White \"Morphy, \\\"Paul\\\"\"]\n"
+            + "[Black \"Duke Karl / Count Isouard\"]\n"
+            + "[Result \"1-0\"]\n"
+            + "\n"
+            + "1. e4 e5 2. Nf3 d6 3. d4 Bg4 4. dxe5 {A comment (with parens)} Bxf3\n"
+            + "(4... dxe5 5. Qxd8+ (5. Nxe5) Kxd8) 5. Qxf3 $1 dxe5 6. Bc4 Nf6\n"
+            + "7. Qb3 Qe7 8. Nc3 c6 9. Bg5 b5 10. Nxb5 cxb5 11. Bxb5+ Nbd7\n"
+            + "12. O-O-O Rd8 13. Rxd7 Rxd7 14. Rd1 Qe6 15. Bxd7+ Nxd7\n"
+            + "16. Qb8+ Nxb8 17. Rd8# 1-0\n"
+            + "\n"
+            + "[Event \"Promotion\"]\n"
+            + "[SetUp \"1\"]\n"
+            + "[FEN \"8/P7/8/8/8/8/8/k6K w - - 0 1\"]\n"
+            + "\n"
+            + "1. a8=Q+ Kb2 2. Qb7+ *\n"
+            + "\n"
+            + "[Event \"Illegal\"]\n"
+            + "\n"
+            + "1. e4 e5 2. Ke3 Nc6 1-0\n"
+            + "\n"
+            + "1. d4 d5\n"
+            + "\n"
+            + "%an escape line, [Event \"not a tag\"]\n"
+            + "[Event \"Last\"]\n"
+            + "1.c4 ; a comment to the end of the line 1-0\n"
+            + "1...e5 1/2-1/2\n";
+
+    private static List<String> readAll(PgnReader reader) throws IOException {
+        List<String> games = new ArrayList<String>();
+        PgnGame game = new PgnGame();
+
+        while (reader.next(game)) {
+            games.add(game.getTag("Event") + " " + game.getPlies() + " "
+                    + game.getResult() + " " + game.getError() + "\n" + game);
+        }
+
+        reader.close();
+        return games;
+    }
+
+    private static PgnReader reader(String pgn, int bufferSize) {
+        return new PgnReader(Channels.newChannel(new ByteArrayInputStream(
+                pgn.getBytes(StandardCharsets.UTF_8))), bufferSize);
+    }
+
+    @Test
+    public void archiveIsRead() throws IOException {
+        PgnReader reader = reader(ARCHIVE, PgnReader.DEFAULT_BUFFER_SIZE);
+        PgnGame game = new PgnGame();
+
+        assertTrue(reader.next(game));
+        assertEquals("Paris", game.getTag("Event"));
+        assertEquals("Morphy, \"Paul\"", game.getTag("White"));
+        assertEquals(4, game.getTagCount());
+        assertEquals(33, game.getPlies());
+        assertEquals("1-0", game.getResult());
+        assertTrue(game.isValid());
+        assertEquals("e1 c1", PackedMove.toString(game.getMove(22)));
+        assertEquals(PackedMove.CASTLE, PackedMove.flag(game.getMove(22)));
+        assertEquals("b8 d7", PackedMove.toString(game.getMove(21)));
+        assertEquals("d1 d8", PackedMove.toString(game.getMove(32)));
+
+        assertTrue(reader.next(game));
+        assertEquals(3, game.getPlies());
+        assertEquals("*", game.getResult());
+        assertEquals("a7 a8 Q", PackedMove.toString(game.getMove(0)));
+        assertEquals(Bitboard.KING, PackedMove.moved(game.getMove(1)));
+
+        assertTrue(reader.next(game));
+        assertFalse(game.isValid());
+        assertEquals("cannot play Ke3 at ply 3", game.getError());
+        assertEquals(2, game.getPlies());
+        assertEquals("1-0", game.getResult());
+
+        assertTrue(reader.next(game));
+        assertEquals(0, game.getTagCount());
+        assertEquals(2, game.getPlies());
+        assertNull(game.getResult());
+
+        assertTrue(reader.next(game));
+        assertEquals("Last", game.getTag("Event"));
+        assertEquals(2, game.getPlies());
+        assertEquals("1/2-1/2", game.getResult());
+
+        assertFalse(reader.next(game));
+        reader.close();
+    }
+
+    @Test
+    public void bufferSizeDoesNotMatter() throws IOException {
+        List<String> expected = readAll(reader(ARCHIVE, PgnReader.DEFAULT_BUFFER_SIZE));
+
+        for (int size = 1; size <= 17; size += 4) {
+            assertEquals(expected, readAll(reader(ARCHIVE, size)));
+        }
+    }
+
+    @Test
+    public void longGamesAreRead() throws IOException {
+        StringBuilder pgn = new StringBuilder();
+
+        for (int i = 0; i < 300; i++) {
+            pgn.append(2 * i + 1).append(". Nf3 Nf6 ").append(2 * i + 2)
+                    .append(". Ng1 Ng8 ");
+        }
+
+        pgn.append("1/2-1/2\n\n1. e4 *\n");
+
+        List<String> games = readAll(reader(pgn.toString(), 4096));
+
+        assertEquals(2, games.size());
+        assertTrue(games.get(0), games.get(0).startsWith("null 1200 1/2-1/2 null"));
+        assertTrue(games.get(1), games.get(1).startsWith("null 1 * null"));
+    }
+}
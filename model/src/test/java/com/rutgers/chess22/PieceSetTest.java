@@ -0,0 +1,96 @@
+/**
+ * PieceSetTest.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package com.rutgers.chess22;
+
+import org.junit.Test;
+
+import model.chess_set.Bitboard;
+import model.chess_set.Board;
+import model.chess_set.Piece;
+import model.chess_set.PieceSet;
+import model.game.Position;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that the square index of each PieceSet follows the Board through
+ * moves, captures and undo.
+ */
+public class PieceSetTest {
+
+    /**
+     * The kind masks agree with the Bitboard, and each indexed Piece is of
+     * the kind its square holds
+     */
+    private static void assertIndexMatchesBoard(Board board) {
+        Bitboard bb = board.getBitboard();
+        PieceSet[] sets = { board.getWhiteSet(), board.getBlackSet() };
+
+        for (int color = Bitboard.WHITE; color <= Bitboard.BLACK; color++) {
+            for (int kind = Bitboard.PAWN; kind <= Bitboard.KING; kind++) {
+                assertEquals(bb.getPieces(color, kind), sets[color].getSquares(kind));
+            }
+
+            for (int sq = 0; sq < 64; sq++) {
+                Piece piece = sets[color].getPieceBySquare(sq);
+
+                if (piece != null) {
+                    assertEquals(bb.kindAt(sq), Bitboard.kindOf(piece));
+                } else {
+                    assertNotEquals(color, bb.colorAt(sq));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void startPosition() {
+        Board board = new Board();
+        PieceSet white = board.getWhiteSet();
+
+        assertIndexMatchesBoard(board);
+        assertEquals(8, white.getCount(Bitboard.PAWN));
+        assertSame(white.getPieceBySquare(4), white.getKing());
+        assertSame(board.getBlackSet().getPieceBySquare(60),
+                board.getBlackSet().getKing());
+        assertNull(white.getPieceByPosition(Position.of(4, 3)));
+        assertNull(white.getPieceByPosition(Position.OFF_BOARD));
+    }
+
+    @Test
+    public void followsCapturesAndUndo() {
+        Board board = new Board();
+        PieceSet white = board.getWhiteSet();
+        PieceSet black = board.getBlackSet();
+
+        assertTrue(Moves.play(board, "e2 e4"));
+        assertTrue(Moves.play(board, "d7 d5"));
+        assertTrue(Moves.play(board, "e4 d5"));
+
+        assertIndexMatchesBoard(board);
+        assertEquals(7, black.getCount(Bitboard.PAWN));
+        assertTrue(white.getPieceByPosition(Position.of(3, 4)).isPawn());
+        assertNull(black.getPieceByPosition(Position.of(3, 4)));
+
+        board.undoMovePiece();
+        board.undoMovePiece();
+        board.undoMovePiece();
+
+        assertIndexMatchesBoard(board);
+        assertSame(white, board.getWhiteSet());
+        assertEquals(8, black.getCount(Bitboard.PAWN));
+
+        assertTrue(Moves.play(board, "d2 d4"));
+
+        assertIndexMatchesBoard(board);
+        assertTrue(white.getPieceByPosition(Position.of(4, 1)).isPawn());
+    }
+}
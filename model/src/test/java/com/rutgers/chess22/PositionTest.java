@@ -0,0 +1,53 @@
+/**
+ * PositionTest.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package com.rutgers.chess22;
+
+import org.junit.Test;
+
+import model.game.Position;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that Positions are interned, and that off-board coordinates map to
+ * the sentinel.
+ */
+public class PositionTest {
+
+    @Test
+    public void positionsAreInterned() {
+        for (int rank = 0; rank < 8; rank++) {
+            for (int file = 0; file < 8; file++) {
+                Position pos = Position.of(file, rank);
+
+                assertSame(pos, Position.of(file, rank));
+                assertSame(pos, Position.ofSquare(rank * 8 + file));
+                assertEquals(file, pos.getFile());
+                assertEquals(rank, pos.getRank());
+                assertEquals(rank * 8 + file, pos.getSquare());
+            }
+        }
+
+        assertEquals("e4", Position.of(4, 3).toString());
+    }
+
+    @Test
+    public void offBoardIsSentinel() {
+        assertSame(Position.OFF_BOARD, Position.of(-1, 0));
+        assertSame(Position.OFF_BOARD, Position.of(8, 3));
+        assertSame(Position.OFF_BOARD, Position.of(2, 8));
+        assertSame(Position.OFF_BOARD, Position.ofSquare(64));
+
+        assertFalse(Position.OFF_BOARD.isOnBoard());
+        assertEquals(-1, Position.OFF_BOARD.getSquare());
+        assertNotEquals(Position.of(0, 0), Position.OFF_BOARD);
+    }
+}
@@ -0,0 +1,167 @@
+/**
+ * SanTest.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package com.rutgers.chess22;
+
+import org.junit.Test;
+
+import model.chess_set.Bitboard;
+import model.chess_set.Board;
+import model.chess_set.Fen;
+import model.chess_set.MoveGenerator;
+import model.game.MoveBuffer;
+import model.game.MoveText;
+import model.game.PackedMove;
+import model.game.San;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that San reads moves of every form against the legal moves of a
+ * position, rejects moves that are illegal or ambiguous, and writes every
+ * legal move in a form it reads back.
+ */
+public class SanTest {
+
+    private static Bitboard position(String fen) {
+        Bitboard bb = new Bitboard();
+        Fen.load(fen, bb);
+        return bb;
+    }
+
+    private static String decode(String fen, String san) {
+        int move = new San().decode(position(fen), san);
+
+        return move == PackedMove.NULL_MOVE ? null : PackedMove.toString(move);
+    }
+
+    @Test
+    public void movesAreDecoded() {
+        String start = Fen.START_POSITION;
+
+        assertEquals("e2 e4", decode(start, "e4"));
+        assertEquals("g1 f3", decode(start, "Nf3"));
+        assertEquals("g1 f3", decode(start, "Ngf3!?"));
+        assertEquals("g1 f3", decode(start, "Ng1-f3"));
+        assertNull(decode(start, "e5"));
+        assertNull(decode(start, "Nd2"));
+        assertNull(decode(start, "Xe4"));
+        assertNull(decode(start, ""));
+    }
+
+    @Test
+    public void disambiguationIsRequired() {
+        String fen = "4k3/8/8/8/8/8/8/R4RK1 w - - 0 1";
+
+        assertNull(decode(fen, "Rd1"));
+        assertEquals("a1 d1", decode(fen, "Rad1"));
+        assertEquals("f1 d1", decode(fen, "Rfd1"));
+
+        fen = "R7/8/8/7k/8/8/8/R3K3 w - - 0 1";
+
+        assertNull(decode(fen, "Ra4"));
+        assertEquals("a1 a4", decode(fen, "R1a4"));
+        assertEquals("a8 a4", decode(fen, "R8xa4"));
+        assertEquals("a1 b1", decode(fen, "Rb1"));
+    }
+
+    @Test
+    public void castlingPromotionAndEnPassantAreDecoded() {
+        String fen = "r3k2r/1P6/8/3pP3/8/8/8/R3K2R w KQkq d6 0 1";
+
+        assertEquals("e1 g1", decode(fen, "O-O"));
+        assertEquals("e1 c1", decode(fen, "0-0-0+"));
+        assertEquals("e5 d6", decode(fen, "exd6"));
+        assertEquals("b7 b8 N", decode(fen, "b8=N"));
+        assertEquals("b7 a8 Q", decode(fen, "bxa8Q#"));
+        assertNull(decode(fen, "b8"));
+        assertNull(decode(fen, "b8=K"));
+    }
+
+    private static String encode(String fen, String coordinates) {
+        return new San().encode(position(fen),
+                MoveText.move(MoveText.parse(coordinates)));
+    }
+
+    @Test
+    public void movesAreEncoded() {
+        String start = Fen.START_POSITION;
+
+        assertEquals("e4", encode(start, "e2 e4"));
+        assertEquals("Nf3", encode(start, "g1 f3"));
+        assertNull(encode(start, "e2 e5"));
+
+        String fen = "r3k2r/1P6/8/3pP3/8/8/8/R3K2R w KQkq d6 0 1";
+
+        assertEquals("O-O", encode(fen, "e1 g1"));
+        assertEquals("O-O-O", encode(fen, "e1 c1"));
+        assertEquals("exd6", encode(fen, "e5 d6"));
+        assertEquals("b8=N", encode(fen, "b7 b8 N"));
+        assertEquals("bxa8=Q+", encode(fen, "b7 a8 Q"));
+        assertEquals("Rxa8+", encode(fen, "a1 a8"));
+    }
+
+    @Test
+    public void disambiguationIsMinimal() {
+        assertEquals("Rad1", encode("4k3/8/8/8/8/8/8/R4RK1 w - - 0 1", "a1 d1"));
+        assertEquals("R8a4", encode("R7/8/8/7k/8/8/8/R3K3 w - - 0 1", "a8 a4"));
+        assertEquals("Rb1", encode("R7/8/8/7k/8/8/8/R3K3 w - - 0 1", "a1 b1"));
+
+        // Queens on a1, a3 and c1 all reach b2: neither file nor rank alone
+        // tells the one on a1 apart
+        String fen = "8/7k/8/8/8/Q7/8/Q1Q4K w - - 0 1";
+
+        assertEquals("Qa1b2", encode(fen, "a1 b2"));
+        assertEquals("Q3b2", encode(fen, "a3 b2"));
+        assertEquals("Qcb2", encode(fen, "c1 b2"));
+    }
+
+    @Test
+    public void checkAndMateAreMarked() {
+        String fen = "rnbqkbnr/pppp1ppp/8/4p3/6P1/5P2/PPPPP2P/RNBQKBNR b KQkq g3 0 2";
+
+        assertEquals("Qh4#", encode(fen, "d8 h4"));
+        assertEquals("Bb4", encode(fen, "f8 b4"));
+
+        Board board = new Board(fen);
+        San san = new San();
+
+        assertEquals("Qh4#", san.encode(board, san.decode(board, "Qh4")));
+    }
+
+    @Test
+    public void everyLegalMoveRoundTrips() {
+        String[] fens = {
+            Fen.START_POSITION,
+            PerftTest.KIWIPETE,
+            "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+            "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8",
+            "8/7k/8/8/8/Q7/8/Q1Q4K w - - 0 1",
+        };
+        San san = new San();
+        MoveBuffer moves = new MoveBuffer();
+
+        for (String fen : fens) {
+            Bitboard bb = position(fen);
+            String before = Fen.toString(bb);
+
+            MoveGenerator.generateLegalMoves(bb, moves);
+
+            for (int m = 0; m < moves.size(); m++) {
+                String text = san.encode(bb, moves.get(m));
+
+                assertNotNull(text);
+                assertEquals(text, moves.get(m), san.decode(bb, text));
+            }
+
+            assertEquals(before, Fen.toString(bb));
+        }
+    }
+}
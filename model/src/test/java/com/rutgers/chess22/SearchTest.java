@@ -0,0 +1,153 @@
+/**
+ * SearchTest.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package com.rutgers.chess22;
+
+import org.junit.Test;
+
+import model.chess_set.Bitboard;
+import model.chess_set.Fen;
+import model.chess_set.MoveGenerator;
+import model.engine.Evaluator;
+import model.engine.ParallelSearch;
+import model.engine.Search;
+import model.engine.SearchResult;
+import model.engine.TranspositionTable;
+import model.game.Game;
+import model.game.MoveBuffer;
+import model.game.PackedMove;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that the alpha-beta search finds forced mates and material, stays
+ * within its budgets and only ever returns legal moves.
+ */
+public class SearchTest {
+
+    private static SearchResult searchToDepth(String fen, int depth) {
+        Search search = new Search(fen);
+        search.setMaxDepth(depth);
+        return search.search();
+    }
+
+    @Test
+    public void findsMateInOne() {
+        // Back-rank mate: Ra1-a8#
+        SearchResult result = searchToDepth("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1", 4);
+
+        assertEquals("a1 a8", PackedMove.toString(result.getBestMove()));
+        assertTrue(result.isMate());
+        assertEquals(1, result.getMateIn());
+    }
+
+    @Test
+    public void findsMateInTwo() {
+        // Rook roller: Rb7, then Ra8#
+        SearchResult result = searchToDepth("7k/8/8/8/8/8/R7/1R4K1 w - - 0 1", 4);
+
+        assertTrue(result.toString(), result.isMate());
+        assertEquals(2, result.getMateIn());
+        assertEquals(3, result.getPrincipalVariation().length);
+    }
+
+    @Test
+    public void winsHangingQueen() {
+        SearchResult result = searchToDepth(
+                "rnb1kbnr/pppp1ppp/4p3/8/3q4/5N2/PPPPPPPP/RNBQKB1R w KQkq - 0 1", 3);
+
+        assertEquals("f3 d4", PackedMove.toString(result.getBestMove()));
+        assertTrue(result.getScore() > Evaluator.VALUE[Bitboard.ROOK]);
+    }
+
+    @Test
+    public void reportsCheckmateAndStalemate() {
+        SearchResult mated = searchToDepth(
+                "rnb1kbnr/pppp1ppp/8/4p3/6Pq/5P2/PPPPP2P/RNBQKBNR w KQkq - 1 3", 3);
+        assertEquals(PackedMove.NULL_MOVE, mated.getBestMove());
+        assertEquals(-Search.MATE, mated.getScore());
+
+        SearchResult stalemate = searchToDepth("7k/5Q2/6K1/8/8/8/8/8 b - - 0 1", 3);
+        assertEquals(PackedMove.NULL_MOVE, stalemate.getBestMove());
+        assertEquals(0, stalemate.getScore());
+    }
+
+    @Test
+    public void respectsNodeBudget() {
+        Search search = new Search(PerftTest.KIWIPETE);
+        search.setMaxNodes(20000);
+
+        SearchResult result = search.search();
+
+        assertTrue(result.getDepth() >= 1);
+        assertTrue(result.getNodes() < 40000);
+        assertTrue(result.getNodesPerSecond() > 0);
+        assertEquals(result.getBestMove(), result.getPrincipalVariation()[0]);
+    }
+
+    @Test
+    public void principalVariationIsLegal() {
+        Bitboard bb = new Bitboard();
+        Fen.load(PerftTest.POSITION_4, bb);
+
+        Search search = new Search(bb);
+        search.setMaxDepth(4);
+
+        MoveBuffer moves = new MoveBuffer();
+
+        for (int move : search.search().getPrincipalVariation()) {
+            MoveGenerator.generateLegalMoves(bb, moves);
+            assertTrue(PackedMove.toString(move), moves.contains(move));
+            bb.makeMove(move);
+        }
+    }
+
+    @Test
+    public void parallelSearchFindsMate() {
+        Bitboard bb = new Bitboard();
+        Fen.load("7k/8/8/8/8/8/R7/1R4K1 w - - 0 1", bb);
+
+        ParallelSearch search = new ParallelSearch(bb, new TranspositionTable(1), 3);
+        search.setMaxDepth(4);
+
+        SearchResult result = search.search();
+
+        assertTrue(result.toString(), result.isMate());
+        assertEquals(2, result.getMateIn());
+    }
+
+    @Test
+    public void parallelSearchStopsWithMainThread() {
+        Bitboard bb = new Bitboard();
+        Fen.load(PerftTest.KIWIPETE, bb);
+
+        ParallelSearch search = new ParallelSearch(bb, new TranspositionTable(1), 4);
+        search.setMaxMillis(200);
+
+        long start = System.nanoTime();
+        SearchResult result = search.search();
+        long elapsedMillis = (System.nanoTime() - start) / 1000000;
+
+        assertNotEquals(PackedMove.NULL_MOVE, result.getBestMove());
+        assertTrue(result.getNodes() > 0);
+        assertTrue("took " + elapsedMillis + " ms", elapsedMillis < 1000);
+    }
+
+    @Test
+    public void gameMoveIsPlayable() {
+        Game game = new Game();
+        SearchResult result = game.searchBestMove(100);
+
+        game.readInput(PackedMove.toString(result.getBestMove()));
+
+        assertTrue(game.isValidMoveInput());
+        assertFalse(game.isWhitesMove());
+    }
+}
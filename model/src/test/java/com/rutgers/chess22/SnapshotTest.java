@@ -0,0 +1,107 @@
+/**
+ * SnapshotTest.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package com.rutgers.chess22;
+
+import org.junit.Test;
+
+import model.chess_set.Bitboard;
+import model.chess_set.Board;
+import model.chess_set.Fen;
+import model.chess_set.PieceSet;
+import model.chess_set.Snapshot;
+import model.chess_set.Zobrist;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that Snapshots copy positions exactly, stay unchanged while their
+ * Board moves on, and set Boards up again -- promoted pieces included.
+ */
+public class SnapshotTest {
+
+    private static Snapshot fromFen(String fen) {
+        Bitboard bb = new Bitboard();
+        Fen.load(fen, bb);
+        return Snapshot.of(bb);
+    }
+
+    @Test
+    public void boardRoundTrip() {
+        Board board = new Board();
+
+        for (String move : new String[] { "e2 e4", "d7 d5", "e4 e5", "f7 f5" }) {
+            assertTrue(move, Moves.play(board, move));
+        }
+
+        Snapshot snapshot = board.snapshot();
+        Board copy = new Board(snapshot);
+
+        assertEquals(board.toString(), copy.toString());
+        assertEquals(board.getHash(), copy.getHash());
+        assertEquals(snapshot, copy.snapshot());
+        assertEquals(Bitboard.BLACK ^ 1, snapshot.getSideToMove());
+
+        // The en passant capture is still available on the copy
+        assertTrue(Moves.play(copy, "e5 f6"));
+        assertEquals(Zobrist.compute(copy.getBitboard()), copy.getHash());
+    }
+
+    @Test
+    public void snapshotsDoNotChange() {
+        Board board = new Board();
+        Snapshot start = board.snapshot();
+
+        assertTrue(Moves.play(board, "g1 f3"));
+
+        assertEquals(new Board().getHash(), start.getHash());
+        assertEquals(Bitboard.code(Bitboard.WHITE, Bitboard.KNIGHT), start.pieceAt(6));
+        assertEquals(Bitboard.NONE, start.pieceAt(21));
+        assertNotEquals(start, board.snapshot());
+    }
+
+    @Test
+    public void promotedPiecesTakePawnPlaces() {
+        Snapshot snapshot = fromFen("4k3/8/8/8/8/2N5/1P4QQ/NN2K3 w - - 0 40");
+        Board board = new Board(snapshot);
+        PieceSet white = board.getWhiteSet();
+
+        assertEquals(snapshot, board.snapshot());
+        assertEquals(3, white.getCount(Bitboard.KNIGHT));
+        assertEquals(2, white.getCount(Bitboard.QUEEN));
+        assertEquals(1, board.getBlackSet().getCount(Bitboard.KING));
+
+        assertTrue(Moves.play(board, "b2 b4"));
+        assertTrue(Moves.play(board, "e8 d7"));
+        assertTrue(Moves.play(board, "h2 h7"));
+        assertEquals(Zobrist.compute(board.getBitboard()), board.getHash());
+
+        board.undoMovePiece();
+        board.undoMovePiece();
+        board.undoMovePiece();
+
+        assertEquals(snapshot, board.snapshot());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsPositionsWithoutKing() {
+        new Board(fromFen("8/8/8/8/8/8/8/4K3 w - - 0 1"));
+    }
+
+    @Test
+    public void copiesToBitboard() {
+        Snapshot snapshot = fromFen(PerftTest.KIWIPETE);
+        Bitboard bb = snapshot.toBitboard();
+
+        assertEquals(snapshot.getHash(), bb.getHash());
+        assertEquals(snapshot, Snapshot.of(bb));
+        assertEquals(bb.getOccupied(), snapshot.getOccupied());
+    }
+}
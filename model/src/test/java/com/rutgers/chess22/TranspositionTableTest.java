@@ -0,0 +1,119 @@
+/**
+ * TranspositionTableTest.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package com.rutgers.chess22;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import model.engine.Search;
+import model.engine.TranspositionTable;
+import model.game.PackedMove;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that transposition table entries round-trip, that entries for other
+ * positions read as misses, and that entries torn by racing threads are
+ * never returned.
+ */
+public class TranspositionTableTest {
+
+    @Test
+    public void storedEntriesRoundTrip() {
+        TranspositionTable table = new TranspositionTable(1);
+        int move = PackedMove.of(12, 28, 0, PackedMove.DOUBLE_PUSH);
+
+        table.store(0x1234567890ABCDEFL, move, -Search.MATE + 3, 9,
+                TranspositionTable.LOWER);
+
+        long data = table.probe(0x1234567890ABCDEFL);
+
+        assertNotEquals(TranspositionTable.MISS, data);
+        assertEquals(move, TranspositionTable.move(data));
+        assertEquals(-Search.MATE + 3, TranspositionTable.score(data));
+        assertEquals(9, TranspositionTable.depth(data));
+        assertEquals(TranspositionTable.LOWER, TranspositionTable.bound(data));
+    }
+
+    @Test
+    public void sizeIsAPowerOfTwo() {
+        assertEquals(65536, new TranspositionTable(1).capacity());
+        assertEquals(65536 * 2, new TranspositionTable(3).capacity());
+    }
+
+    @Test
+    public void otherPositionsMiss() {
+        TranspositionTable table = new TranspositionTable(1);
+        long hash = 0x0F0F0F0F0F0F0F0FL;
+        long sameSlot = hash ^ (1L << 40);
+
+        table.store(hash, PackedMove.of(1, 18), 25, 4, TranspositionTable.EXACT);
+
+        assertEquals(TranspositionTable.MISS, table.probe(sameSlot));
+
+        // A shallower entry does not replace a deeper one of the same search
+        table.store(sameSlot, PackedMove.of(6, 21), 0, 2, TranspositionTable.EXACT);
+        assertNotEquals(TranspositionTable.MISS, table.probe(hash));
+
+        // ...but does replace one left by an earlier search
+        table.newSearch();
+        table.store(sameSlot, PackedMove.of(6, 21), 0, 2, TranspositionTable.EXACT);
+        assertEquals(TranspositionTable.MISS, table.probe(hash));
+        assertNotEquals(TranspositionTable.MISS, table.probe(sameSlot));
+    }
+
+    @Test
+    public void racingStoresNeverReturnForeignData() throws InterruptedException {
+        final TranspositionTable table = new TranspositionTable(1);
+        final long slotMask = table.capacity() - 1;
+        final AtomicInteger foreign = new AtomicInteger();
+
+        Thread[] threads = new Thread[4];
+
+        for (int t = 0; t < threads.length; t++) {
+            final int id = t;
+
+            threads[t] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (long i = 0; i < 200000; i++) {
+                        // Every thread fights over the same few slots; the
+                        // score of each entry identifies its hash
+                        long hash = ((i * 0x9E3779B97F4A7C15L) & ~slotMask)
+                                | (i & 7);
+                        int score = (int) (hash >>> 48) & 0x3FFF;
+
+                        table.store(hash, id + 1, score, 1,
+                                TranspositionTable.EXACT);
+
+                        long data = table.probe(hash);
+
+                        if (data != TranspositionTable.MISS
+                                && TranspositionTable.score(data) != score) {
+                            foreign.incrementAndGet();
+                        }
+                    }
+                }
+            });
+        }
+
+        for (Thread thread : threads) {
+            thread.start();
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(0, foreign.get());
+    }
+}
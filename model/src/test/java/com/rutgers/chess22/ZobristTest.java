@@ -0,0 +1,99 @@
+/**
+ * ZobristTest.java
+ *
+ * Copyright (c) 2019 Gemuele Aludino, Patrick Nogaj
+ * All rights reserved.
+ *
+ * Rutgers University: School of Arts and Sciences
+ * 01:198:213 Software Methodology, Spring 2019
+ * Professor Seshadri Venugopal
+ */
+package com.rutgers.chess22;
+
+import org.junit.Test;
+
+import model.chess_set.Bitboard;
+import model.chess_set.Board;
+import model.chess_set.Fen;
+import model.chess_set.MoveGenerator;
+import model.chess_set.PieceSet;
+import model.chess_set.Zobrist;
+import model.game.MoveBuffer;
+import model.game.Position;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that the incrementally updated Zobrist hash always matches a hash
+ * computed from scratch.
+ */
+public class ZobristTest {
+
+    private static void play(Board board, PieceSet set, int file, int rank,
+                             int newFile, int newRank) {
+        assertTrue(board.movePiece(
+                set.getPieceByPosition(Position.of(file, rank)), set,
+                Position.of(newFile, newRank), null));
+        assertEquals(Zobrist.compute(board.getBitboard()), board.getHash());
+    }
+
+    private static void walk(Bitboard bb, int depth) {
+        assertEquals(Zobrist.compute(bb), bb.getHash());
+
+        if (depth == 0) {
+            return;
+        }
+
+        MoveBuffer moves = new MoveBuffer();
+        MoveGenerator.generateLegalMoves(bb, moves);
+
+        for (int i = 0; i < moves.size(); i++) {
+            long before = bb.getHash();
+
+            bb.makeMove(moves.get(i));
+            walk(bb, depth - 1);
+            bb.unmakeMove(moves.get(i));
+
+            assertEquals(before, bb.getHash());
+        }
+    }
+
+    @Test
+    public void makeUnmakeMatchesRecomputedHash() {
+        Bitboard bb = new Bitboard();
+        Fen.load(PerftTest.KIWIPETE, bb);
+
+        walk(bb, 3);
+    }
+
+    @Test
+    public void boardMovesAndUndoMatchRecomputedHash() {
+        Board board = new Board();
+        long start = board.getHash();
+
+        play(board, board.getWhiteSet(), 4, 1, 4, 3);     // e2 e4
+        play(board, board.getBlackSet(), 4, 6, 4, 4);     // e7 e5
+
+        board.undoMovePiece();
+        assertEquals(Zobrist.compute(board.getBitboard()), board.getHash());
+
+        board.undoMovePiece();
+        assertEquals(start, board.getHash());
+    }
+
+    @Test
+    public void transpositionsHashAlike() {
+        Board first = new Board();
+        play(first, first.getWhiteSet(), 6, 0, 5, 2);     // g1 f3
+        play(first, first.getBlackSet(), 1, 7, 2, 5);     // b8 c6
+        play(first, first.getWhiteSet(), 1, 0, 2, 2);     // b1 c3
+
+        Board second = new Board();
+        play(second, second.getWhiteSet(), 1, 0, 2, 2);   // b1 c3
+        play(second, second.getBlackSet(), 1, 7, 2, 5);   // b8 c6
+        play(second, second.getWhiteSet(), 6, 0, 5, 2);   // g1 f3
+
+        assertEquals(first.getHash(), second.getHash());
+        assertNotEquals(new Board().getHash(), first.getHash());
+    }
+}